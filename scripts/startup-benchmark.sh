@@ -0,0 +1,59 @@
+#!/usr/bin/env bash
+# Compares startup time and memory of the container variants:
+#   jar      - Dockerfile, plain fat jar
+#   aot      - Dockerfile.fast-start image, AOT only (CDS archive ignored)
+#   aot-cds  - Dockerfile.fast-start image, AOT plus CDS archive
+#
+# For each run it records the "Started ... in N seconds" time reported by Spring,
+# the wall time until /actuator/health/liveness answers UP, and the resident set
+# size (VmRSS) and its peak (VmHWM) of the JVM once it is live.
+#
+# Usage: scripts/startup-benchmark.sh [runs]   (requires docker and curl)
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT="${PORT:-18083}"
+APP_PORT=8083
+cd "$(dirname "$0")/.."
+
+./mvnw -q -B -DskipTests package
+docker build -q -t auction-service:jar -f Dockerfile . > /dev/null
+./mvnw -q -B -Pfast-start -DskipTests package
+docker build -q -t auction-service:fast-start -f Dockerfile.fast-start . > /dev/null
+
+run_variant() {
+    local name="$1"; shift
+    local total_started=0 total_live=0 total_rss=0 total_hwm=0
+    for ((i = 1; i <= RUNS; i++)); do
+        local begin container started live rss hwm
+        begin=$(date +%s%N)
+        container=$(docker run -d -p "${PORT}:${APP_PORT}" "$@")
+        until curl -fs "http://localhost:${PORT}/actuator/health/liveness" > /dev/null 2>&1; do
+            if [ "$(docker inspect -f '{{.State.Running}}' "$container")" != "true" ]; then
+                docker logs "$container" >&2
+                echo "${name}: container exited before becoming live" >&2
+                exit 1
+            fi
+            sleep 0.05
+        done
+        live=$(( ($(date +%s%N) - begin) / 1000000 ))
+        started=$(docker logs "$container" 2>&1 | sed -n 's/.*Started .* in \([0-9.]*\) seconds.*/\1/p' | head -1)
+        rss=$(docker exec "$container" sh -c "grep VmRSS /proc/1/status" | awk '{print $2}')
+        hwm=$(docker exec "$container" sh -c "grep VmHWM /proc/1/status" | awk '{print $2}')
+        docker rm -f "$container" > /dev/null
+
+        total_started=$(echo "$total_started + $started" | bc)
+        total_live=$((total_live + live))
+        total_rss=$((total_rss + rss))
+        total_hwm=$((total_hwm + hwm))
+    done
+    printf '%-8s started=%6.2fs live=%6dms rss=%6dMB peak-rss=%6dMB\n' "$name" \
+        "$(echo "scale=2; $total_started / $RUNS" | bc)" \
+        $((total_live / RUNS)) $((total_rss / RUNS / 1024)) $((total_hwm / RUNS / 1024))
+}
+
+echo "Averages over ${RUNS} runs"
+run_variant jar auction-service:jar
+run_variant aot --entrypoint java auction-service:fast-start \
+    -Dspring.aot.enabled=true -Dspring.cloud.refresh.enabled=false -jar auction-service.jar
+run_variant aot-cds auction-service:fast-start
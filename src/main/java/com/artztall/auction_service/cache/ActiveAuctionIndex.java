@@ -0,0 +1,188 @@
+package com.artztall.auction_service.cache;
+
+import com.artztall.auction_service.model.Auction;
+import com.artztall.auction_service.model.AuctionListing;
+import com.artztall.auction_service.model.AuctionSort;
+import com.artztall.auction_service.model.AuctionStatus;
+import com.artztall.auction_service.repository.AuctionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Active auctions ordered by end time and by current price, for browsing
+ * queries that would otherwise mean loading every active auction.
+ * <p>
+ * Kept current from {@link AuctionCache} changes, which cover local writes
+ * and, while the change stream runs, writes by other replicas. A periodic
+ * rebuild from Mongo catches anything missed, such as auctions evicted from
+ * the cache in an unknown state. Only {@link AuctionListing}s are held, and
+ * the rebuild reads them projected, so bids never enter the index. Each
+ * skip-list key is checked against the auction's current entry when read, so
+ * a query racing an update never returns an auction twice or at a price it
+ * no longer has.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ActiveAuctionIndex implements AuctionChangeSubscriber {
+    private static final Comparator<EndKey> BY_END = Comparator.comparing(EndKey::endTime).thenComparing(EndKey::id);
+    private static final Comparator<PriceKey> BY_PRICE = Comparator.comparingDouble(PriceKey::price).thenComparing(PriceKey::id);
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<EndKey> byEndTime = new ConcurrentSkipListSet<>(BY_END);
+    private final ConcurrentSkipListSet<PriceKey> byPrice = new ConcurrentSkipListSet<>(BY_PRICE);
+
+    private final AuctionRepository auctionRepository;
+    private final Clock clock;
+
+    /**
+     * Started auctions ending between {@code from} and {@code to}, soonest
+     * first.
+     */
+    public List<AuctionListing> endingBetween(LocalDateTime from, LocalDateTime to, int limit) {
+        List<AuctionListing> result = new ArrayList<>();
+        for (EndKey key : byEndTime.tailSet(new EndKey(from, ""))) {
+            if (result.size() >= limit || key.endTime().isAfter(to)) {
+                break;
+            }
+            Entry entry = entries.get(key.id());
+            if (entry != null && entry.endKey().equals(key) && hasStarted(entry.listing(), from)) {
+                result.add(entry.listing());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Live auctions priced between {@code min} and {@code max} inclusive.
+     * Price order is read straight off the index; other orders sort the
+     * matching range.
+     */
+    public List<AuctionListing> pricedBetween(double min, double max, AuctionSort sort, int limit, LocalDateTime now) {
+        List<AuctionListing> result = new ArrayList<>();
+        for (PriceKey key : byPrice.tailSet(new PriceKey(min, ""))) {
+            if (key.price() > max || (sort == AuctionSort.PRICE && result.size() >= limit)) {
+                break;
+            }
+            Entry entry = entries.get(key.id());
+            if (entry != null && entry.priceKey().equals(key) && isLive(entry.listing(), now)) {
+                result.add(entry.listing());
+            }
+        }
+        if (sort == AuctionSort.PRICE) {
+            return result;
+        }
+        Comparator<AuctionListing> order = sort == AuctionSort.BIDS
+                ? Comparator.comparingInt(AuctionListing::bidsCount).reversed().thenComparing(AuctionListing::endTime)
+                : Comparator.comparing(AuctionListing::endTime);
+        return result.stream().sorted(order).limit(limit).toList();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public void onAuctionChanged(Auction auction) {
+        if (auction.getId() == null) {
+            return;
+        }
+        if (!AuctionStatus.ACTIVE.equals(auction.getAuctionStatus())) {
+            remove(auction.getId());
+            return;
+        }
+        index(AuctionListing.of(auction), System.nanoTime());
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${auction.active-index.refresh-ms:30000}")
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+        List<AuctionListing> active;
+        try {
+            active = auctionRepository.findActiveListings(LocalDateTime.now(clock));
+        } catch (RuntimeException e) {
+            log.warn("Could not rebuild the active auction index, keeping {} entries", entries.size(), e);
+            return;
+        }
+        Set<String> activeIds = new HashSet<>();
+        for (AuctionListing listing : active) {
+            activeIds.add(listing.id());
+            index(listing, startedAt);
+        }
+        // Entries indexed after the query started may be newer than its result.
+        entries.values().stream()
+                .filter(entry -> entry.indexedAtNanos() - startedAt < 0 && !activeIds.contains(entry.listing().id()))
+                .map(entry -> entry.listing().id())
+                .toList()
+                .forEach(this::remove);
+        log.debug("Rebuilt active auction index with {} entries", entries.size());
+    }
+
+    private void index(AuctionListing listing, long indexedAtNanos) {
+        if (listing.endTime() == null || listing.startTime() == null) {
+            remove(listing.id());
+            return;
+        }
+        entries.compute(listing.id(), (id, existing) -> {
+            if (existing != null && isOlder(listing, existing.listing())) {
+                return existing;
+            }
+            Entry entry = new Entry(listing, new EndKey(listing.endTime(), id),
+                    new PriceKey(listing.currentPrice(), id), indexedAtNanos);
+            byEndTime.add(entry.endKey());
+            byPrice.add(entry.priceKey());
+            if (existing != null) {
+                if (!existing.endKey().equals(entry.endKey())) {
+                    byEndTime.remove(existing.endKey());
+                }
+                if (!existing.priceKey().equals(entry.priceKey())) {
+                    byPrice.remove(existing.priceKey());
+                }
+            }
+            return entry;
+        });
+    }
+
+    private void remove(String auctionId) {
+        entries.computeIfPresent(auctionId, (id, existing) -> {
+            byEndTime.remove(existing.endKey());
+            byPrice.remove(existing.priceKey());
+            return null;
+        });
+    }
+
+    private static boolean isOlder(AuctionListing candidate, AuctionListing existing) {
+        return candidate.version() != null && existing.version() != null
+                && candidate.version() < existing.version();
+    }
+
+    private static boolean hasStarted(AuctionListing listing, LocalDateTime now) {
+        return !listing.startTime().isAfter(now);
+    }
+
+    private static boolean isLive(AuctionListing listing, LocalDateTime now) {
+        return hasStarted(listing, now) && !listing.endTime().isBefore(now);
+    }
+
+    private record Entry(AuctionListing listing, EndKey endKey, PriceKey priceKey, long indexedAtNanos) {
+    }
+
+    private record EndKey(LocalDateTime endTime, String id) {
+    }
+
+    private record PriceKey(double price, String id) {
+    }
+}
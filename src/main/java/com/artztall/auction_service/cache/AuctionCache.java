@@ -0,0 +1,214 @@
+package com.artztall.auction_service.cache;
+
+import com.artztall.auction_service.model.Auction;
+import com.artztall.auction_service.model.AuctionStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Local copy of recently touched auctions. Completed and cancelled auctions
+ * are kept briefly as tombstones so late change events cannot resurrect them,
+ * then purged.
+ * <p>
+ * Entries are only served while the cache is marked coherent, i.e. while the
+ * change stream listener is delivering writes made by other replicas. Without
+ * it the cache still tracks local writes so subscribers get pushed updates,
+ * but reads fall through to Mongo.
+ * <p>
+ * With the {@link LiveAuctionStore} enabled the cache is capped at
+ * {@code auction.live-store.cache-capacity} auctions, since the store already
+ * keeps every live auction's state off-heap. Past the cap, live entries that
+ * are not pinned are dropped without notifying subscribers, and reads of them
+ * go to Mongo until they change again. Tombstones and pinned auctions stay.
+ */
+@Component
+@Slf4j
+public class AuctionCache {
+    private static final Duration SETTLED_RETENTION = Duration.ofMinutes(10);
+
+    private final Map<String, Auction> auctions = new ConcurrentHashMap<>();
+    private final Set<String> pinned = ConcurrentHashMap.newKeySet();
+    private final ObjectProvider<AuctionChangeSubscriber> subscriberProvider;
+    private final Clock clock;
+    private volatile List<AuctionChangeSubscriber> subscribers;
+    private volatile boolean coherent;
+
+    private final int capacity;
+    private final int trimSlack;
+    private final AtomicBoolean trimming = new AtomicBoolean();
+    private volatile int trimAt;
+
+    // Subscribers are resolved lazily because several of them consult the cache.
+    public AuctionCache(
+            ObjectProvider<AuctionChangeSubscriber> subscriberProvider,
+            LiveAuctionStore liveAuctionStore,
+            Clock clock,
+            @Value("${auction.live-store.cache-capacity:100000}") int liveStoreCacheCapacity
+    ) {
+        if (liveAuctionStore.isEnabled() && liveStoreCacheCapacity < 1) {
+            throw new IllegalArgumentException("auction.live-store.cache-capacity must be at least 1");
+        }
+        this.subscriberProvider = subscriberProvider;
+        this.clock = clock;
+        this.capacity = liveAuctionStore.isEnabled() ? liveStoreCacheCapacity : Integer.MAX_VALUE;
+        this.trimSlack = Math.max(1, capacity / 16);
+        this.trimAt = capacity;
+    }
+
+    public Optional<Auction> get(String auctionId) {
+        if (!coherent) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(auctions.get(auctionId));
+    }
+
+    /**
+     * Records the latest known state of an auction. Older snapshots (by
+     * {@code version}, or {@code updatedAt} for unversioned documents) are
+     * ignored, so a delayed change event can never roll back a newer local
+     * write.
+     */
+    public void put(Auction auction) {
+        if (auction == null || auction.getId() == null) {
+            return;
+        }
+        boolean[] advanced = {false};
+        auctions.compute(auction.getId(), (id, existing) -> {
+            if (existing != null && !isNewer(auction, existing)) {
+                return existing;
+            }
+            advanced[0] = true;
+            return auction;
+        });
+        if (advanced[0]) {
+            notifyChanged(auction);
+        }
+        if (auctions.size() > trimAt) {
+            trimToCapacity(auction.getId());
+        }
+    }
+
+    public void evict(String auctionId) {
+        if (auctions.remove(auctionId) != null) {
+            subscribers().forEach(subscriber -> subscriber.onAuctionRemoved(auctionId));
+        }
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void purgeSettledAuctions() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(SETTLED_RETENTION);
+        auctions.values().removeIf(auction -> !isLive(auction) && !pinned.contains(auction.getId())
+                && (auction.getUpdatedAt() == null || auction.getUpdatedAt().isBefore(cutoff)));
+    }
+
+    /**
+     * Exempts an auction from purging, e.g. while it is hot.
+     */
+    public void pin(String auctionId) {
+        pinned.add(auctionId);
+    }
+
+    public void unpin(String auctionId) {
+        pinned.remove(auctionId);
+    }
+
+    public void markCoherent() {
+        coherent = true;
+        log.info("Auction cache is coherent with {} entries", auctions.size());
+    }
+
+    public void markIncoherent(boolean discardEntries) {
+        coherent = false;
+        if (discardEntries) {
+            auctions.clear();
+        }
+        log.warn("Auction cache is no longer coherent, reads fall through to Mongo");
+    }
+
+    public boolean isCoherent() {
+        return coherent;
+    }
+
+    public int size() {
+        return auctions.size();
+    }
+
+    /**
+     * Drops live, unpinned entries, other than {@code keep}, until the cache
+     * is a little below capacity so the next trim is some puts away. If too
+     * few can be dropped, the next trim waits until the cache has grown again.
+     */
+    private void trimToCapacity(String keep) {
+        if (!trimming.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int target = capacity - trimSlack;
+            int dropped = 0;
+            for (Map.Entry<String, Auction> entry : auctions.entrySet()) {
+                if (auctions.size() <= target) {
+                    break;
+                }
+                Auction auction = entry.getValue();
+                if (isLive(auction) && !pinned.contains(entry.getKey()) && !entry.getKey().equals(keep)
+                        && auctions.remove(entry.getKey(), auction)) {
+                    dropped++;
+                }
+            }
+            int size = auctions.size();
+            trimAt = size <= capacity ? capacity : size + trimSlack;
+            log.debug("Dropped {} live auctions from the cache, {} entries left", dropped, size);
+        } finally {
+            trimming.set(false);
+        }
+    }
+
+    private void notifyChanged(Auction auction) {
+        for (AuctionChangeSubscriber subscriber : subscribers()) {
+            try {
+                subscriber.onAuctionChanged(auction);
+            } catch (RuntimeException e) {
+                log.warn("Auction change subscriber {} failed for {}", subscriber.getClass().getSimpleName(), auction.getId(), e);
+            }
+        }
+    }
+
+    private List<AuctionChangeSubscriber> subscribers() {
+        List<AuctionChangeSubscriber> resolved = subscribers;
+        if (resolved == null) {
+            resolved = subscriberProvider.orderedStream().toList();
+            subscribers = resolved;
+        }
+        return resolved;
+    }
+
+    private static boolean isNewer(Auction candidate, Auction existing) {
+        if (candidate.getVersion() != null && existing.getVersion() != null) {
+            return candidate.getVersion() > existing.getVersion();
+        }
+        LocalDateTime candidateTime = candidate.getUpdatedAt();
+        LocalDateTime existingTime = existing.getUpdatedAt();
+        if (candidateTime == null || existingTime == null) {
+            return true;
+        }
+        return candidateTime.isAfter(existingTime);
+    }
+
+    private static boolean isLive(Auction auction) {
+        return AuctionStatus.ACTIVE.equals(auction.getAuctionStatus())
+                || AuctionStatus.PENDING.equals(auction.getAuctionStatus());
+    }
+}
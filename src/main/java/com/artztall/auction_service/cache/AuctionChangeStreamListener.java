@@ -0,0 +1,223 @@
+package com.artztall.auction_service.cache;
+
+import com.artztall.auction_service.model.Auction;
+import com.artztall.auction_service.model.ChangeStreamCheckpoint;
+import com.artztall.auction_service.repository.ChangeStreamCheckpointRepository;
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.messaging.ChangeStreamRequest;
+import org.springframework.data.mongodb.core.messaging.DefaultMessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Message;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Subscription;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Tails the {@code auctions} collection so that writes made by other replicas
+ * land in the local {@link AuctionCache} within milliseconds.
+ * <p>
+ * The last processed resume token is checkpointed periodically; after a cursor
+ * failure or a restart the stream resumes from it instead of discarding the
+ * cache and reloading.
+ * <p>
+ * The cache is only marked coherent once the cursor is actually open: every
+ * (re)subscription clears coherence first, and the watchdog restores it when
+ * the cursor is late to open.
+ */
+@Component
+@ConditionalOnProperty(name = "auction.change-stream.enabled", havingValue = "true")
+@Slf4j
+public class AuctionChangeStreamListener implements SmartLifecycle {
+    private static final String AUCTIONS_COLLECTION = "auctions";
+    private static final int CHANGE_STREAM_HISTORY_LOST = 286;
+
+    private final MongoTemplate mongoTemplate;
+    private final AuctionCache auctionCache;
+    private final ChangeStreamCheckpointRepository checkpointRepository;
+    private final Clock clock;
+    private final String checkpointId;
+    private final Duration cursorWait;
+
+    private final AtomicReference<BsonDocument> lastToken = new AtomicReference<>();
+    private volatile BsonDocument checkpointedToken;
+    private volatile MessageListenerContainer container;
+    private volatile Subscription subscription;
+    private volatile boolean running;
+
+    public AuctionChangeStreamListener(
+            MongoTemplate mongoTemplate,
+            AuctionCache auctionCache,
+            ChangeStreamCheckpointRepository checkpointRepository,
+            Clock clock,
+            @Value("${auction.change-stream.checkpoint-id:${spring.application.name}:${spring.cloud.client.hostname:local}}")
+            String checkpointId,
+            @Value("${auction.change-stream.cursor-wait-ms:2000}") long cursorWaitMillis
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.auctionCache = auctionCache;
+        this.checkpointRepository = checkpointRepository;
+        this.clock = clock;
+        this.checkpointId = checkpointId;
+        this.cursorWait = Duration.ofMillis(cursorWaitMillis);
+    }
+
+    @Override
+    public void start() {
+        container = createContainer();
+        container.start();
+        running = true;
+        subscribe();
+    }
+
+    MessageListenerContainer createContainer() {
+        return new DefaultMessageListenerContainer(
+                mongoTemplate,
+                Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "auction-change-stream")),
+                this::onStreamError
+        );
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        auctionCache.markIncoherent(false);
+        if (container != null) {
+            container.stop();
+        }
+        checkpoint();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Scheduled(fixedDelayString = "${auction.change-stream.checkpoint-interval-ms:5000}")
+    public void checkpoint() {
+        BsonDocument token = lastToken.get();
+        if (token == null || token.equals(checkpointedToken)) {
+            return;
+        }
+        try {
+            ChangeStreamCheckpoint checkpoint = new ChangeStreamCheckpoint();
+            checkpoint.setId(checkpointId);
+            checkpoint.setResumeToken(Document.parse(token.toJson()));
+            checkpoint.setUpdatedAt(LocalDateTime.now(clock));
+            checkpointRepository.save(checkpoint);
+            checkpointedToken = token;
+        } catch (RuntimeException e) {
+            log.warn("Failed to checkpoint change stream resume token", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${auction.change-stream.watchdog-interval-ms:5000}")
+    public void ensureSubscribed() {
+        if (!running) {
+            return;
+        }
+        if (subscription == null || !subscription.isActive()) {
+            log.info("Change stream subscription inactive, resubscribing");
+            subscribe();
+        } else if (!auctionCache.isCoherent()) {
+            auctionCache.markCoherent();
+        }
+    }
+
+    private synchronized void subscribe() {
+        if (subscription != null) {
+            container.remove(subscription);
+        }
+        BsonDocument resumeToken = resolveResumeToken();
+        // Events may be missed until the new cursor is open; without a position
+        // to resume from, they may already have been.
+        auctionCache.markIncoherent(resumeToken == null);
+
+        ChangeStreamRequest.ChangeStreamRequestBuilder<Auction> builder = ChangeStreamRequest.builder(this::onMessage)
+                .collection(AUCTIONS_COLLECTION)
+                .filter(Aggregation.newAggregation(Aggregation.match(where("operationType")
+                        .in("insert", "update", "replace", "delete"))))
+                .fullDocumentLookup(FullDocument.UPDATE_LOOKUP);
+        if (resumeToken != null) {
+            builder.resumeAfter(resumeToken);
+        }
+
+        subscription = container.register(builder.build(), Auction.class);
+        log.info("Subscribed to auction change stream (resumed: {})", resumeToken != null);
+        if (awaitCursor()) {
+            auctionCache.markCoherent();
+        }
+    }
+
+    private boolean awaitCursor() {
+        try {
+            return subscription.await(cursorWait);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private BsonDocument resolveResumeToken() {
+        BsonDocument token = lastToken.get();
+        if (token != null) {
+            return token;
+        }
+        try {
+            return checkpointRepository.findById(checkpointId)
+                    .map(ChangeStreamCheckpoint::getResumeToken)
+                    .map(document -> BsonDocument.parse(document.toJson()))
+                    .orElse(null);
+        } catch (RuntimeException e) {
+            log.warn("Failed to load change stream checkpoint {}", checkpointId, e);
+            return null;
+        }
+    }
+
+    private void onMessage(Message<ChangeStreamDocument<Document>, Auction> message) {
+        ChangeStreamDocument<Document> raw = message.getRaw();
+        if (raw == null) {
+            return;
+        }
+        if (raw.getOperationType() == OperationType.DELETE) {
+            auctionCache.evict(toId(raw.getDocumentKey().get("_id")));
+        } else if (message.getBody() != null) {
+            auctionCache.put(message.getBody());
+        }
+        lastToken.set(raw.getResumeToken());
+    }
+
+    private void onStreamError(Throwable error) {
+        log.warn("Auction change stream failed, cache reads fall through until resubscribed", error);
+        auctionCache.markIncoherent(false);
+        if (error instanceof MongoCommandException commandException
+                && commandException.getErrorCode() == CHANGE_STREAM_HISTORY_LOST) {
+            // The resume point has rolled off the oplog; start over from now.
+            lastToken.set(null);
+            checkpointRepository.deleteById(checkpointId);
+        }
+    }
+
+    private static String toId(BsonValue id) {
+        return id.isObjectId() ? id.asObjectId().getValue().toHexString() : id.asString().getValue();
+    }
+}
@@ -0,0 +1,14 @@
+package com.artztall.auction_service.cache;
+
+import com.artztall.auction_service.model.Auction;
+
+/**
+ * Receives auction state changes observed by this instance, whether they
+ * originate from a local write or from another replica via the change stream.
+ */
+public interface AuctionChangeSubscriber {
+    void onAuctionChanged(Auction auction);
+
+    default void onAuctionRemoved(String auctionId) {
+    }
+}
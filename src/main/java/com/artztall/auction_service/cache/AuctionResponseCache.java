@@ -0,0 +1,162 @@
+package com.artztall.auction_service.cache;
+
+import com.artztall.auction_service.model.Auction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encoded response bodies for auction reads, with a precomputed ETag and
+ * gzip variant, so repeated reads of unchanged data skip Jackson entirely.
+ * <p>
+ * Entries are scoped either to one auction or to listings. Any change to an
+ * auction drops its entries and all listings. Each scope has a generation;
+ * a response is only stored if its scope was not invalidated while the
+ * response was being produced, so a slow read cannot cache a stale body.
+ * Unless configured otherwise, entries are only served while the
+ * {@link AuctionCache} is coherent with other replicas.
+ */
+@Component
+public class AuctionResponseCache implements AuctionChangeSubscriber {
+    private static final int GZIP_MIN_BYTES = 1024;
+    private static final Duration GENERATION_RETENTION = Duration.ofMinutes(1);
+
+    private final Map<String, Map<String, CachedResponse>> auctionResponses = new ConcurrentHashMap<>();
+    private final Map<String, CachedResponse> listingResponses = new ConcurrentHashMap<>();
+    private final Map<String, Generation> auctionGenerations = new ConcurrentHashMap<>();
+    private final AtomicLong generationSequence = new AtomicLong();
+    private final AtomicLong listingGeneration = new AtomicLong();
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final AuctionCache auctionCache;
+    private final boolean requireCoherence;
+    private final int maxEntries;
+    private final long listingTtlMillis;
+
+    public AuctionResponseCache(
+            AuctionCache auctionCache,
+            @Value("${auction.response-cache.require-coherence:true}") boolean requireCoherence,
+            @Value("${auction.response-cache.max-entries:10000}") int maxEntries,
+            @Value("${auction.response-cache.listing-ttl-ms:5000}") long listingTtlMillis
+    ) {
+        this.auctionCache = auctionCache;
+        this.requireCoherence = requireCoherence;
+        this.maxEntries = maxEntries;
+        this.listingTtlMillis = listingTtlMillis;
+    }
+
+    public boolean isServing() {
+        return !requireCoherence || auctionCache.isCoherent();
+    }
+
+    public CachedResponse get(String auctionId, String variant) {
+        if (auctionId == null) {
+            CachedResponse response = listingResponses.get(variant);
+            if (response != null && System.currentTimeMillis() - response.storedAtMillis() > listingTtlMillis) {
+                if (listingResponses.remove(variant, response)) {
+                    size.decrementAndGet();
+                }
+                return null;
+            }
+            return response;
+        }
+        Map<String, CachedResponse> variants = auctionResponses.get(auctionId);
+        return variants != null ? variants.get(variant) : null;
+    }
+
+    /**
+     * Returns the scope generation to pass back to {@link #put} once the
+     * response has been produced.
+     */
+    public long generation(String auctionId) {
+        if (auctionId == null) {
+            return listingGeneration.get();
+        }
+        Generation generation = auctionGenerations.get(auctionId);
+        return generation != null ? generation.value() : 0;
+    }
+
+    public CachedResponse put(String auctionId, String variant, long generation, String contentType, byte[] body) {
+        if (generation(auctionId) != generation || size.get() >= maxEntries) {
+            return null;
+        }
+        CachedResponse response = new CachedResponse(
+                body,
+                body.length >= GZIP_MIN_BYTES ? gzip(body) : null,
+                "\"" + DigestUtils.md5DigestAsHex(body) + "\"",
+                contentType,
+                System.currentTimeMillis()
+        );
+        CachedResponse previous = auctionId == null
+                ? listingResponses.put(variant, response)
+                : auctionResponses.computeIfAbsent(auctionId, id -> new ConcurrentHashMap<>()).put(variant, response);
+        if (previous == null) {
+            size.incrementAndGet();
+        }
+        // Re-check: an invalidation may have raced with the store above.
+        if (generation(auctionId) != generation) {
+            invalidate(auctionId);
+            return null;
+        }
+        return response;
+    }
+
+    public void invalidate(String auctionId) {
+        if (auctionId != null) {
+            auctionGenerations.put(auctionId,
+                    new Generation(generationSequence.incrementAndGet(), System.currentTimeMillis()));
+            Map<String, CachedResponse> removed = auctionResponses.remove(auctionId);
+            if (removed != null) {
+                size.addAndGet(-removed.size());
+            }
+        }
+        listingGeneration.incrementAndGet();
+        int listings = listingResponses.size();
+        listingResponses.clear();
+        size.addAndGet(-listings);
+    }
+
+    @Override
+    public void onAuctionChanged(Auction auction) {
+        invalidate(auction.getId());
+    }
+
+    @Override
+    public void onAuctionRemoved(String auctionId) {
+        invalidate(auctionId);
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void purgeGenerations() {
+        long cutoff = System.currentTimeMillis() - GENERATION_RETENTION.toMillis();
+        auctionGenerations.values().removeIf(generation -> generation.invalidatedAtMillis() < cutoff);
+        size.set(listingResponses.size() + auctionResponses.values().stream().mapToInt(Map::size).sum());
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    public record CachedResponse(byte[] body, byte[] gzipBody, String etag, String contentType, long storedAtMillis) {
+    }
+
+    private record Generation(long value, long invalidatedAtMillis) {
+    }
+}
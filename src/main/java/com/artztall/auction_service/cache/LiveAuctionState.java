@@ -0,0 +1,46 @@
+package com.artztall.auction_service.cache;
+
+import com.artztall.auction_service.model.AuctionStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Reusable holder that {@link LiveAuctionStore#read} fills with one
+ * auction's live state, so reads allocate nothing. Times are local
+ * date-times as epoch milliseconds, see {@link #localMillis}.
+ */
+@Getter
+public class LiveAuctionState {
+    private long version;
+    private double currentPrice;
+    private long startTimeMillis;
+    private long endTimeMillis;
+    private int bidCount;
+    private String leaderId;
+    private AuctionStatus status;
+
+    public boolean isSettled() {
+        return status == AuctionStatus.COMPLETED || status == AuctionStatus.CANCELLED;
+    }
+
+    /**
+     * The date-time's fields as epoch milliseconds without any zone
+     * conversion, matching how auction times are stored.
+     */
+    public static long localMillis(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1000 + dateTime.getNano() / 1_000_000;
+    }
+
+    void set(long version, double currentPrice, long startTimeMillis, long endTimeMillis, int bidCount,
+             String leaderId, AuctionStatus status) {
+        this.version = version;
+        this.currentPrice = currentPrice;
+        this.startTimeMillis = startTimeMillis;
+        this.endTimeMillis = endTimeMillis;
+        this.bidCount = bidCount;
+        this.leaderId = leaderId;
+        this.status = status;
+    }
+}
@@ -0,0 +1,412 @@
+package com.artztall.auction_service.cache;
+
+import com.artztall.auction_service.model.Auction;
+import com.artztall.auction_service.model.AuctionStatus;
+import com.artztall.auction_service.model.Bid;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Off-heap copy of the live state of every auction this instance has seen:
+ * price, leader, start and end time, bid count, status and version, in
+ * fixed-size records in one direct buffer. The garbage collector sees two
+ * buffers however many auctions there are, and {@link #read} allocates
+ * nothing, so bid-path checks can consult it without adding GC work.
+ * <p>
+ * Records are found through an open-addressing table of slot numbers, also
+ * off-heap, keyed by the auction ID stored in the record. IDs must be ASCII
+ * and at most {@link #MAX_ID_LENGTH} characters, which covers ObjectIds and
+ * UUIDs; other auctions are simply not stored. Leaders are kept as indexes
+ * into an interned table of user IDs, which grows with distinct bidders
+ * rather than with auctions.
+ * <p>
+ * Each record is guarded by a sequence lock: writers make the sequence odd
+ * while writing, and readers retry if it was odd or changed. Adding and
+ * removing records takes a lock that readers only validate optimistically.
+ * Changes arrive as {@link AuctionChangeSubscriber} notifications from the
+ * cache and older versions are ignored. When {@code capacity} records are
+ * in use, further auctions are not stored and reads for them miss.
+ * <p>
+ * Disabled unless {@code auction.live-store.enabled} is set, in which case
+ * nothing is allocated and every read misses. When enabled, the
+ * {@link AuctionCache} is capped, so the number of on-heap auction copies no
+ * longer grows with the catalogue.
+ */
+@Component
+@Slf4j
+public class LiveAuctionStore implements AuctionChangeSubscriber {
+    static final int MAX_ID_LENGTH = 48;
+
+    // Record layout. SEQ must stay at offset 0 so it is 4-byte aligned.
+    private static final int SEQ = 0;
+    private static final int BID_COUNT = 4;
+    private static final int VERSION = 8;
+    private static final int PRICE = 16;
+    private static final int START = 24;
+    private static final int END = 32;
+    private static final int LEADER = 40;
+    private static final int STATUS = 44;
+    private static final int ID_LENGTH = 45;
+    private static final int ID = 46;
+    static final int RECORD_SIZE = 96;
+
+    private static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+    private static final AuctionStatus[] STATUSES = AuctionStatus.values();
+    private static final long NO_VERSION = -1;
+    private static final long NO_TIME = Long.MIN_VALUE;
+
+    private final boolean enabled;
+    private final int capacity;
+    private final ByteBuffer records;
+    private final ByteBuffer index;
+    private final int tableMask;
+    private final StampedLock structure = new StampedLock();
+    private final int[] freeSlots;
+    private int freeCount;
+    private int nextUnused;
+    private volatile int size;
+
+    private final Map<String, Integer> userIndexes = new ConcurrentHashMap<>();
+    private volatile String[] users = new String[1024];
+    private int userCount;
+
+    private final Counter unstored;
+
+    public LiveAuctionStore(
+            MeterRegistry meterRegistry,
+            @Value("${auction.live-store.enabled:false}") boolean enabled,
+            @Value("${auction.live-store.capacity:1000000}") int capacity
+    ) {
+        if (enabled && (capacity < 1 || capacity > Integer.MAX_VALUE / RECORD_SIZE)) {
+            throw new IllegalArgumentException("auction.live-store.capacity must be between 1 and "
+                    + Integer.MAX_VALUE / RECORD_SIZE);
+        }
+        this.enabled = enabled;
+        this.capacity = enabled ? capacity : 0;
+        int tableSize = enabled ? Integer.highestOneBit(capacity * 2 - 1) << 1 : 1;
+        this.tableMask = tableSize - 1;
+        this.records = ByteBuffer.allocateDirect(this.capacity * RECORD_SIZE).order(ByteOrder.nativeOrder());
+        this.index = ByteBuffer.allocateDirect(enabled ? tableSize * Integer.BYTES : 0).order(ByteOrder.nativeOrder());
+        this.freeSlots = new int[this.capacity];
+
+        this.unstored = Counter.builder("auction.live-store.unstored")
+                .description("Auction updates not stored because the store was full or the ID unsupported")
+                .register(meterRegistry);
+        Gauge.builder("auction.live-store.size", this, LiveAuctionStore::size).register(meterRegistry);
+        Gauge.builder("auction.live-store.off-heap.bytes", this, store -> store.records.capacity() + store.index.capacity())
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        if (enabled) {
+            log.info("Live auction store holds up to {} auctions in {} MB off-heap", capacity,
+                    (records.capacity() + index.capacity()) >> 20);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Copies the auction's live state into {@code into}.
+     *
+     * @return false if the auction is not stored, leaving {@code into} as it was
+     */
+    public boolean read(String auctionId, LiveAuctionState into) {
+        if (!enabled || !storable(auctionId)) {
+            return false;
+        }
+        while (true) {
+            int slot = lookup(auctionId);
+            if (slot < 0) {
+                return false;
+            }
+            int base = slot * RECORD_SIZE;
+            int seq = (int) INT.getAcquire(records, base + SEQ);
+            if ((seq & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            boolean matches = idMatches(base, auctionId);
+            long version = records.getLong(base + VERSION);
+            double price = records.getDouble(base + PRICE);
+            long start = records.getLong(base + START);
+            long end = records.getLong(base + END);
+            int bidCount = records.getInt(base + BID_COUNT);
+            int leader = records.getInt(base + LEADER);
+            int status = records.get(base + STATUS);
+            VarHandle.loadLoadFence();
+            if ((int) INT.getVolatile(records, base + SEQ) != seq || !matches) {
+                // Written meanwhile, or the slot was reused for another auction.
+                continue;
+            }
+            String[] userTable = users;
+            into.set(version, price, start, end, bidCount,
+                    leader >= 0 && leader < userTable.length ? userTable[leader] : null,
+                    status >= 0 ? STATUSES[status] : null);
+            return true;
+        }
+    }
+
+    @Override
+    public void onAuctionChanged(Auction auction) {
+        String auctionId = auction.getId();
+        if (!enabled || auctionId == null) {
+            return;
+        }
+        if (!storable(auctionId)) {
+            unstored.increment();
+            return;
+        }
+        Bid highest = auction.getHighestBid();
+        int leader = intern(highest != null ? highest.getUserId() : null);
+        while (true) {
+            int slot = lookup(auctionId);
+            if (slot < 0) {
+                if (insert(auction, leader)) {
+                    return;
+                }
+                continue;
+            }
+            int base = slot * RECORD_SIZE;
+            int seq = beginWrite(base);
+            boolean matches = idMatches(base, auctionId);
+            if (matches && isNewer(auction, records.getLong(base + VERSION))) {
+                writeState(base, auction, leader);
+            }
+            endWrite(base, seq);
+            if (matches) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void onAuctionRemoved(String auctionId) {
+        if (!enabled || !storable(auctionId)) {
+            return;
+        }
+        long stamp = structure.writeLock();
+        try {
+            int position = findPosition(auctionId);
+            if (position < 0) {
+                return;
+            }
+            int slot = index.getInt(position * Integer.BYTES) - 1;
+            deleteIndexEntry(position);
+            int base = slot * RECORD_SIZE;
+            int seq = beginWrite(base);
+            records.put(base + ID_LENGTH, (byte) 0);
+            endWrite(base, seq);
+            freeSlots[freeCount++] = slot;
+            size--;
+        } finally {
+            structure.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Adds the auction unless another thread added it first.
+     *
+     * @return false if it already exists and should be updated instead
+     */
+    private boolean insert(Auction auction, int leader) {
+        String auctionId = auction.getId();
+        long stamp = structure.writeLock();
+        try {
+            if (findPosition(auctionId) >= 0) {
+                return false;
+            }
+            int slot = freeCount > 0 ? freeSlots[--freeCount] : nextUnused < capacity ? nextUnused++ : -1;
+            if (slot < 0) {
+                unstored.increment();
+                return true;
+            }
+            int base = slot * RECORD_SIZE;
+            int seq = beginWrite(base);
+            records.put(base + ID_LENGTH, (byte) auctionId.length());
+            for (int i = 0; i < auctionId.length(); i++) {
+                records.put(base + ID + i, (byte) auctionId.charAt(i));
+            }
+            records.putLong(base + VERSION, NO_VERSION);
+            writeState(base, auction, leader);
+            endWrite(base, seq);
+
+            int position = auctionId.hashCode() * 0x9E3779B9 & tableMask;
+            while (index.getInt(position * Integer.BYTES) != 0) {
+                position = (position + 1) & tableMask;
+            }
+            index.putInt(position * Integer.BYTES, slot + 1);
+            size++;
+            return true;
+        } finally {
+            structure.unlockWrite(stamp);
+        }
+    }
+
+    private void writeState(int base, Auction auction, int leader) {
+        records.putLong(base + VERSION, auction.getVersion() != null ? auction.getVersion() : NO_VERSION);
+        records.putDouble(base + PRICE, auction.getCurrentPrice());
+        records.putLong(base + START, auction.getStartTime() != null ? LiveAuctionState.localMillis(auction.getStartTime()) : NO_TIME);
+        records.putLong(base + END, auction.getEndTime() != null ? LiveAuctionState.localMillis(auction.getEndTime()) : NO_TIME);
+        records.putInt(base + BID_COUNT, auction.getBidsCount());
+        records.putInt(base + LEADER, leader);
+        records.put(base + STATUS, (byte) (auction.getAuctionStatus() != null ? auction.getAuctionStatus().ordinal() : -1));
+    }
+
+    private static boolean isNewer(Auction auction, long storedVersion) {
+        return auction.getVersion() == null || storedVersion == NO_VERSION || auction.getVersion() > storedVersion;
+    }
+
+    private int beginWrite(int base) {
+        while (true) {
+            int seq = (int) INT.getVolatile(records, base + SEQ);
+            if ((seq & 1) == 0 && INT.compareAndSet(records, base + SEQ, seq, seq + 1)) {
+                return seq + 1;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private void endWrite(int base, int seq) {
+        INT.setRelease(records, base + SEQ, seq + 1);
+    }
+
+    /**
+     * Slot of the auction, probing optimistically and falling back to the
+     * read lock if a record was added or removed meanwhile.
+     */
+    private int lookup(String auctionId) {
+        long stamp = structure.tryOptimisticRead();
+        int position = findPosition(auctionId);
+        int entry = position >= 0 ? index.getInt(position * Integer.BYTES) : 0;
+        if (!structure.validate(stamp)) {
+            stamp = structure.readLock();
+            try {
+                position = findPosition(auctionId);
+                entry = position >= 0 ? index.getInt(position * Integer.BYTES) : 0;
+            } finally {
+                structure.unlockRead(stamp);
+            }
+        }
+        return entry - 1;
+    }
+
+    /**
+     * Table position holding the auction, or -1. Bounded and range-checked
+     * so that an optimistic probe racing a change terminates.
+     */
+    private int findPosition(String auctionId) {
+        int position = auctionId.hashCode() * 0x9E3779B9 & tableMask;
+        for (int probes = 0; probes <= tableMask; probes++) {
+            int entry = index.getInt(position * Integer.BYTES);
+            if (entry == 0) {
+                return -1;
+            }
+            if (entry > 0 && entry <= capacity && idMatches((entry - 1) * RECORD_SIZE, auctionId)) {
+                return position;
+            }
+            position = (position + 1) & tableMask;
+        }
+        return -1;
+    }
+
+    /**
+     * Clears a table position and shifts later entries of the same probe
+     * run back, so lookups never need tombstones.
+     */
+    private void deleteIndexEntry(int position) {
+        int hole = position;
+        index.putInt(hole * Integer.BYTES, 0);
+        int next = hole;
+        while (true) {
+            next = (next + 1) & tableMask;
+            int entry = index.getInt(next * Integer.BYTES);
+            if (entry == 0) {
+                return;
+            }
+            int home = storedIdHash((entry - 1) * RECORD_SIZE) * 0x9E3779B9 & tableMask;
+            boolean homeBetween = hole <= next ? hole < home && home <= next : hole < home || home <= next;
+            if (!homeBetween) {
+                index.putInt(hole * Integer.BYTES, entry);
+                index.putInt(next * Integer.BYTES, 0);
+                hole = next;
+            }
+        }
+    }
+
+    private boolean idMatches(int base, String auctionId) {
+        int length = records.get(base + ID_LENGTH);
+        if (length != auctionId.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (records.get(base + ID + i) != auctionId.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Same as String.hashCode for the ASCII IDs the store accepts.
+    private int storedIdHash(int base) {
+        int hash = 0;
+        int length = records.get(base + ID_LENGTH);
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + records.get(base + ID + i);
+        }
+        return hash;
+    }
+
+    private int intern(String userId) {
+        if (userId == null) {
+            return -1;
+        }
+        Integer existing = userIndexes.get(userId);
+        if (existing != null) {
+            return existing;
+        }
+        synchronized (userIndexes) {
+            existing = userIndexes.get(userId);
+            if (existing != null) {
+                return existing;
+            }
+            String[] table = users;
+            if (userCount == table.length) {
+                table = Arrays.copyOf(table, table.length * 2);
+            }
+            table[userCount] = userId;
+            users = table;
+            userIndexes.put(userId, userCount);
+            return userCount++;
+        }
+    }
+
+    private static boolean storable(String auctionId) {
+        if (auctionId == null || auctionId.isEmpty() || auctionId.length() > MAX_ID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < auctionId.length(); i++) {
+            if (auctionId.charAt(i) >= 128) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,138 @@
+package com.artztall.auction_service.cache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Serves auction and listing reads from {@link AuctionResponseCache}, with
+ * {@code ETag}/{@code If-None-Match} revalidation and precompressed gzip, and
+ * fills the cache from successful responses. Every response on a cacheable
+ * path, hit or not, carries the same {@code Vary}, so shared caches key them
+ * alike.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResponseCacheFilter extends OncePerRequestFilter {
+    private static final String BASE_PATH = "/api/auctions/";
+    private static final String VARY = HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING;
+    private static final Set<String> RESERVED_ROOTS = Set.of("active", "completed", "artist", "users", "bid", "search", "batch");
+
+    private final AuctionResponseCache responseCache;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod())
+                || !request.getRequestURI().startsWith(BASE_PATH)
+                || resolveScope(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        response.setHeader(HttpHeaders.VARY, VARY);
+        if (!responseCache.isServing()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        Scope scope = resolveScope(request);
+        String variant = variantKey(request);
+
+        AuctionResponseCache.CachedResponse cached = responseCache.get(scope.auctionId(), variant);
+        if (cached != null) {
+            write(request, response, cached);
+            return;
+        }
+
+        long generation = responseCache.generation(scope.auctionId());
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, wrapper);
+
+        if (wrapper.getStatus() == HttpServletResponse.SC_OK
+                && wrapper.getHeader(HttpHeaders.CONTENT_ENCODING) == null
+                && wrapper.getContentType() != null) {
+            AuctionResponseCache.CachedResponse stored = responseCache.put(
+                    scope.auctionId(), variant, generation, wrapper.getContentType(), wrapper.getContentAsByteArray());
+            if (stored != null) {
+                wrapper.setHeader(HttpHeaders.ETAG, stored.etag());
+            }
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private void write(HttpServletRequest request, HttpServletResponse response,
+                       AuctionResponseCache.CachedResponse cached) throws IOException {
+        response.setHeader(HttpHeaders.ETAG, cached.etag());
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && (ifNoneMatch.contains(cached.etag()) || "*".equals(ifNoneMatch.trim()))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        byte[] body = cached.body();
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (cached.gzipBody() != null && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            body = cached.gzipBody();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(cached.contentType());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * Maps a request to the auction whose changes invalidate it, or to the
+     * listing scope (a {@code null} auction ID). Returns {@code null} for
+     * requests that must not be cached, such as update streams.
+     */
+    private static Scope resolveScope(HttpServletRequest request) {
+        String[] segments = request.getRequestURI().substring(BASE_PATH.length()).split("/");
+        if (segments.length == 0 || segments[0].isEmpty()) {
+            return null;
+        }
+        if (isListing(segments)) {
+            return new Scope(null);
+        }
+        if (RESERVED_ROOTS.contains(segments[0])) {
+            return null;
+        }
+        if (segments.length == 1 || (segments.length == 2 && "bid-history".equals(segments[1]))) {
+            return new Scope(segments[0]);
+        }
+        return null;
+    }
+
+    /**
+     * Matches the listing endpoints exactly; other paths under their roots,
+     * such as artist analytics, are not invalidated with listings.
+     */
+    private static boolean isListing(String[] segments) {
+        return switch (segments[0]) {
+            case "active" -> segments.length == 1
+                    || (segments.length == 2 && ("ending-soon".equals(segments[1]) || "by-price".equals(segments[1])));
+            case "completed" -> segments.length == 1 || (segments.length == 3 && "winner".equals(segments[1]));
+            case "artist" -> segments.length == 2;
+            default -> false;
+        };
+    }
+
+    private static String variantKey(HttpServletRequest request) {
+        String query = request.getQueryString();
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return request.getRequestURI() + (query != null ? "?" + query : "") + "|" + (accept != null ? accept : "*/*");
+    }
+
+    private record Scope(String auctionId) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.artztall.auction_service.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * Time source for auction logic. Tests and the traffic replayer substitute
+ * their own clock to control time.
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
@@ -0,0 +1,99 @@
+package com.artztall.auction_service.config;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.observability.ContextProviderFactory;
+import org.springframework.data.mongodb.observability.MongoObservationCommandListener;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connection pool, timeout, default read preference and default write concern
+ * settings for the Mongo client. Applied after the connection string, so these take precedence over
+ * the same options in {@code spring.data.mongodb.uri}.
+ * <p>
+ * Pool ({@code mongodb.driver.pool.*}) and command latency
+ * ({@code mongodb.driver.commands}) metrics come from Boot's Mongo metrics
+ * auto-configuration; this adds a counter of failed pool checkouts, which is
+ * how wait-queue timeouts show up. With {@code auction.tracing.enabled},
+ * each command is also observed as a child of the current observation, so
+ * it appears as a span under the service call that issued it.
+ */
+@Configuration
+public class MongoClientConfig {
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer auctionMongoClientSettings(
+            MeterRegistry meterRegistry,
+            @Value("${auction.mongo.pool.min-size:0}") int minPoolSize,
+            @Value("${auction.mongo.pool.max-size:100}") int maxPoolSize,
+            @Value("${auction.mongo.pool.max-wait-ms:120000}") long maxWaitMillis,
+            @Value("${auction.mongo.pool.max-idle-ms:0}") long maxIdleMillis,
+            @Value("${auction.mongo.connect-timeout-ms:10000}") int connectTimeoutMillis,
+            @Value("${auction.mongo.read-timeout-ms:0}") int readTimeoutMillis,
+            @Value("${auction.mongo.server-selection-timeout-ms:30000}") long serverSelectionTimeoutMillis,
+            @Value("${auction.mongo.read-preference.default:primary}") String defaultReadPreference,
+            @Value("${auction.mongo.write-concern.default:majority}") String defaultWriteConcern
+    ) {
+        ConnectionPoolListener checkoutFailures = checkoutFailureListener(meterRegistry);
+        return builder -> builder
+                .applyToConnectionPoolSettings(pool -> pool
+                        .minSize(minPoolSize)
+                        .maxSize(maxPoolSize)
+                        .maxWaitTime(maxWaitMillis, TimeUnit.MILLISECONDS)
+                        .maxConnectionIdleTime(maxIdleMillis, TimeUnit.MILLISECONDS)
+                        .addConnectionPoolListener(checkoutFailures))
+                .applyToSocketSettings(socket -> socket
+                        .connectTimeout(connectTimeoutMillis, TimeUnit.MILLISECONDS)
+                        .readTimeout(readTimeoutMillis, TimeUnit.MILLISECONDS))
+                .applyToClusterSettings(cluster -> cluster
+                        .serverSelectionTimeout(serverSelectionTimeoutMillis, TimeUnit.MILLISECONDS))
+                .readPreference(ReadPreference.valueOf(defaultReadPreference))
+                .writeConcern(MongoWriteConcerns.parse(defaultWriteConcern));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "auction.tracing.enabled", havingValue = "true")
+    public MongoClientSettingsBuilderCustomizer mongoCommandObservations(ObservationRegistry observationRegistry) {
+        return builder -> builder
+                .contextProvider(ContextProviderFactory.create(observationRegistry))
+                .addCommandListener(new MongoObservationCommandListener(observationRegistry));
+    }
+
+    /**
+     * Replaces Boot's template only to plug in the per-collection write concerns.
+     */
+    @Bean
+    public MongoTemplate mongoTemplate(MongoDatabaseFactory mongoDatabaseFactory, MongoConverter mongoConverter,
+                                       MongoWriteConcerns writeConcerns) {
+        MongoTemplate mongoTemplate = new MongoTemplate(mongoDatabaseFactory, mongoConverter);
+        mongoTemplate.setWriteConcernResolver(writeConcerns);
+        return mongoTemplate;
+    }
+
+    private static ConnectionPoolListener checkoutFailureListener(MeterRegistry meterRegistry) {
+        return new ConnectionPoolListener() {
+            @Override
+            public void connectionCheckOutFailed(ConnectionCheckOutFailedEvent event) {
+                Counter.builder("mongodb.driver.pool.checkout.failed")
+                        .description("Connection checkouts that failed, by reason")
+                        .tag("reason", event.getReason().name().toLowerCase())
+                        .tag("server.address", event.getServerId().getAddress().toString())
+                        .register(meterRegistry)
+                        .increment();
+            }
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package com.artztall.auction_service.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ensures the indexes declared on mapped documents exist. Runs off the startup
+ * path so an unreachable cluster delays indexing rather than failing startup.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class MongoIndexInitializer {
+    private final MongoTemplate mongoTemplate;
+    private final MongoMappingContext mappingContext;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        Thread thread = new Thread(this::createIndexes, "mongo-index-initializer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void createIndexes() {
+        MongoPersistentEntityIndexResolver resolver = new MongoPersistentEntityIndexResolver(mappingContext);
+        for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+            if (!entity.isAnnotationPresent(Document.class)) {
+                continue;
+            }
+            try {
+                IndexOperations indexOps = mongoTemplate.indexOps(entity.getType());
+                resolver.resolveIndexFor(entity.getType()).forEach(indexOps::ensureIndex);
+            } catch (RuntimeException e) {
+                log.warn("Could not ensure indexes for {}", entity.getCollection(), e);
+            }
+        }
+    }
+}
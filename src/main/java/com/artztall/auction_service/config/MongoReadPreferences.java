@@ -0,0 +1,24 @@
+package com.artztall.auction_service.config;
+
+import com.mongodb.ReadPreference;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+/**
+ * Read preference per class of query. Listing reads tolerate replication lag
+ * and may be served by secondaries; everything else, including every read on
+ * the bid path, stays on the client default (the primary unless configured).
+ */
+@Component
+public class MongoReadPreferences {
+    private final ReadPreference listing;
+
+    public MongoReadPreferences(@Value("${auction.mongo.read-preference.listing:primary}") String listing) {
+        this.listing = ReadPreference.valueOf(listing);
+    }
+
+    public Query listing(Query query) {
+        return query.withReadPreference(listing);
+    }
+}
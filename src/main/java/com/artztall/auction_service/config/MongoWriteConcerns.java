@@ -0,0 +1,91 @@
+package com.artztall.auction_service.config;
+
+import com.mongodb.WriteConcern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoAction;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.WriteConcernResolver;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write concern per class of write, keyed by collection:
+ * <ul>
+ *     <li>auction - bids, closes (winner determination), creation and
+ *     cancellation on {@code auctions}, and archived copies</li>
+ *     <li>lease - scheduler leases, which guard against double execution</li>
+ *     <li>read-model - per-user views and artist rollups, rebuilt from events</li>
+ *     <li>bookkeeping - change stream checkpoints and outbox acknowledgements</li>
+ * </ul>
+ * Any other write uses the client default. Bulk writes bypass this resolver,
+ * so they are opened through {@link #bulkOps} with their write class.
+ */
+@Component
+public class MongoWriteConcerns implements WriteConcernResolver {
+    public enum WriteClass { AUCTION, LEASE, READ_MODEL, BOOKKEEPING }
+
+    private final Map<WriteClass, WriteConcern> byClass = new EnumMap<>(WriteClass.class);
+    private final Map<String, WriteConcern> byCollection;
+    private final Map<WriteConcern, MongoTemplate> bulkTemplates = new ConcurrentHashMap<>();
+
+    public MongoWriteConcerns(
+            @Value("${auction.mongo.write-concern.auction:majority}") String auction,
+            @Value("${auction.mongo.write-concern.lease:majority}") String lease,
+            @Value("${auction.mongo.write-concern.read-model:w1}") String readModel,
+            @Value("${auction.mongo.write-concern.bookkeeping:w1}") String bookkeeping
+    ) {
+        byClass.put(WriteClass.AUCTION, parse(auction));
+        byClass.put(WriteClass.LEASE, parse(lease));
+        byClass.put(WriteClass.READ_MODEL, parse(readModel));
+        byClass.put(WriteClass.BOOKKEEPING, parse(bookkeeping));
+        this.byCollection = Map.of(
+                "auctions", byClass.get(WriteClass.AUCTION),
+                "auctions_archive", byClass.get(WriteClass.AUCTION),
+                "scheduler_leases", byClass.get(WriteClass.LEASE),
+                "user_auction_views", byClass.get(WriteClass.READ_MODEL),
+                "artist_sales_rollups", byClass.get(WriteClass.READ_MODEL),
+                "artist_sales_applied_events", byClass.get(WriteClass.READ_MODEL),
+                "change_stream_checkpoints", byClass.get(WriteClass.BOOKKEEPING)
+        );
+    }
+
+    @Override
+    public WriteConcern resolve(MongoAction action) {
+        return byCollection.getOrDefault(action.getCollectionName(), action.getDefaultWriteConcern());
+    }
+
+    public BulkOperations bulkOps(MongoTemplate mongoTemplate, WriteClass writeClass,
+                                  BulkOperations.BulkMode mode, Class<?> entityType) {
+        return bulkTemplate(mongoTemplate, writeClass).bulkOps(mode, entityType);
+    }
+
+    public BulkOperations bulkOps(MongoTemplate mongoTemplate, WriteClass writeClass,
+                                  BulkOperations.BulkMode mode, Class<?> entityType, String collectionName) {
+        return bulkTemplate(mongoTemplate, writeClass).bulkOps(mode, entityType, collectionName);
+    }
+
+    /**
+     * A bulk write takes its write concern from the template that opens it, so
+     * each write class gets a template sharing the database factory and
+     * converter with the given one.
+     */
+    private MongoTemplate bulkTemplate(MongoTemplate mongoTemplate, WriteClass writeClass) {
+        return bulkTemplates.computeIfAbsent(byClass.get(writeClass), writeConcern -> {
+            MongoTemplate template = new MongoTemplate(mongoTemplate.getMongoDatabaseFactory(), mongoTemplate.getConverter());
+            template.setWriteConcern(writeConcern);
+            return template;
+        });
+    }
+
+    static WriteConcern parse(String name) {
+        WriteConcern writeConcern = WriteConcern.valueOf(name);
+        if (writeConcern == null) {
+            throw new IllegalArgumentException("Unknown write concern: " + name);
+        }
+        return writeConcern;
+    }
+}
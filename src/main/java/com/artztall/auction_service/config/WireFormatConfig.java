@@ -0,0 +1,127 @@
+package com.artztall.auction_service.config;
+
+import com.artztall.auction_service.dto.BidRejection;
+import com.artztall.auction_service.model.Auction;
+import com.artztall.auction_service.profiling.SerializationEvent;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Lets service-to-service callers negotiate CBOR ({@code application/cbor})
+ * or Smile ({@code application/x-jackson-smile}) instead of JSON. Both use
+ * the same Jackson configuration as JSON, except that dates are written as
+ * numeric timestamps rather than ISO-8601 strings.
+ * <p>
+ * All three converters observe each response body they write as
+ * {@code auction.serialization} and emit a {@link SerializationEvent}, so
+ * traces and flight recordings show serialization cost by payload type.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WireFormatConfig implements WebMvcConfigurer {
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+    private final ObjectProvider<ObservationRegistry> observationRegistry;
+
+    // Replaces Boot's default JSON converter.
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new MappingJackson2HttpMessageConverter(objectMapper) {
+            @Override
+            protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+                profiled("json", object, () -> super.writeInternal(object, type, outputMessage));
+            }
+        };
+    }
+
+    /**
+     * Spring MVC already registers CBOR and Smile converters built from a
+     * plain mapper, ahead of anything appended here, so they are replaced
+     * in place rather than added after them.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        int position = converters.size();
+        for (int i = converters.size() - 1; i >= 0; i--) {
+            if (converters.get(i) instanceof MappingJackson2CborHttpMessageConverter
+                    || converters.get(i) instanceof MappingJackson2SmileHttpMessageConverter) {
+                converters.remove(i);
+                position = i;
+            }
+        }
+        converters.addAll(position, List.of(
+                new MappingJackson2CborHttpMessageConverter(
+                        binaryMapper(objectMapperBuilder.getIfAvailable(Jackson2ObjectMapperBuilder::json), new CBORFactory())) {
+                    @Override
+                    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+                        profiled("cbor", object, () -> super.writeInternal(object, type, outputMessage));
+                    }
+                },
+                new MappingJackson2SmileHttpMessageConverter(
+                        binaryMapper(objectMapperBuilder.getIfAvailable(Jackson2ObjectMapperBuilder::json), new SmileFactory())) {
+                    @Override
+                    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+                        profiled("smile", object, () -> super.writeInternal(object, type, outputMessage));
+                    }
+                }
+        ));
+    }
+
+    private static ObjectMapper binaryMapper(Jackson2ObjectMapperBuilder builder, JsonFactory factory) {
+        return builder.factory(factory)
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    private void profiled(String format, Object body, BodyWrite write) throws IOException {
+        Object value = body instanceof MappingJacksonValue wrapper ? wrapper.getValue() : body;
+        String type = value == null ? "null" : value.getClass().getSimpleName();
+        Observation observation = Observation.createNotStarted("auction.serialization",
+                        observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP))
+                .contextualName("write " + format)
+                .lowCardinalityKeyValue("format", format)
+                .lowCardinalityKeyValue("type", type)
+                .start();
+        SerializationEvent event = new SerializationEvent();
+        event.begin();
+        boolean succeeded = false;
+        try (Observation.Scope scope = observation.openScope()) {
+            write.run();
+            succeeded = true;
+        } catch (IOException | RuntimeException e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+            String auctionId = value instanceof Auction auction ? auction.getId()
+                    : value instanceof BidRejection rejection ? rejection.getAuctionId()
+                    : null;
+            event.finish(format, type, auctionId, succeeded);
+        }
+    }
+
+    @FunctionalInterface
+    private interface BodyWrite {
+        void run() throws IOException;
+    }
+}
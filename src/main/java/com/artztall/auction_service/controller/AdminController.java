@@ -0,0 +1,32 @@
+package com.artztall.auction_service.controller;
+
+import com.artztall.auction_service.dto.HotAuctionDTO;
+import com.artztall.auction_service.traffic.HotAuctionTracker;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+@Tag(name = "Admin Controller", description = "Operational endpoints for this instance")
+public class AdminController {
+    private final HotAuctionTracker hotAuctionTracker;
+
+    @GetMapping("/hot-auctions")
+    @Operation(
+            summary = "Get hot auctions",
+            description = "Lists the top bid-rate auctions seen by this instance and whether each is in accelerated mode.",
+            responses = @ApiResponse(responseCode = "200", description = "Successfully retrieved hot auction state")
+    )
+    public ResponseEntity<List<HotAuctionDTO>> getHotAuctions() {
+        return ResponseEntity.ok(hotAuctionTracker.snapshot());
+    }
+}
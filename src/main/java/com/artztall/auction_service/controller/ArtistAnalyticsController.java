@@ -0,0 +1,52 @@
+package com.artztall.auction_service.controller;
+
+import com.artztall.auction_service.dto.ArtistSalesSummaryDTO;
+import com.artztall.auction_service.exception.AuctionException;
+import com.artztall.auction_service.service.ArtistAnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/auctions/artist")
+@RequiredArgsConstructor
+@Tag(name = "Artist Analytics Controller", description = "API for artist sales analytics")
+public class ArtistAnalyticsController {
+    private static final long DEFAULT_WINDOW_DAYS = 30;
+
+    private final ArtistAnalyticsService artistAnalyticsService;
+    private final Clock clock;
+
+    @GetMapping("/{artistId}/analytics")
+    @Operation(
+            summary = "Get artist sales analytics",
+            description = "Totals, sell-through rate, average hammer price and bid counts per day for an artist.",
+            responses = @ApiResponse(responseCode = "200", description = "Successfully retrieved analytics")
+    )
+    public ResponseEntity<ArtistSalesSummaryDTO> getArtistAnalytics(
+            @Parameter(description = "ID of the artist", required = true) @PathVariable String artistId,
+            @Parameter(description = "First day (inclusive), defaults to 30 days ago")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day (inclusive), defaults to today")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        LocalDate end = to != null ? to : LocalDate.now(clock);
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_WINDOW_DAYS);
+        if (start.isAfter(end)) {
+            throw new AuctionException("'from' must not be after 'to'");
+        }
+        return ResponseEntity.ok(artistAnalyticsService.getArtistSummary(artistId, start, end));
+    }
+}
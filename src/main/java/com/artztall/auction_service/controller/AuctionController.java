@@ -1,16 +1,29 @@
 package com.artztall.auction_service.controller;
 
 import com.artztall.auction_service.dto.AuctionCreateDTO;
+import com.artztall.auction_service.dto.AuctionSummaryDTO;
 import com.artztall.auction_service.dto.BidDTO;
+import com.artztall.auction_service.dto.BidRejection;
+import com.artztall.auction_service.dto.BidResult;
 import com.artztall.auction_service.dto.CompletedAuctionDTO;
 import com.artztall.auction_service.model.Auction;
+import com.artztall.auction_service.model.AuctionSort;
+import com.artztall.auction_service.service.AuctionImportReader;
+import com.artztall.auction_service.service.AuctionImportService;
 import com.artztall.auction_service.service.AuctionService;
+import com.artztall.auction_service.service.AuctionUpdateBroadcaster;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -26,6 +39,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 @Tag(name = "Auction Controller", description = "API for managing auctions")
 public class AuctionController {
     private final AuctionService auctionService;
+    private final AuctionUpdateBroadcaster auctionUpdateBroadcaster;
+    private final AuctionImportService auctionImportService;
 
     @PostMapping
     @Operation(summary = "Create a new auction", description = "Creates a new auction with the provided details.")
@@ -41,18 +56,53 @@ public class AuctionController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdAuction);
     }
 
-    @PostMapping("/bid")
-    @Operation(summary = "Place a bid", description = "Places a bid on an existing auction.")
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(
+            summary = "Import auctions in bulk",
+            description = "Creates auctions from a CSV (with a header row) or NDJSON upload of auction details. "
+                    + "Rows are validated like single creates and streamed back as NDJSON results, one per row."
+    )
     @ApiResponse(
             responseCode = "200",
-            description = "Bid placed successfully",
-            content = @Content(mediaType = "application/json", schema = @Schema(implementation = Auction.class))
+            description = "Upload processed; see each row's status",
+            content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE)
     )
-    public ResponseEntity<Auction> placeBid(
+    public void importAuctions(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream upload,
+            HttpServletResponse response
+    ) throws IOException {
+        AuctionImportReader.Format format = MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)
+                ? AuctionImportReader.Format.NDJSON
+                : AuctionImportReader.Format.CSV;
+        try (AuctionImportReader reader = auctionImportService.open(upload, format)) {
+            response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            auctionImportService.importAuctions(reader, response.getOutputStream());
+        }
+    }
+
+    @PostMapping("/bid")
+    @Operation(summary = "Place a bid", description = "Places a bid on an existing auction.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Bid placed successfully",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = Auction.class))
+            ),
+            @ApiResponse(
+                    responseCode = "422",
+                    description = "Bid rejected as outbid, closed or not started",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BidRejection.class))
+            )
+    })
+    public ResponseEntity<?> placeBid(
             @Valid @RequestBody BidDTO bidDTO
     ) {
-        Auction updatedAuction = auctionService.placeBid(bidDTO);
-        return ResponseEntity.ok(updatedAuction);
+        BidResult result = auctionService.placeBid(bidDTO);
+        if (!result.isAccepted()) {
+            return ResponseEntity.unprocessableEntity().body(result.getRejection());
+        }
+        return ResponseEntity.ok(result.getAuction());
     }
 
     @GetMapping("/{auctionId}")
@@ -69,6 +119,34 @@ public class AuctionController {
         return ResponseEntity.ok(auction);
     }
 
+    @GetMapping("/batch")
+    @Operation(
+            summary = "Get auction summaries in bulk",
+            description = "Retrieves summaries without bids for up to 100 auctions, in the order requested. Unknown IDs are omitted."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Auction summaries retrieved successfully",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = List.class))
+    )
+    public ResponseEntity<List<AuctionSummaryDTO>> getAuctionSummaries(
+            @Parameter(description = "IDs of the auctions to retrieve") @RequestParam List<String> ids
+    ) {
+        List<AuctionSummaryDTO> summaries = auctionService.getAuctionSummaries(ids);
+        return ResponseEntity.ok(summaries);
+    }
+
+    @GetMapping(value = "/{auctionId}/updates", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Subscribe to auction updates",
+            description = "Streams the auction as server-sent events whenever its state changes on any replica."
+    )
+    public SseEmitter subscribeToAuctionUpdates(
+            @Parameter(description = "ID of the auction to follow") @PathVariable String auctionId
+    ) {
+        return auctionUpdateBroadcaster.subscribe(auctionId);
+    }
+
     @GetMapping("/active")
     @Operation(summary = "Get active auctions", description = "Retrieves all active auctions.")
     @ApiResponse(
@@ -81,6 +159,45 @@ public class AuctionController {
         return ResponseEntity.ok(activeAuctions);
     }
 
+    @GetMapping("/active/ending-soon")
+    @Operation(
+            summary = "Get auctions ending soon",
+            description = "Retrieves live auctions ending within the given number of minutes, soonest first."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Auctions retrieved successfully",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = List.class))
+    )
+    public ResponseEntity<List<AuctionSummaryDTO>> getAuctionsEndingSoon(
+            @Parameter(description = "Window in minutes") @RequestParam(defaultValue = "60") long withinMinutes,
+            @Parameter(description = "Maximum number of auctions, up to 200") @RequestParam(defaultValue = "50") int limit
+    ) {
+        List<AuctionSummaryDTO> auctions = auctionService.getAuctionsEndingWithin(withinMinutes, limit);
+        return ResponseEntity.ok(auctions);
+    }
+
+    @GetMapping("/active/by-price")
+    @Operation(
+            summary = "Get auctions by price range",
+            description = "Retrieves live auctions whose current price is within the range, sorted by PRICE, BIDS or ENDING."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Auctions retrieved successfully",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = List.class))
+    )
+    public ResponseEntity<List<AuctionSummaryDTO>> getAuctionsByPriceRange(
+            @Parameter(description = "Minimum current price") @RequestParam(defaultValue = "0") double minPrice,
+            @Parameter(description = "Maximum current price") @RequestParam(required = false) Double maxPrice,
+            @Parameter(description = "Sort order") @RequestParam(defaultValue = "PRICE") AuctionSort sort,
+            @Parameter(description = "Maximum number of auctions, up to 200") @RequestParam(defaultValue = "50") int limit
+    ) {
+        List<AuctionSummaryDTO> auctions = auctionService.getAuctionsByPriceRange(
+                minPrice, maxPrice != null ? maxPrice : Double.MAX_VALUE, sort, limit);
+        return ResponseEntity.ok(auctions);
+    }
+
     @GetMapping("/artist/{artistId}")
     @Operation(summary = "Get auctions by artist", description = "Retrieves all auctions for a specific artist.")
     @ApiResponse(
@@ -0,0 +1,97 @@
+package com.artztall.auction_service.controller;
+
+import com.artztall.auction_service.dto.RecordingDTO;
+import com.artztall.auction_service.profiling.FlightRecordingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Flight recording endpoints. Recordings include the JVM's environment
+ * variables, system properties and command line, which can hold secrets, and
+ * these endpoints are not authenticated, so they only exist when
+ * {@code auction.profiling.enabled} is set. Enable it only on an instance
+ * that is not reachable from outside.
+ */
+@RestController
+@RequestMapping("/api/admin/recordings")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auction.profiling.enabled", havingValue = "true")
+@Tag(name = "Admin Controller", description = "Operational endpoints for this instance")
+public class FlightRecordingController {
+    private final FlightRecordingService flightRecordingService;
+
+    @PostMapping
+    @Operation(
+            summary = "Start a flight recording",
+            description = "Starts a bounded JDK Flight Recorder recording of this instance, including the auction bid, repository, close and serialization events. Only one recording runs at a time.",
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "Recording started"),
+                    @ApiResponse(responseCode = "400", description = "Invalid duration or settings"),
+                    @ApiResponse(responseCode = "409", description = "A recording is already running")
+            }
+    )
+    public ResponseEntity<RecordingDTO> startRecording(
+            @Parameter(description = "Seconds before the recording stops by itself") @RequestParam(defaultValue = "60") long durationSeconds,
+            @Parameter(description = "JFR settings, default or profile") @RequestParam(defaultValue = "profile") String settings
+    ) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(flightRecordingService.start(durationSeconds, settings));
+    }
+
+    @GetMapping
+    @Operation(
+            summary = "List flight recordings",
+            description = "Lists the running recording and any stopped one not yet downloaded.",
+            responses = @ApiResponse(responseCode = "200", description = "Successfully retrieved recordings")
+    )
+    public ResponseEntity<List<RecordingDTO>> getRecordings() {
+        return ResponseEntity.ok(flightRecordingService.list());
+    }
+
+    @PostMapping("/{recordingId}/stop")
+    @Operation(
+            summary = "Stop and download a flight recording",
+            description = "Stops the recording if it is still running and streams the .jfr file. The recording is discarded once downloaded.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Recording file streamed"),
+                    @ApiResponse(responseCode = "404", description = "Recording not found")
+            }
+    )
+    public ResponseEntity<StreamingResponseBody> stopRecording(
+            @Parameter(description = "ID of the recording") @PathVariable long recordingId
+    ) {
+        Path file = flightRecordingService.stop(recordingId);
+        StreamingResponseBody body = out -> {
+            try {
+                Files.copy(file, out);
+            } finally {
+                flightRecordingService.discard(recordingId);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .contentLength(file.toFile().length())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(file.getFileName().toString()).build().toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,48 @@
+package com.artztall.auction_service.controller;
+
+import com.artztall.auction_service.model.UserAuctionView;
+import com.artztall.auction_service.service.UserAuctionViewService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/auctions/users")
+@RequiredArgsConstructor
+@Tag(name = "User Auction Controller", description = "API for per-user auction dashboards")
+public class UserAuctionController {
+    private final UserAuctionViewService userAuctionViewService;
+
+    @GetMapping("/{userId}/bids")
+    @Operation(
+            summary = "Get auctions a user is bidding on",
+            description = "Retrieves open auctions the user has bid on, with leading/outbid status.",
+            responses = @ApiResponse(responseCode = "200", description = "Successfully retrieved user bids")
+    )
+    public ResponseEntity<List<UserAuctionView>> getActiveBids(
+            @Parameter(description = "ID of the user", required = true) @PathVariable String userId
+    ) {
+        return ResponseEntity.ok(userAuctionViewService.getActiveBids(userId));
+    }
+
+    @GetMapping("/{userId}/won")
+    @Operation(
+            summary = "Get auctions won by a user",
+            description = "Retrieves completed auctions the user won, with final prices.",
+            responses = @ApiResponse(responseCode = "200", description = "Successfully retrieved won auctions")
+    )
+    public ResponseEntity<List<UserAuctionView>> getWonAuctions(
+            @Parameter(description = "ID of the user", required = true) @PathVariable String userId
+    ) {
+        return ResponseEntity.ok(userAuctionViewService.getWonAuctions(userId));
+    }
+}
@@ -0,0 +1,22 @@
+package com.artztall.auction_service.dto;
+
+import com.artztall.auction_service.model.ArtistSalesRollup;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+public class ArtistSalesSummaryDTO {
+    private String artistId;
+    private LocalDate from;
+    private LocalDate to;
+    private long auctionsListed;
+    private long auctionsClosed;
+    private long auctionsSold;
+    private double sellThroughRate;
+    private double grossSales;
+    private double averageHammerPrice;
+    private long bidCount;
+    private List<ArtistSalesRollup> daily;
+}
@@ -0,0 +1,26 @@
+package com.artztall.auction_service.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AuctionImportResultDTO {
+    private int row;
+    private Status status;
+    private String auctionId;
+    private String error;
+
+    public enum Status {
+        /** Created. */
+        IMPORTED,
+        /** Failed validation; nothing was written. */
+        REJECTED,
+        /** Valid, but the insert failed; the row can be resubmitted. */
+        FAILED
+    }
+}
@@ -0,0 +1,23 @@
+package com.artztall.auction_service.dto;
+
+import com.artztall.auction_service.model.AuctionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AuctionSummaryDTO {
+    private String id;
+    private String title;
+    private String paintingUrl;
+    private String artistId;
+    private double currentPrice;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private AuctionStatus auctionStatus;
+    private String winnerId;
+}
@@ -0,0 +1,63 @@
+package com.artztall.auction_service.dto;
+
+import com.artztall.auction_service.model.Auction;
+import com.artztall.auction_service.model.AuctionStatus;
+import com.artztall.auction_service.model.BidOutcome;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * Response body for a bid that was not accepted. Carries no timestamp or
+ * bidder, so an instance can be reused for every losing bid against the
+ * same auction state; admission control does so for its price floors, while
+ * other paths build one per rejected bid.
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BidRejection {
+    private final String errorCode;
+    private final BidOutcome outcome;
+    private final String auctionId;
+    private final String message;
+    private final Double minimumNextBid;
+
+    private BidRejection(BidOutcome outcome, String auctionId, String message, Double minimumNextBid) {
+        this.errorCode = "BID_" + outcome.name();
+        this.outcome = outcome;
+        this.auctionId = auctionId;
+        this.message = message;
+        this.minimumNextBid = minimumNextBid;
+    }
+
+    public static BidRejection outbid(String auctionId, double minimumNextBid) {
+        return new BidRejection(BidOutcome.OUTBID, auctionId,
+                "Bid must be at least " + BigDecimal.valueOf(minimumNextBid), minimumNextBid);
+    }
+
+    public static BidRejection closed(String auctionId) {
+        return new BidRejection(BidOutcome.CLOSED, auctionId, "Auction is not active", null);
+    }
+
+    public static BidRejection notStarted(String auctionId, double minimumNextBid) {
+        return new BidRejection(BidOutcome.NOT_STARTED, auctionId, "Auction has not started yet", minimumNextBid);
+    }
+
+    public static BidRejection of(BidOutcome outcome, Auction auction) {
+        return switch (outcome) {
+            case OUTBID -> outbid(auction.getId(), auction.getCurrentPrice());
+            case NOT_STARTED -> notStarted(auction.getId(), auction.getCurrentPrice());
+            case CLOSED -> closed(auction.getId());
+            case ACCEPTED -> throw new IllegalArgumentException("Accepted bids have no rejection");
+        };
+    }
+
+    /**
+     * Outcome for a bid on an auction that is not taking bids, judged by
+     * status alone.
+     */
+    public static BidOutcome forStatus(AuctionStatus status) {
+        return AuctionStatus.PENDING.equals(status) ? BidOutcome.NOT_STARTED : BidOutcome.CLOSED;
+    }
+}
@@ -0,0 +1,35 @@
+package com.artztall.auction_service.dto;
+
+import com.artztall.auction_service.model.Auction;
+import com.artztall.auction_service.model.BidOutcome;
+import lombok.Getter;
+
+/**
+ * Result of placing a bid: the updated auction if the bid was accepted,
+ * otherwise the reason it was not. Losing bids are the common case during
+ * a bidding war, so they are returned rather than thrown.
+ */
+@Getter
+public class BidResult {
+    private final BidOutcome outcome;
+    private final Auction auction;
+    private final BidRejection rejection;
+
+    private BidResult(BidOutcome outcome, Auction auction, BidRejection rejection) {
+        this.outcome = outcome;
+        this.auction = auction;
+        this.rejection = rejection;
+    }
+
+    public static BidResult accepted(Auction auction) {
+        return new BidResult(BidOutcome.ACCEPTED, auction, null);
+    }
+
+    public static BidResult rejected(BidRejection rejection) {
+        return new BidResult(rejection.getOutcome(), null, rejection);
+    }
+
+    public boolean isAccepted() {
+        return outcome == BidOutcome.ACCEPTED;
+    }
+}
@@ -0,0 +1,17 @@
+package com.artztall.auction_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class HotAuctionDTO {
+    private String auctionId;
+    private long estimatedBidsInWindow;
+    private boolean hot;
+    private LocalDateTime promotedAt;
+}
@@ -0,0 +1,20 @@
+package com.artztall.auction_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RecordingDTO {
+    private long id;
+    private String name;
+    private String state;
+    private String settings;
+    private Instant startTime;
+    private long durationSeconds;
+    private long maxSizeBytes;
+}
@@ -0,0 +1,40 @@
+package com.artztall.auction_service.event;
+
+import com.artztall.auction_service.model.Auction;
+import lombok.Data;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Lifecycle event recorded in the auction's outbox together with the state
+ * change it describes. Delivery is at-least-once; consumers can deduplicate
+ * on {@link #id}.
+ */
+@Data
+public class AuctionEvent {
+    private String id;
+    private AuctionEventType type;
+    private String auctionId;
+    private String artistId;
+    private String title;
+    private String userId;
+    private String previousLeaderId;
+    private double amount;
+    private int bidCount;
+    private LocalDateTime occurredAt;
+
+    public static AuctionEvent of(AuctionEventType type, Auction auction, Clock clock) {
+        AuctionEvent event = new AuctionEvent();
+        event.setId(UUID.randomUUID().toString());
+        event.setType(type);
+        event.setAuctionId(auction.getId());
+        event.setArtistId(auction.getArtistId());
+        event.setTitle(auction.getTitle());
+        event.setAmount(auction.getCurrentPrice());
+        event.setBidCount(auction.getBidsCount());
+        event.setOccurredAt(LocalDateTime.now(clock));
+        return event;
+    }
+}
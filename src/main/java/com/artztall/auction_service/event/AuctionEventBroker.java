@@ -0,0 +1,11 @@
+package com.artztall.auction_service.event;
+
+import java.util.List;
+
+/**
+ * Transport used by the {@link OutboxDispatcher}. A message broker client can
+ * replace the in-process implementation by setting {@code auction.events.broker}.
+ */
+public interface AuctionEventBroker {
+    void publish(List<AuctionEvent> events);
+}
@@ -0,0 +1,5 @@
+package com.artztall.auction_service.event;
+
+public interface AuctionEventHandler {
+    void onEvent(AuctionEvent event);
+}
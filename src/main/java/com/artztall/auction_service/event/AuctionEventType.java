@@ -0,0 +1,5 @@
+package com.artztall.auction_service.event;
+
+public enum AuctionEventType {
+    AUCTION_CREATED, BID_PLACED, AUCTION_CLOSED, AUCTION_CANCELLED
+}
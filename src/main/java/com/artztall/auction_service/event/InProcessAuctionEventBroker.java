@@ -0,0 +1,29 @@
+package com.artztall.auction_service.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Delivers events synchronously to the {@link AuctionEventHandler}s in this
+ * application. Stands in for an external broker in development and tests.
+ * A handler failure fails the publish, so the events stay in the outbox and
+ * are delivered again, also to handlers that already saw them.
+ */
+@Component
+@ConditionalOnProperty(name = "auction.events.broker", havingValue = "in-process", matchIfMissing = true)
+@RequiredArgsConstructor
+public class InProcessAuctionEventBroker implements AuctionEventBroker {
+    private final List<AuctionEventHandler> handlers;
+
+    @Override
+    public void publish(List<AuctionEvent> events) {
+        for (AuctionEvent event : events) {
+            for (AuctionEventHandler handler : handlers) {
+                handler.onEvent(event);
+            }
+        }
+    }
+}
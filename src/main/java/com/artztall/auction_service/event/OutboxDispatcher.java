@@ -0,0 +1,112 @@
+package com.artztall.auction_service.event;
+
+import com.artztall.auction_service.config.MongoWriteConcerns;
+import com.artztall.auction_service.model.Auction;
+import com.artztall.auction_service.shedular.SchedulerLease;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Drains the per-auction outboxes and hands the events to the configured
+ * {@link AuctionEventBroker} in batches.
+ * <p>
+ * Events are written into {@code pendingEvents} by the same document update as
+ * the state change, so they are never lost or published for a write that
+ * failed. Only the replica holding the dispatcher lease publishes; each
+ * auction's events are published together and pulled from its outbox only
+ * after the broker accepted them. If publishing fails they stay and are
+ * retried on the next run, so consumers must tolerate redelivery. The pull
+ * bumps the auction's version so a save based on an earlier read cannot put
+ * published events back.
+ */
+@Component
+@Slf4j
+public class OutboxDispatcher {
+    private static final String LEASE_NAME = "auction-outbox-dispatcher";
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoWriteConcerns writeConcerns;
+    private final AuctionEventBroker eventBroker;
+    private final SchedulerLease schedulerLease;
+    private final int batchSize;
+
+    public OutboxDispatcher(
+            MongoTemplate mongoTemplate,
+            MongoWriteConcerns writeConcerns,
+            AuctionEventBroker eventBroker,
+            SchedulerLease schedulerLease,
+            @Value("${auction.outbox.batch-size:200}") int batchSize
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.writeConcerns = writeConcerns;
+        this.eventBroker = eventBroker;
+        this.schedulerLease = schedulerLease;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${auction.outbox.dispatch-interval-ms:1000}")
+    public void dispatch() {
+        if (!schedulerLease.tryAcquire(LEASE_NAME, Duration.ofSeconds(30))) {
+            return;
+        }
+        int published;
+        do {
+            published = dispatchBatch();
+        } while (published >= batchSize);
+    }
+
+    private int dispatchBatch() {
+        Query query = new Query(where("pendingEvents.0").exists(true)).limit(batchSize);
+        query.fields().include("pendingEvents");
+        List<Auction> auctions = new ArrayList<>(mongoTemplate.find(query, Auction.class));
+        if (auctions.isEmpty()) {
+            return 0;
+        }
+
+        auctions.sort(Comparator.comparing(OutboxDispatcher::firstOccurredAt, Comparator.nullsFirst(Comparator.naturalOrder())));
+        BulkOperations acknowledgements = writeConcerns.bulkOps(mongoTemplate, MongoWriteConcerns.WriteClass.BOOKKEEPING,
+                BulkOperations.BulkMode.UNORDERED, Auction.class);
+        int published = 0;
+        for (Auction auction : auctions) {
+            List<AuctionEvent> events = auction.getPendingEvents();
+            // Creation events are recorded before Mongo assigns the id.
+            events.forEach(event -> event.setAuctionId(auction.getId()));
+            try {
+                eventBroker.publish(events);
+            } catch (RuntimeException e) {
+                log.error("Publishing {} events for auction {} failed, will retry", events.size(), auction.getId(), e);
+                continue;
+            }
+            List<String> eventIds = events.stream().map(AuctionEvent::getId).toList();
+            acknowledgements.updateOne(
+                    new Query(where("_id").is(auction.getId())),
+                    new Update().pull("pendingEvents", Query.query(where("id").in(eventIds))).inc("version", 1)
+            );
+            published++;
+        }
+        if (published > 0) {
+            acknowledgements.execute();
+        }
+
+        log.debug("Dispatched events from {} of {} outboxes", published, auctions.size());
+        return published;
+    }
+
+    private static LocalDateTime firstOccurredAt(Auction auction) {
+        return auction.getPendingEvents().get(0).getOccurredAt();
+    }
+}
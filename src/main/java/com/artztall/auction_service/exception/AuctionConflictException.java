@@ -0,0 +1,9 @@
+package com.artztall.auction_service.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class AuctionConflictException extends AuctionBaseException {
+    public AuctionConflictException(String message) {
+        super(message, HttpStatus.CONFLICT, "AUCTION_CONFLICT");
+    }
+}
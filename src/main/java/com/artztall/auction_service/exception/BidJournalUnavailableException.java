@@ -0,0 +1,9 @@
+package com.artztall.auction_service.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class BidJournalUnavailableException extends AuctionBaseException {
+    public BidJournalUnavailableException(String message) {
+        super(message, HttpStatus.SERVICE_UNAVAILABLE, "BID_JOURNAL_UNAVAILABLE");
+    }
+}
@@ -0,0 +1,9 @@
+package com.artztall.auction_service.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class BidRateLimitException extends AuctionBaseException {
+    public BidRateLimitException(String message) {
+        super(message, HttpStatus.TOO_MANY_REQUESTS, "BID_RATE_LIMITED");
+    }
+}
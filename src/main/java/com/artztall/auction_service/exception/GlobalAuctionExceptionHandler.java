@@ -2,6 +2,7 @@ package com.artztall.auction_service.exception;
 
 
 import lombok.Getter;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -21,6 +22,18 @@ public class GlobalAuctionExceptionHandler {
         return new ResponseEntity<>(error, ex.getStatus());
     }
 
+    @ExceptionHandler(BidRateLimitException.class)
+    public ResponseEntity<ErrorResponse> handleBidRateLimitException(BidRateLimitException ex) {
+        ErrorResponse error = new ErrorResponse(
+                ex.getErrorCode(),
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(ex.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGeneralException(Exception ex) {
         ErrorResponse error = new ErrorResponse(
@@ -33,11 +46,14 @@ public class GlobalAuctionExceptionHandler {
 
     @Getter
     public static class ErrorResponse {
-        private String errorCode;
-        private String message;
-        private LocalDateTime timestamp;
+        private final String errorCode;
+        private final String message;
+        private final LocalDateTime timestamp;
 
-        public ErrorResponse(String errorCode, String message, LocalDateTime now) {
+        public ErrorResponse(String errorCode, String message, LocalDateTime timestamp) {
+            this.errorCode = errorCode;
+            this.message = message;
+            this.timestamp = timestamp;
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.artztall.auction_service.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class RecordingException extends AuctionBaseException {
+    public RecordingException(String message, HttpStatus status) {
+        super(message, status, "RECORDING_ERROR");
+    }
+}
@@ -0,0 +1,469 @@
+package com.artztall.auction_service.journal;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only, memory-mapped write-ahead journal of accepted bids.
+ * <p>
+ * Appends copy the record into the mapped segment and return a future that
+ * completes once a flusher thread has forced it to disk; the flusher forces
+ * everything appended since its last pass at once, so concurrent bids share
+ * an fsync. Records are {@code [length][crc32][payload]}; the length is
+ * written last, and on open a torn or corrupt tail is cut off at the first
+ * record whose checksum does not match.
+ * <p>
+ * The {@link BidJournalApplier} reads durable entries in order and
+ * checkpoints how far it got; segments entirely before the checkpoint are
+ * deleted. Until an entry is applied its amount is kept as the auction's
+ * pending price, so bids accepted meanwhile are validated against it.
+ * <p>
+ * If forcing to disk fails the journal stops: every append waiting on the
+ * flush and every later one fails, and a restart recovers whatever reached
+ * the disk. An append not durable within {@code ack-timeout-ms} fails too.
+ */
+@Component
+@ConditionalOnProperty(name = "auction.bid-journal.enabled", havingValue = "true")
+@Slf4j
+public class BidJournal {
+    private static final String SEGMENT_PREFIX = "bids-";
+    private static final String SEGMENT_SUFFIX = ".wal";
+    private static final String CHECKPOINT_FILE = "applied.pos";
+    private static final int HEADER_BYTES = 8;
+    private static final int LOCK_STRIPES = 64;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long maxFlushDelayNanos;
+    private final long ackTimeoutMillis;
+
+    private final Map<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final Condition appended = appendLock.newCondition();
+    private final ArrayDeque<PendingFlush> awaitingFlush = new ArrayDeque<>();
+    private final Lock[] auctionLocks = new Lock[LOCK_STRIPES];
+    private final Map<String, Double> pendingPrices = new ConcurrentHashMap<>();
+    private final AtomicLong pendingEntries = new AtomicLong();
+    private final Timer fsyncTimer;
+
+    private Segment writeSegment;
+    private volatile Position durable;
+    private volatile boolean running = true;
+    private volatile RuntimeException failure;
+    private final Thread flusher;
+
+    public BidJournal(
+            MeterRegistry meterRegistry,
+            @Value("${auction.bid-journal.directory:./data/bid-journal}") Path directory,
+            @Value("${auction.bid-journal.segment-size-bytes:67108864}") int segmentSize,
+            @Value("${auction.bid-journal.max-flush-delay-us:200}") long maxFlushDelayMicros,
+            @Value("${auction.bid-journal.ack-timeout-ms:2000}") long ackTimeoutMillis
+    ) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxFlushDelayNanos = TimeUnit.MICROSECONDS.toNanos(maxFlushDelayMicros);
+        this.ackTimeoutMillis = ackTimeoutMillis;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            auctionLocks[i] = new ReentrantLock();
+        }
+
+        Files.createDirectories(directory);
+        recover();
+
+        this.fsyncTimer = Timer.builder("auction.bid.journal.fsync")
+                .description("Time to force journal appends to disk")
+                .register(meterRegistry);
+        Gauge.builder("auction.bid.journal.pending", pendingEntries, AtomicLong::get)
+                .description("Journaled bids not yet applied to Mongo")
+                .register(meterRegistry);
+
+        this.flusher = new Thread(this::flushLoop, "bid-journal-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * Serializes validation and append of bids on the same auction.
+     */
+    public Lock lockFor(String auctionId) {
+        return auctionLocks[Math.floorMod(auctionId.hashCode(), LOCK_STRIPES)];
+    }
+
+    /**
+     * Highest journaled amount for the auction that Mongo does not reflect yet.
+     */
+    public OptionalDouble pendingPrice(String auctionId) {
+        Double price = pendingPrices.get(auctionId);
+        return price != null ? OptionalDouble.of(price) : OptionalDouble.empty();
+    }
+
+    /**
+     * Appends a bid and returns a future that completes once it is on disk,
+     * or exceptionally if the journal has failed or the flush takes longer
+     * than the acknowledgement timeout.
+     */
+    public CompletableFuture<Void> append(JournaledBid bid) {
+        byte[] payload = bid.encode();
+        if (payload.length + HEADER_BYTES > segmentSize) {
+            throw new IllegalArgumentException("Journal record larger than a segment");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        CompletableFuture<Void> flushed = new CompletableFuture<>();
+        appendLock.lock();
+        try {
+            if (!running) {
+                throw new IllegalStateException("Bid journal is closed");
+            }
+            if (failure != null) {
+                return CompletableFuture.failedFuture(failure);
+            }
+            if (writeSegment.buffer.remaining() < HEADER_BYTES + payload.length) {
+                try {
+                    roll();
+                } catch (RuntimeException e) {
+                    fail(e);
+                    return CompletableFuture.failedFuture(e);
+                }
+            }
+            MappedByteBuffer buffer = writeSegment.buffer;
+            int offset = buffer.position();
+            buffer.putInt(offset + 4, (int) crc.getValue());
+            buffer.put(offset + HEADER_BYTES, payload);
+            buffer.putInt(offset, payload.length);
+            buffer.position(offset + HEADER_BYTES + payload.length);
+
+            pendingPrices.merge(bid.auctionId(), bid.amount(), Math::max);
+            pendingEntries.incrementAndGet();
+            awaitingFlush.add(new PendingFlush(new Position(writeSegment.number, buffer.position()), flushed));
+            appended.signal();
+        } finally {
+            appendLock.unlock();
+        }
+        return flushed.orTimeout(ackTimeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Reads up to {@code max} durable entries starting at {@code from}.
+     */
+    public List<Entry> read(Position from, int max) {
+        Position limit = durable;
+        List<Entry> entries = new ArrayList<>();
+        Position position = from;
+        while (entries.size() < max && position.compareTo(limit) < 0) {
+            Segment segment = segments.get(position.segment());
+            if (segment == null) {
+                break;
+            }
+            ByteBuffer view = segment.buffer.duplicate();
+            int offset = position.offset();
+            int length = offset + HEADER_BYTES <= view.capacity() ? view.getInt(offset) : 0;
+            if (length == 0) {
+                position = new Position(position.segment() + 1, 0);
+                continue;
+            }
+            byte[] payload = new byte[length];
+            view.get(offset + HEADER_BYTES, payload);
+            position = new Position(position.segment(), offset + HEADER_BYTES + length);
+            entries.add(new Entry(JournaledBid.decode(payload), position));
+        }
+        return entries;
+    }
+
+    /**
+     * Marks a journaled bid as reflected in Mongo.
+     */
+    public void applied(JournaledBid bid) {
+        pendingPrices.computeIfPresent(bid.auctionId(), (id, price) -> price <= bid.amount() ? null : price);
+        pendingEntries.decrementAndGet();
+    }
+
+    public Position appliedPosition() {
+        Path file = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(file)) {
+            return segments.isEmpty() ? new Position(0, 0) : new Position(segments.keySet().iterator().next(), 0);
+        }
+        try {
+            ByteBuffer checkpoint = ByteBuffer.wrap(Files.readAllBytes(file));
+            return new Position(checkpoint.getLong(), checkpoint.getInt());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Persists the applied position and deletes segments wholly before it.
+     */
+    public void checkpoint(Position applied) {
+        try {
+            Path file = directory.resolve(CHECKPOINT_FILE);
+            Path temp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+            Files.write(temp, ByteBuffer.allocate(12).putLong(applied.segment()).putInt(applied.offset()).array());
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Failed to checkpoint bid journal at {}", applied, e);
+            return;
+        }
+        for (Segment segment : segments.values()) {
+            if (segment.number >= applied.segment() || segment == writeSegment) {
+                break;
+            }
+            segments.remove(segment.number);
+            segment.delete();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        appendLock.lock();
+        try {
+            running = false;
+            appended.signal();
+        } finally {
+            appendLock.unlock();
+        }
+        flusher.join(TimeUnit.SECONDS.toMillis(5));
+        segments.values().forEach(Segment::close);
+    }
+
+    private void flushLoop() {
+        while (true) {
+            Segment segment;
+            Position target;
+            appendLock.lock();
+            try {
+                while (running && awaitingFlush.isEmpty()) {
+                    appended.awaitUninterruptibly();
+                }
+                if (awaitingFlush.isEmpty()) {
+                    return;
+                }
+            } finally {
+                appendLock.unlock();
+            }
+            // Give concurrent appenders a moment to join this fsync.
+            if (maxFlushDelayNanos > 0) {
+                LockSupport.parkNanos(maxFlushDelayNanos);
+            }
+            appendLock.lock();
+            try {
+                segment = writeSegment;
+                target = new Position(segment.number, segment.buffer.position());
+            } finally {
+                appendLock.unlock();
+            }
+
+            long started = System.nanoTime();
+            try {
+                force(segment.buffer);
+            } catch (RuntimeException e) {
+                appendLock.lock();
+                try {
+                    fail(e);
+                } finally {
+                    appendLock.unlock();
+                }
+                return;
+            }
+            fsyncTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+
+            List<PendingFlush> completed = new ArrayList<>();
+            appendLock.lock();
+            try {
+                durable = target;
+                while (!awaitingFlush.isEmpty() && awaitingFlush.peek().position().compareTo(target) <= 0) {
+                    completed.add(awaitingFlush.poll());
+                }
+            } finally {
+                appendLock.unlock();
+            }
+            completed.forEach(pending -> pending.future().complete(null));
+        }
+    }
+
+    /**
+     * Stops the journal after a failed write: fails every append still
+     * waiting for a flush, and later ones fail fast. Called with the append
+     * lock held.
+     */
+    private void fail(RuntimeException e) {
+        log.error("Bid journal failed to write to disk; rejecting journaled bids until restart", e);
+        failure = e;
+        PendingFlush pending;
+        while ((pending = awaitingFlush.poll()) != null) {
+            pending.future().completeExceptionally(e);
+        }
+    }
+
+    void force(MappedByteBuffer buffer) {
+        buffer.force();
+    }
+
+    private void roll() {
+        // Earlier data must be durable before later segments are, so force before moving on.
+        force(writeSegment.buffer);
+        try {
+            writeSegment = Segment.open(segmentPath(writeSegment.number + 1), writeSegment.number + 1, segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        segments.put(writeSegment.number, writeSegment);
+    }
+
+    private void recover() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(BidJournal::isSegment).toList()) {
+                long number = Long.parseLong(file.getFileName().toString()
+                        .substring(SEGMENT_PREFIX.length(), file.getFileName().toString().length() - SEGMENT_SUFFIX.length()));
+                segments.put(number, Segment.open(file, number, segmentSize));
+            }
+        }
+        if (segments.isEmpty()) {
+            writeSegment = Segment.open(segmentPath(0), 0, segmentSize);
+            segments.put(0L, writeSegment);
+            durable = new Position(0, 0);
+            return;
+        }
+
+        Position applied = appliedPosition();
+        for (Segment segment : segments.values()) {
+            int pendingFrom = segment.number < applied.segment() ? Integer.MAX_VALUE
+                    : segment.number == applied.segment() ? applied.offset() : 0;
+            segment.buffer.position(scan(segment, pendingFrom));
+            writeSegment = segment;
+        }
+        durable = new Position(writeSegment.number, writeSegment.buffer.position());
+        log.info("Recovered bid journal with {} unapplied bids", pendingEntries.get());
+    }
+
+    /**
+     * Finds the end of the valid records in a segment, zeroing any torn tail,
+     * and registers those at or after {@code pendingFrom} as pending.
+     */
+    private int scan(Segment segment, int pendingFrom) {
+        MappedByteBuffer buffer = segment.buffer;
+        int offset = 0;
+        while (offset + HEADER_BYTES <= buffer.capacity()) {
+            int length = buffer.getInt(offset);
+            if (length <= 0 || offset + HEADER_BYTES + length > buffer.capacity()) {
+                break;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(offset + HEADER_BYTES, payload);
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            if ((int) crc.getValue() != buffer.getInt(offset + 4)) {
+                break;
+            }
+            if (offset >= pendingFrom) {
+                JournaledBid bid = JournaledBid.decode(payload);
+                pendingPrices.merge(bid.auctionId(), bid.amount(), Math::max);
+                pendingEntries.incrementAndGet();
+            }
+            offset += HEADER_BYTES + length;
+        }
+        if (offset + HEADER_BYTES <= buffer.capacity() && buffer.getInt(offset) != 0) {
+            log.warn("Truncating torn bid journal record in segment {} at offset {}", segment.number, offset);
+            byte[] zeros = new byte[64 * 1024];
+            for (int i = offset; i < buffer.capacity(); i += zeros.length) {
+                buffer.put(i, zeros, 0, Math.min(zeros.length, buffer.capacity() - i));
+            }
+            buffer.force();
+        }
+        return offset;
+    }
+
+    private Path segmentPath(long number) {
+        return directory.resolve(String.format("%s%016d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+    }
+
+    private static boolean isSegment(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+
+    public record Position(long segment, int offset) implements Comparable<Position> {
+        @Override
+        public int compareTo(Position other) {
+            int bySegment = Long.compare(segment, other.segment);
+            return bySegment != 0 ? bySegment : Integer.compare(offset, other.offset);
+        }
+    }
+
+    public record Entry(JournaledBid bid, Position next) {
+    }
+
+    private record PendingFlush(Position position, CompletableFuture<Void> future) {
+    }
+
+    private static final class Segment {
+        private final long number;
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+
+        private Segment(long number, Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.number = number;
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        static Segment open(Path path, long number, int size) throws IOException {
+            FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(size, channel.size()));
+            return new Segment(number, path, channel, buffer);
+        }
+
+        void close() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.debug("Failed to close bid journal segment {}", path, e);
+            }
+        }
+
+        void delete() {
+            close();
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("Failed to delete applied bid journal segment {}", path, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.artztall.auction_service.journal;
+
+import com.artztall.auction_service.exception.AuctionBaseException;
+import com.artztall.auction_service.exception.AuctionConflictException;
+import com.artztall.auction_service.model.BidOutcome;
+import com.artztall.auction_service.service.AuctionServiceImpl;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drains the {@link BidJournal} into Mongo in journal order, starting from
+ * the last checkpoint, so bids journaled before a crash are replayed on the
+ * next start. A bid that no longer validates when applied, e.g. because a
+ * higher bid reached Mongo through another replica first, is dropped and
+ * counted; a bid that fails for any other reason is retried in place so
+ * order is preserved.
+ */
+@Component
+@ConditionalOnProperty(name = "auction.bid-journal.enabled", havingValue = "true")
+@Slf4j
+public class BidJournalApplier implements SmartLifecycle {
+    private static final long IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long FAILURE_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long CHECKPOINT_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private final BidJournal bidJournal;
+    private final AuctionServiceImpl auctionService;
+    private final int batchSize;
+    private final Counter appliedBids;
+    private final Counter rejectedBids;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public BidJournalApplier(
+            BidJournal bidJournal,
+            AuctionServiceImpl auctionService,
+            MeterRegistry meterRegistry,
+            @Value("${auction.bid-journal.apply-batch-size:100}") int batchSize
+    ) {
+        this.bidJournal = bidJournal;
+        this.auctionService = auctionService;
+        this.batchSize = batchSize;
+        this.appliedBids = Counter.builder("auction.bid.journal.applied").register(meterRegistry);
+        this.rejectedBids = Counter.builder("auction.bid.journal.rejected")
+                .description("Journaled bids that no longer validated when applied")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "bid-journal-applier");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            LockSupport.unpark(worker);
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        BidJournal.Position position = bidJournal.appliedPosition();
+        long lastCheckpoint = System.nanoTime();
+        while (running) {
+            List<BidJournal.Entry> entries = bidJournal.read(position, batchSize);
+            for (BidJournal.Entry entry : entries) {
+                if (!apply(entry.bid())) {
+                    break;
+                }
+                bidJournal.applied(entry.bid());
+                position = entry.next();
+            }
+            if (System.nanoTime() - lastCheckpoint > CHECKPOINT_INTERVAL_NANOS) {
+                bidJournal.checkpoint(position);
+                lastCheckpoint = System.nanoTime();
+            }
+            if (entries.isEmpty()) {
+                LockSupport.parkNanos(IDLE_WAIT_NANOS);
+            }
+        }
+        bidJournal.checkpoint(position);
+    }
+
+    /**
+     * @return false if the bid should be retried later
+     */
+    private boolean apply(JournaledBid bid) {
+        try {
+            BidOutcome outcome = auctionService.applyJournaledBid(bid);
+            if (outcome == BidOutcome.ACCEPTED) {
+                appliedBids.increment();
+            } else {
+                rejectedBids.increment();
+                log.warn("Dropping journaled bid {} on auction {}: {}", bid.bidId(), bid.auctionId(), outcome);
+            }
+            return true;
+        } catch (AuctionConflictException e) {
+            log.debug("Conflict applying journaled bid {}, retrying", bid.bidId());
+        } catch (AuctionBaseException e) {
+            rejectedBids.increment();
+            log.warn("Dropping journaled bid {} on auction {}: {}", bid.bidId(), bid.auctionId(), e.getMessage());
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Failed to apply journaled bid {}, retrying", bid.bidId(), e);
+        }
+        LockSupport.parkNanos(FAILURE_BACKOFF_NANOS);
+        return false;
+    }
+}
@@ -0,0 +1,46 @@
+package com.artztall.auction_service.journal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * A bid accepted into the journal. {@code bidId} becomes the ID of the
+ * persisted bid, so replaying an entry that already reached Mongo is a no-op.
+ */
+public record JournaledBid(String bidId, String auctionId, String userId, double amount, LocalDateTime acceptedAt) {
+
+    byte[] encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(bidId);
+            out.writeUTF(auctionId);
+            out.writeUTF(userId);
+            out.writeDouble(amount);
+            out.writeLong(acceptedAt.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(acceptedAt.getNano());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static JournaledBid decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            return new JournaledBid(
+                    in.readUTF(),
+                    in.readUTF(),
+                    in.readUTF(),
+                    in.readDouble(),
+                    LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC)
+            );
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
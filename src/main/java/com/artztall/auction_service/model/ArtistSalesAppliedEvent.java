@@ -0,0 +1,25 @@
+package com.artztall.auction_service.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Marks an auction event as counted in the artist sales rollups. Markers
+ * expire after a week, well past any redelivery of the event.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "artist_sales_applied_events")
+public class ArtistSalesAppliedEvent {
+    @Id
+    private String eventId;
+    @Indexed(name = "applied_at_ttl", expireAfter = "7d")
+    private LocalDateTime appliedAt;
+}
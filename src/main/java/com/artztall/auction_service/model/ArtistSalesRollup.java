@@ -0,0 +1,30 @@
+package com.artztall.auction_service.model;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDate;
+
+/**
+ * Per-artist, per-day sales counters, incremented from auction events.
+ */
+@Data
+@Document(collection = "artist_sales_rollups")
+@CompoundIndex(name = "artist_day", def = "{'artistId': 1, 'day': 1}")
+public class ArtistSalesRollup {
+    @Id
+    private String id;
+    private String artistId;
+    private LocalDate day;
+    private long auctionsListed;
+    private long auctionsClosed;
+    private long auctionsSold;
+    private double grossSales;
+    private long bidCount;
+
+    public static String idFor(String artistId, LocalDate day) {
+        return artistId + ":" + day;
+    }
+}
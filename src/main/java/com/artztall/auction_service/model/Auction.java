@@ -1,7 +1,10 @@
 package com.artztall.auction_service.model;
 
+import com.artztall.auction_service.event.AuctionEvent;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Data;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.math.BigDecimal;
@@ -14,6 +17,8 @@ import java.util.List;
 public class Auction {
     @Id
     private String id;
+    @Version
+    private Long version;
     private String title;
     private String description;
     private String paintingUrl;
@@ -28,9 +33,12 @@ public class Auction {
     private PaymentStatus paymentStatus;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    @JsonIgnore
+    private List<AuctionEvent> pendingEvents;
 
     public Auction() {
         this.bids = new ArrayList<>();
+        this.pendingEvents = new ArrayList<>();
     }
 
     public boolean hasBids() {
@@ -51,6 +59,39 @@ public class Auction {
         bids.add(bid);
     }
 
+    public void recordEvent(AuctionEvent event) {
+        if (pendingEvents == null) {
+            pendingEvents = new ArrayList<>();
+        }
+        pendingEvents.add(event);
+    }
+
+    /**
+     * Copy with its own bid and event lists, safe to modify when the
+     * original is shared.
+     */
+    public Auction copy() {
+        Auction copy = new Auction();
+        copy.setId(id);
+        copy.setVersion(version);
+        copy.setTitle(title);
+        copy.setDescription(description);
+        copy.setPaintingUrl(paintingUrl);
+        copy.setArtistId(artistId);
+        copy.setStartingPrice(startingPrice);
+        copy.setCurrentPrice(currentPrice);
+        copy.setStartTime(startTime);
+        copy.setEndTime(endTime);
+        copy.setAuctionStatus(auctionStatus);
+        copy.setBids(bids != null ? new ArrayList<>(bids) : new ArrayList<>());
+        copy.setWinnerId(winnerId);
+        copy.setPaymentStatus(paymentStatus);
+        copy.setCreatedAt(createdAt);
+        copy.setUpdatedAt(updatedAt);
+        copy.setPendingEvents(pendingEvents != null ? new ArrayList<>(pendingEvents) : new ArrayList<>());
+        return copy;
+    }
+
     public int getBidsCount() {
         return bids != null ? bids.size() : 0;
     }
@@ -0,0 +1,25 @@
+package com.artztall.auction_service.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * What a browsing listing needs to know about an active auction: its summary
+ * fields and how many bids it has, without the bids themselves.
+ */
+public record AuctionListing(
+        String id,
+        Long version,
+        String title,
+        String paintingUrl,
+        String artistId,
+        double currentPrice,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        int bidsCount
+) {
+    public static AuctionListing of(Auction auction) {
+        return new AuctionListing(auction.getId(), auction.getVersion(), auction.getTitle(), auction.getPaintingUrl(),
+                auction.getArtistId(), auction.getCurrentPrice(), auction.getStartTime(), auction.getEndTime(),
+                auction.getBidsCount());
+    }
+}
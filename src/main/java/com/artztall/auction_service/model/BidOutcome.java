@@ -0,0 +1,5 @@
+package com.artztall.auction_service.model;
+
+public enum BidOutcome {
+    ACCEPTED, OUTBID, CLOSED, NOT_STARTED
+}
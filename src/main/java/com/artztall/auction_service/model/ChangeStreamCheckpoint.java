@@ -0,0 +1,16 @@
+package com.artztall.auction_service.model;
+
+import lombok.Data;
+import org.bson.Document;
+import org.springframework.data.annotation.Id;
+
+import java.time.LocalDateTime;
+
+@Data
+@org.springframework.data.mongodb.core.mapping.Document(collection = "change_stream_checkpoints")
+public class ChangeStreamCheckpoint {
+    @Id
+    private String id;
+    private Document resumeToken;
+    private LocalDateTime updatedAt;
+}
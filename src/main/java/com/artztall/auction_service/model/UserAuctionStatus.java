@@ -0,0 +1,5 @@
+package com.artztall.auction_service.model;
+
+public enum UserAuctionStatus {
+    LEADING, OUTBID, WON, LOST, CANCELLED
+}
@@ -0,0 +1,35 @@
+package com.artztall.auction_service.model;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * One user's standing in one auction, maintained from auction events so that
+ * dashboards never need to scan auction bid arrays.
+ */
+@Data
+@Document(collection = "user_auction_views")
+@CompoundIndex(name = "user_status_updated", def = "{'userId': 1, 'status': 1, 'updatedAt': -1}")
+public class UserAuctionView {
+    @Id
+    private String id;
+    private String userId;
+    @Indexed
+    private String auctionId;
+    private String title;
+    private double myHighestBid;
+    private double currentPrice;
+    private Double finalPrice;
+    private UserAuctionStatus status;
+    private LocalDateTime lastBidAt;
+    private LocalDateTime updatedAt;
+
+    public static String idFor(String userId, String auctionId) {
+        return userId + ":" + auctionId;
+    }
+}
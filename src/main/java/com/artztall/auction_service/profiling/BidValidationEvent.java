@@ -0,0 +1,35 @@
+package com.artztall.auction_service.profiling;
+
+import com.artztall.auction_service.model.BidOutcome;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.artztall.auction.BidValidation")
+@Label("Bid Validation")
+@Category({"Auction Service", "Bids"})
+@Description("Validation of one bid against the auction state it was checked against")
+@StackTrace(false)
+public class BidValidationEvent extends Event {
+    @Label("Auction ID")
+    private String auctionId;
+
+    @Label("Amount")
+    private double amount;
+
+    @Label("Outcome")
+    private String outcome;
+
+    public void finish(String auctionId, double amount, BidOutcome outcome) {
+        end();
+        if (shouldCommit()) {
+            this.auctionId = auctionId;
+            this.amount = amount;
+            this.outcome = outcome.name();
+            commit();
+        }
+    }
+}
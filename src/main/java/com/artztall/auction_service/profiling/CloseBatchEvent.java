@@ -0,0 +1,38 @@
+package com.artztall.auction_service.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.artztall.auction.CloseBatch")
+@Label("Close Batch")
+@Category({"Auction Service", "Closing"})
+@Description("One partition of expired auctions being closed")
+@StackTrace(false)
+public class CloseBatchEvent extends Event {
+    @Label("First Auction ID")
+    private String auctionId;
+
+    @Label("Auctions")
+    private int auctions;
+
+    @Label("Closed")
+    private int closed;
+
+    @Label("Outcome")
+    private String outcome;
+
+    public void finish(String firstAuctionId, int auctions, int closed, String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.auctionId = firstAuctionId;
+            this.auctions = auctions;
+            this.closed = closed;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
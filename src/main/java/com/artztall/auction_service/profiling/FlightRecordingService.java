@@ -0,0 +1,160 @@
+package com.artztall.auction_service.profiling;
+
+import com.artztall.auction_service.dto.RecordingDTO;
+import com.artztall.auction_service.exception.RecordingException;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * On-demand JDK Flight Recorder recordings of this instance, including the
+ * auction events in this package. Recordings are bounded by
+ * {@code auction.profiling.max-duration-seconds} and
+ * {@code auction.profiling.max-size-bytes}, and only one runs at a time. A
+ * recording is written to {@code auction.profiling.directory} when it stops
+ * and kept until it is downloaded or the next one starts. Only created when
+ * {@code auction.profiling.enabled} is set.
+ */
+@Service
+@ConditionalOnProperty(name = "auction.profiling.enabled", havingValue = "true")
+@Slf4j
+public class FlightRecordingService {
+    private static final Set<String> SETTINGS = Set.of("default", "profile");
+
+    private final Map<Long, Entry> recordings = new ConcurrentHashMap<>();
+    private final Path directory;
+    private final long maxDurationSeconds;
+    private final long maxSizeBytes;
+
+    public FlightRecordingService(
+            @Value("${auction.profiling.directory:./data/recordings}") String directory,
+            @Value("${auction.profiling.max-duration-seconds:300}") long maxDurationSeconds,
+            @Value("${auction.profiling.max-size-bytes:104857600}") long maxSizeBytes
+    ) {
+        this.directory = Paths.get(directory);
+        this.maxDurationSeconds = maxDurationSeconds;
+        this.maxSizeBytes = maxSizeBytes;
+    }
+
+    /**
+     * Starts a recording that stops by itself after {@code durationSeconds}.
+     *
+     * @param settings {@code default} for roughly 1% overhead, or
+     *                 {@code profile} to add method sampling and allocation
+     *                 profiling
+     */
+    public synchronized RecordingDTO start(long durationSeconds, String settings) {
+        if (durationSeconds < 1 || durationSeconds > maxDurationSeconds) {
+            throw new RecordingException("Duration must be between 1 and " + maxDurationSeconds + " seconds",
+                    HttpStatus.BAD_REQUEST);
+        }
+        if (!SETTINGS.contains(settings)) {
+            throw new RecordingException("Settings must be one of " + SETTINGS, HttpStatus.BAD_REQUEST);
+        }
+        if (recordings.values().stream().anyMatch(Entry::isRunning)) {
+            throw new RecordingException("A recording is already running", HttpStatus.CONFLICT);
+        }
+        List.copyOf(recordings.keySet()).forEach(this::discard);
+
+        Recording recording;
+        Path destination;
+        try {
+            recording = new Recording(Configuration.getConfiguration(settings));
+            recording.setName("auction-service-" + System.currentTimeMillis());
+            destination = Files.createDirectories(directory).resolve(recording.getName() + ".jfr");
+            recording.setDestination(destination);
+        } catch (IOException | ParseException e) {
+            throw new RecordingException("Could not set up a recording: " + e.getMessage(),
+                    HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+        recording.setToDisk(true);
+        recording.setDuration(Duration.ofSeconds(durationSeconds));
+        recording.setMaxSize(maxSizeBytes);
+        recording.start();
+
+        Entry entry = new Entry(recording, settings, destination);
+        recordings.put(recording.getId(), entry);
+        log.info("Started flight recording {} for {}s with {} settings", recording.getName(), durationSeconds, settings);
+        return entry.toDTO();
+    }
+
+    public List<RecordingDTO> list() {
+        return recordings.values().stream()
+                .map(Entry::toDTO)
+                .sorted(Comparator.comparingLong(RecordingDTO::getId))
+                .toList();
+    }
+
+    /**
+     * Stops the recording if it is still running.
+     *
+     * @return the recording file, which stays until {@link #discard}
+     */
+    public synchronized Path stop(long recordingId) {
+        Entry entry = recordings.get(recordingId);
+        if (entry == null) {
+            throw new RecordingException("Recording not found: " + recordingId, HttpStatus.NOT_FOUND);
+        }
+        if (entry.isRunning()) {
+            try {
+                entry.recording().stop();
+                log.info("Stopped flight recording {}", entry.recording().getName());
+            } catch (IllegalStateException e) {
+                // Reached its duration meanwhile and stopped by itself.
+            }
+        }
+        if (!Files.exists(entry.destination())) {
+            throw new RecordingException("Recording " + recordingId + " has no data", HttpStatus.GONE);
+        }
+        return entry.destination();
+    }
+
+    public void discard(long recordingId) {
+        Entry entry = recordings.remove(recordingId);
+        if (entry == null) {
+            return;
+        }
+        entry.recording().close();
+        try {
+            Files.deleteIfExists(entry.destination());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        List.copyOf(recordings.keySet()).forEach(this::discard);
+    }
+
+    private record Entry(Recording recording, String settings, Path destination) {
+        boolean isRunning() {
+            RecordingState state = recording.getState();
+            return state == RecordingState.NEW || state == RecordingState.DELAYED || state == RecordingState.RUNNING;
+        }
+
+        RecordingDTO toDTO() {
+            return new RecordingDTO(recording.getId(), recording.getName(), recording.getState().name(), settings,
+                    recording.getStartTime(), recording.getDuration().toSeconds(), recording.getMaxSize());
+        }
+    }
+}
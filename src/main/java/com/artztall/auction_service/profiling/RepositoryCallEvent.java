@@ -0,0 +1,55 @@
+package com.artztall.auction_service.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.function.Supplier;
+
+@Name("com.artztall.auction.RepositoryCall")
+@Label("Repository Call")
+@Category({"Auction Service", "Mongo"})
+@Description("One auction repository call made by the service, including mapping")
+@StackTrace(false)
+public class RepositoryCallEvent extends Event {
+    @Label("Operation")
+    private String operation;
+
+    @Label("Auction ID")
+    private String auctionId;
+
+    @Label("Outcome")
+    private String outcome;
+
+    /**
+     * Runs {@code call} as one event. {@code auctionId} may be null for
+     * calls spanning several auctions.
+     */
+    public static <T> T record(String operation, String auctionId, Supplier<T> call) {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        if (!event.isEnabled()) {
+            return call.get();
+        }
+        event.begin();
+        String outcome = "FAILED";
+        try {
+            T result = call.get();
+            outcome = "OK";
+            return result;
+        } catch (RuntimeException e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = operation;
+                event.auctionId = auctionId;
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+}
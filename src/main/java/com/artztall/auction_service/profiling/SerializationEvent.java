@@ -0,0 +1,38 @@
+package com.artztall.auction_service.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.artztall.auction.Serialization")
+@Label("Response Serialization")
+@Category({"Auction Service", "HTTP"})
+@Description("Writing one response body with a Jackson message converter")
+@StackTrace(false)
+public class SerializationEvent extends Event {
+    @Label("Format")
+    private String format;
+
+    @Label("Type")
+    private String type;
+
+    @Label("Auction ID")
+    private String auctionId;
+
+    @Label("Outcome")
+    private String outcome;
+
+    public void finish(String format, String type, String auctionId, boolean succeeded) {
+        end();
+        if (shouldCommit()) {
+            this.format = format;
+            this.type = type;
+            this.auctionId = auctionId;
+            this.outcome = succeeded ? "OK" : "FAILED";
+            commit();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.artztall.auction_service.repository;
+
+import com.artztall.auction_service.model.ArtistSalesRollup;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ArtistSalesRollupRepository extends MongoRepository<ArtistSalesRollup, String> {
+    @Query(value = "{ 'artistId': ?0, 'day': { $gte: ?1, $lte: ?2 } }", sort = "{ 'day': 1 }")
+    List<ArtistSalesRollup> findByArtistIdAndDayRange(String artistId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,99 @@
+package com.artztall.auction_service.repository;
+
+import com.artztall.auction_service.config.MongoReadPreferences;
+import com.artztall.auction_service.config.MongoWriteConcerns;
+import com.artztall.auction_service.model.Auction;
+import com.artztall.auction_service.model.AuctionStatus;
+import com.mongodb.client.model.CreateCollectionOptions;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Cold storage for settled auctions, in a zstd-compressed collection with the
+ * same document shape as {@code auctions}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuctionArchiveRepository {
+    static final String COLLECTION = "auctions_archive";
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoReadPreferences readPreferences;
+    private final MongoWriteConcerns writeConcerns;
+    private volatile boolean initialized;
+
+    public Optional<Auction> findById(String auctionId) {
+        return Optional.ofNullable(mongoTemplate.findById(auctionId, Auction.class, COLLECTION));
+    }
+
+    public List<Auction> findByAuctionStatus(AuctionStatus status) {
+        return findListing(where("auctionStatus").is(status));
+    }
+
+    public List<Auction> findByAuctionStatusAndWinnerId(AuctionStatus status, String winnerId) {
+        return findListing(where("auctionStatus").is(status).and("winnerId").is(winnerId));
+    }
+
+    public List<Auction> findByArtistIdAndAuctionStatusIn(String artistId, List<AuctionStatus> statuses) {
+        return findListing(where("artistId").is(artistId).and("auctionStatus").in(statuses));
+    }
+
+    /**
+     * Upserts by ID so a batch interrupted between archiving and deleting from
+     * the hot collection can simply be retried.
+     */
+    public void saveAll(List<Auction> auctions) {
+        ensureCollection();
+        BulkOperations bulk = writeConcerns.bulkOps(mongoTemplate, MongoWriteConcerns.WriteClass.AUCTION,
+                BulkOperations.BulkMode.UNORDERED, Auction.class, COLLECTION);
+        for (Auction auction : auctions) {
+            bulk.replaceOne(new Query(where("_id").is(auction.getId())), auction, FindAndReplaceOptions.options().upsert());
+        }
+        bulk.execute();
+    }
+
+    public List<Auction> findSummariesByIdIn(Collection<String> ids) {
+        Query query = new Query(where("_id").in(ids));
+        query.fields().include(AuctionListingRepository.SUMMARY_FIELDS);
+        return mongoTemplate.find(readPreferences.listing(query), Auction.class, COLLECTION);
+    }
+
+    private List<Auction> findListing(Criteria criteria) {
+        return mongoTemplate.find(readPreferences.listing(new Query(criteria)), Auction.class, COLLECTION);
+    }
+
+    private void ensureCollection() {
+        if (initialized) {
+            return;
+        }
+        synchronized (this) {
+            if (initialized) {
+                return;
+            }
+            if (!mongoTemplate.collectionExists(COLLECTION)) {
+                mongoTemplate.getDb().createCollection(COLLECTION, new CreateCollectionOptions()
+                        .storageEngineOptions(new Document("wiredTiger",
+                                new Document("configString", "block_compressor=zstd"))));
+            }
+            mongoTemplate.indexOps(COLLECTION).ensureIndex(new Index()
+                    .on("auctionStatus", Sort.Direction.ASC).on("winnerId", Sort.Direction.ASC));
+            mongoTemplate.indexOps(COLLECTION).ensureIndex(new Index()
+                    .on("artistId", Sort.Direction.ASC).on("auctionStatus", Sort.Direction.ASC));
+            initialized = true;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.artztall.auction_service.repository;
+
+import com.artztall.auction_service.model.Auction;
+
+import java.util.List;
+import java.util.Set;
+
+public interface AuctionClosingRepository {
+    /**
+     * Writes the outcome of closing the given auctions in one bulk write:
+     * status, winner, update time and the events recorded since they were
+     * loaded. Only auctions still ACTIVE in Mongo at the version they were
+     * loaded at are updated; one that took a bid or an extension meanwhile is
+     * left active and counted as not closed, so the next run retries it.
+     *
+     * @return the ids of the auctions closed by this call
+     */
+    Set<String> closeAll(List<Auction> auctions);
+}
@@ -0,0 +1,58 @@
+package com.artztall.auction_service.repository;
+
+import com.artztall.auction_service.config.MongoWriteConcerns;
+import com.artztall.auction_service.model.Auction;
+import com.artztall.auction_service.model.AuctionStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@RequiredArgsConstructor
+class AuctionClosingRepositoryImpl implements AuctionClosingRepository {
+    private final MongoTemplate mongoTemplate;
+    private final MongoWriteConcerns writeConcerns;
+
+    @Override
+    public Set<String> closeAll(List<Auction> auctions) {
+        if (auctions.isEmpty()) {
+            return Set.of();
+        }
+        BulkOperations bulk = writeConcerns.bulkOps(mongoTemplate, MongoWriteConcerns.WriteClass.AUCTION,
+                BulkOperations.BulkMode.UNORDERED, Auction.class);
+        for (Auction auction : auctions) {
+            Update update = new Update()
+                    .set("auctionStatus", auction.getAuctionStatus())
+                    .set("winnerId", auction.getWinnerId())
+                    .set("updatedAt", auction.getUpdatedAt())
+                    .inc("version", 1);
+            if (!auction.getPendingEvents().isEmpty()) {
+                update.push("pendingEvents").each(auction.getPendingEvents().toArray());
+            }
+            bulk.updateOne(new Query(where("_id").is(auction.getId())
+                            .and("auctionStatus").is(AuctionStatus.ACTIVE)
+                            .and("version").is(auction.getVersion())),
+                    update);
+        }
+        Set<String> ids = auctions.stream().map(Auction::getId).collect(Collectors.toCollection(HashSet::new));
+        if (bulk.execute().getModifiedCount() == auctions.size()) {
+            return ids;
+        }
+        // An unordered bulk write only reports a count; find which ones took this close's update time.
+        Query closed = new Query(where("_id").in(ids)
+                .and("auctionStatus").is(AuctionStatus.COMPLETED)
+                .and("updatedAt").is(auctions.get(0).getUpdatedAt()));
+        closed.fields().include("_id");
+        return mongoTemplate.find(closed, Auction.class).stream()
+                .map(Auction::getId)
+                .collect(Collectors.toSet());
+    }
+}
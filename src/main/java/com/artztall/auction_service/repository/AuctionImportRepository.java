@@ -0,0 +1,17 @@
+package com.artztall.auction_service.repository;
+
+import com.artztall.auction_service.model.Auction;
+
+import java.util.List;
+import java.util.Map;
+
+public interface AuctionImportRepository {
+    /**
+     * Inserts new auctions in one unordered bulk insert, so one bad document
+     * does not stop the rest. Auctions must already have their IDs.
+     *
+     * @return error messages for the auctions that were not inserted, by
+     * position in {@code auctions}
+     */
+    Map<Integer, String> insertAll(List<Auction> auctions);
+}
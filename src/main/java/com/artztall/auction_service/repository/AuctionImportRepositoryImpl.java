@@ -0,0 +1,36 @@
+package com.artztall.auction_service.repository;
+
+import com.artztall.auction_service.config.MongoWriteConcerns;
+import com.artztall.auction_service.model.Auction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+class AuctionImportRepositoryImpl implements AuctionImportRepository {
+    private final MongoTemplate mongoTemplate;
+    private final MongoWriteConcerns writeConcerns;
+
+    @Override
+    public Map<Integer, String> insertAll(List<Auction> auctions) {
+        if (auctions.isEmpty()) {
+            return Map.of();
+        }
+        BulkOperations bulk = writeConcerns.bulkOps(mongoTemplate, MongoWriteConcerns.WriteClass.AUCTION,
+                BulkOperations.BulkMode.UNORDERED, Auction.class);
+        bulk.insert(auctions);
+        try {
+            bulk.execute();
+            return Map.of();
+        } catch (BulkOperationException e) {
+            Map<Integer, String> failures = new HashMap<>();
+            e.getErrors().forEach(error -> failures.put(error.getIndex(), error.getMessage()));
+            return failures;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.artztall.auction_service.repository;
+
+import com.artztall.auction_service.model.Auction;
+import com.artztall.auction_service.model.AuctionListing;
+import com.artztall.auction_service.model.AuctionStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Listing queries on {@code auctions}, issued with the listing read
+ * preference so they can be served by secondaries.
+ */
+public interface AuctionListingRepository {
+    /**
+     * Fields needed for an {@code AuctionSummaryDTO}; bids and the outbox
+     * are left on the server.
+     */
+    String[] SUMMARY_FIELDS = {
+            "title", "paintingUrl", "artistId", "currentPrice", "startTime", "endTime", "auctionStatus", "winnerId"
+    };
+
+    List<Auction> findActiveAuctions(LocalDateTime currentTime);
+
+    /**
+     * The same auctions as {@link #findActiveAuctions}, projected to
+     * listings; bids are counted on the server rather than returned.
+     */
+    List<AuctionListing> findActiveListings(LocalDateTime currentTime);
+
+    List<Auction> findByArtistIdAndAuctionStatusIn(String artistId, List<AuctionStatus> statuses);
+
+    List<Auction> searchAuctionsByKeyword(String keyword);
+
+    List<Auction> findByAuctionStatus(AuctionStatus status);
+
+    List<Auction> findByAuctionStatusAndWinnerId(AuctionStatus status, String winnerId);
+
+    /**
+     * Batch lookup projected to {@link #SUMMARY_FIELDS}. The returned
+     * auctions are partial and must not be cached or saved.
+     */
+    List<Auction> findSummariesByIdIn(Collection<String> ids);
+}
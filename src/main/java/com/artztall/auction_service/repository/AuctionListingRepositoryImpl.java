@@ -0,0 +1,77 @@
+package com.artztall.auction_service.repository;
+
+import com.artztall.auction_service.config.MongoReadPreferences;
+import com.artztall.auction_service.model.Auction;
+import com.artztall.auction_service.model.AuctionListing;
+import com.artztall.auction_service.model.AuctionStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.MongoExpression;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@RequiredArgsConstructor
+class AuctionListingRepositoryImpl implements AuctionListingRepository {
+    private static final MongoExpression BIDS_COUNT = MongoExpression.create("{ $size: { $ifNull: ['$bids', []] } }");
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoReadPreferences readPreferences;
+
+    @Override
+    public List<Auction> findActiveAuctions(LocalDateTime currentTime) {
+        return find(activeAt(currentTime));
+    }
+
+    @Override
+    public List<AuctionListing> findActiveListings(LocalDateTime currentTime) {
+        Query query = new Query(activeAt(currentTime));
+        query.fields().include("version").include(SUMMARY_FIELDS).project(BIDS_COUNT).as("bidsCount");
+        return mongoTemplate.find(readPreferences.listing(query), AuctionListing.class,
+                mongoTemplate.getCollectionName(Auction.class));
+    }
+
+    @Override
+    public List<Auction> findByArtistIdAndAuctionStatusIn(String artistId, List<AuctionStatus> statuses) {
+        return find(where("artistId").is(artistId).and("auctionStatus").in(statuses));
+    }
+
+    @Override
+    public List<Auction> searchAuctionsByKeyword(String keyword) {
+        return find(new Criteria().orOperator(
+                where("title").regex(keyword, "i"),
+                where("description").regex(keyword, "i")));
+    }
+
+    @Override
+    public List<Auction> findByAuctionStatus(AuctionStatus status) {
+        return find(where("auctionStatus").is(status));
+    }
+
+    @Override
+    public List<Auction> findByAuctionStatusAndWinnerId(AuctionStatus status, String winnerId) {
+        return find(where("auctionStatus").is(status).and("winnerId").is(winnerId));
+    }
+
+    @Override
+    public List<Auction> findSummariesByIdIn(Collection<String> ids) {
+        Query query = new Query(where("_id").in(ids));
+        query.fields().include(SUMMARY_FIELDS);
+        return mongoTemplate.find(readPreferences.listing(query), Auction.class);
+    }
+
+    private static Criteria activeAt(LocalDateTime currentTime) {
+        return where("startTime").lte(currentTime)
+                .and("endTime").gte(currentTime)
+                .and("auctionStatus").is(AuctionStatus.ACTIVE);
+    }
+
+    private List<Auction> find(Criteria criteria) {
+        return mongoTemplate.find(readPreferences.listing(new Query(criteria)), Auction.class);
+    }
+}
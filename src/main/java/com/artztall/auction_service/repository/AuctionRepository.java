@@ -1,7 +1,6 @@
 package com.artztall.auction_service.repository;
 
 import com.artztall.auction_service.model.Auction;
-import com.artztall.auction_service.model.AuctionStatus;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -10,21 +9,12 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface AuctionRepository extends MongoRepository<Auction, String> {
-    @Query("{ 'startTime': { $lte: ?0 }, 'endTime': { $gte: ?0 }, 'auctionStatus': 'ACTIVE' }")
-    List<Auction> findActiveAuctions(LocalDateTime currentTime);
-
-    List<Auction> findByArtistIdAndAuctionStatusIn(String artistId, List<AuctionStatus> statuses);
-
-    @Query("{ 'endTime': { $lt: ?0 }, 'auctionStatus': 'ACTIVE' }")
+public interface AuctionRepository extends MongoRepository<Auction, String>, AuctionListingRepository,
+        AuctionClosingRepository, AuctionUpdateRepository, AuctionImportRepository {
+    /**
+     * Loads auctions due for closing without their outbox, so that events
+     * recorded while closing are exactly the ones {@link #closeAll} appends.
+     */
+    @Query(value = "{ 'endTime': { $lt: ?0 }, 'auctionStatus': 'ACTIVE' }", fields = "{ 'pendingEvents': 0 }")
     List<Auction> findExpiredActiveAuctions(LocalDateTime currentTime);
-
-    @Query("{ $or: [ " +
-            "{ 'title': { $regex: ?0, $options: 'i' } }, " +
-            "{ 'description': { $regex: ?0, $options: 'i' } } " +
-            "] }")
-    List<Auction> searchAuctionsByKeyword(String keyword);
-
-    List<Auction> findByAuctionStatus(AuctionStatus status);
-    List<Auction> findByAuctionStatusAndWinnerId(AuctionStatus status, String winnerId);
-}
\ No newline at end of file
+}
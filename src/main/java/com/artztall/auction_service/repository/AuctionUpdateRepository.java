@@ -0,0 +1,23 @@
+package com.artztall.auction_service.repository;
+
+import com.artztall.auction_service.model.Auction;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Optional;
+
+public interface AuctionUpdateRepository {
+    /**
+     * Applies a field-level update, bumping the version, if the auction still
+     * matches the precondition.
+     *
+     * @return the updated auction, or empty if it did not match
+     */
+    Optional<Auction> updateIf(String auctionId, Criteria precondition, Update update);
+
+    /**
+     * Stamps an initial version on an auction written before versioning, so
+     * that optimistic saves can match it.
+     */
+    void initializeVersion(String auctionId);
+}
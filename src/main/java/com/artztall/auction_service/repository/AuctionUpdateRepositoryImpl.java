@@ -0,0 +1,37 @@
+package com.artztall.auction_service.repository;
+
+import com.artztall.auction_service.model.Auction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Optional;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@RequiredArgsConstructor
+class AuctionUpdateRepositoryImpl implements AuctionUpdateRepository {
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<Auction> updateIf(String auctionId, Criteria precondition, Update update) {
+        Query query = new Query(where("_id").is(auctionId)).addCriteria(precondition);
+        if (!update.modifies("version")) {
+            update.inc("version", 1);
+        }
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                query, update, FindAndModifyOptions.options().returnNew(true), Auction.class));
+    }
+
+    @Override
+    public void initializeVersion(String auctionId) {
+        mongoTemplate.updateFirst(
+                new Query(where("_id").is(auctionId).and("version").exists(false)),
+                new Update().set("version", 0L),
+                Auction.class
+        );
+    }
+}
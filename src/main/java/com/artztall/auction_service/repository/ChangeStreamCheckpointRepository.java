@@ -0,0 +1,9 @@
+package com.artztall.auction_service.repository;
+
+import com.artztall.auction_service.model.ChangeStreamCheckpoint;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ChangeStreamCheckpointRepository extends MongoRepository<ChangeStreamCheckpoint, String> {
+}
@@ -0,0 +1,13 @@
+package com.artztall.auction_service.repository;
+
+import com.artztall.auction_service.model.UserAuctionStatus;
+import com.artztall.auction_service.model.UserAuctionView;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface UserAuctionViewRepository extends MongoRepository<UserAuctionView, String> {
+    List<UserAuctionView> findByUserIdAndStatusInOrderByUpdatedAtDesc(String userId, List<UserAuctionStatus> statuses);
+}
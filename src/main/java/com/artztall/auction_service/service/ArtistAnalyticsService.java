@@ -0,0 +1,104 @@
+package com.artztall.auction_service.service;
+
+import com.artztall.auction_service.dto.ArtistSalesSummaryDTO;
+import com.artztall.auction_service.event.AuctionEvent;
+import com.artztall.auction_service.event.AuctionEventHandler;
+import com.artztall.auction_service.model.ArtistSalesAppliedEvent;
+import com.artztall.auction_service.model.ArtistSalesRollup;
+import com.artztall.auction_service.repository.ArtistSalesRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Keeps per-artist daily sales rollups current from auction events, so
+ * dashboard queries read one small document per day instead of every
+ * auction and bid.
+ * <p>
+ * Events arrive at least once, so an event is first recorded as an
+ * {@link ArtistSalesAppliedEvent} keyed by its ID; a redelivered event hits
+ * the existing key and is skipped. The marker is removed again if the
+ * rollup update fails, so the retried event is still counted.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ArtistAnalyticsService implements AuctionEventHandler {
+    private final ArtistSalesRollupRepository rollupRepository;
+    private final MongoTemplate mongoTemplate;
+    private final Clock clock;
+
+    @Override
+    public void onEvent(AuctionEvent event) {
+        if (event.getArtistId() == null) {
+            return;
+        }
+        Update update = switch (event.getType()) {
+            case AUCTION_CREATED -> new Update().inc("auctionsListed", 1);
+            case BID_PLACED -> new Update().inc("bidCount", 1);
+            case AUCTION_CLOSED -> event.getUserId() != null
+                    ? new Update().inc("auctionsClosed", 1).inc("auctionsSold", 1).inc("grossSales", event.getAmount())
+                    : new Update().inc("auctionsClosed", 1);
+            default -> null;
+        };
+        if (update == null) {
+            return;
+        }
+
+        LocalDate day = event.getOccurredAt() != null ? event.getOccurredAt().toLocalDate() : LocalDate.now(clock);
+        update.setOnInsert("artistId", event.getArtistId()).setOnInsert("day", day);
+        Query rollup = new Query(where("_id").is(ArtistSalesRollup.idFor(event.getArtistId(), day)));
+        if (event.getId() == null) {
+            mongoTemplate.upsert(rollup, update, ArtistSalesRollup.class);
+            return;
+        }
+        ArtistSalesAppliedEvent applied = new ArtistSalesAppliedEvent(event.getId(), LocalDateTime.now(clock));
+        try {
+            mongoTemplate.insert(applied);
+        } catch (DuplicateKeyException e) {
+            log.debug("Event {} already counted for artist {}", event.getId(), event.getArtistId());
+            return;
+        }
+        try {
+            mongoTemplate.upsert(rollup, update, ArtistSalesRollup.class);
+        } catch (RuntimeException e) {
+            mongoTemplate.remove(applied);
+            throw e;
+        }
+    }
+
+    public ArtistSalesSummaryDTO getArtistSummary(String artistId, LocalDate from, LocalDate to) {
+        List<ArtistSalesRollup> daily = rollupRepository.findByArtistIdAndDayRange(artistId, from, to);
+
+        ArtistSalesSummaryDTO summary = new ArtistSalesSummaryDTO();
+        summary.setArtistId(artistId);
+        summary.setFrom(from);
+        summary.setTo(to);
+        summary.setDaily(daily);
+        for (ArtistSalesRollup rollup : daily) {
+            summary.setAuctionsListed(summary.getAuctionsListed() + rollup.getAuctionsListed());
+            summary.setAuctionsClosed(summary.getAuctionsClosed() + rollup.getAuctionsClosed());
+            summary.setAuctionsSold(summary.getAuctionsSold() + rollup.getAuctionsSold());
+            summary.setGrossSales(summary.getGrossSales() + rollup.getGrossSales());
+            summary.setBidCount(summary.getBidCount() + rollup.getBidCount());
+        }
+        if (summary.getAuctionsClosed() > 0) {
+            summary.setSellThroughRate((double) summary.getAuctionsSold() / summary.getAuctionsClosed());
+        }
+        if (summary.getAuctionsSold() > 0) {
+            summary.setAverageHammerPrice(summary.getGrossSales() / summary.getAuctionsSold());
+        }
+        return summary;
+    }
+}
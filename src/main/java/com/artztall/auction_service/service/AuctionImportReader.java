@@ -0,0 +1,224 @@
+package com.artztall.auction_service.service;
+
+import com.artztall.auction_service.dto.AuctionCreateDTO;
+import com.artztall.auction_service.exception.AuctionException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads bulk import rows one at a time from an upload, so only the current
+ * row is held in memory. Rows longer than {@link #MAX_ROW_CHARS} are
+ * skipped and reported rather than buffered.
+ * <p>
+ * CSV needs a header row naming {@link AuctionCreateDTO} fields; quoted
+ * values may contain commas, doubled quotes and line breaks. NDJSON is one
+ * {@link AuctionCreateDTO} object per line. Blank lines are ignored in both.
+ */
+public abstract class AuctionImportReader implements Closeable {
+    static final int MAX_ROW_CHARS = 64 * 1024;
+    private static final Set<String> COLUMNS = Set.of(
+            "title", "description", "paintingUrl", "artistId", "startingPrice", "startTime", "endTime");
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    /**
+     * One data row, numbered from 1. Exactly one of {@code auction} and
+     * {@code error} is set.
+     */
+    public record Row(int number, AuctionCreateDTO auction, String error) {
+    }
+
+    protected final BufferedReader reader;
+    protected final ObjectMapper objectMapper;
+    private int rows;
+
+    private AuctionImportReader(InputStream in, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Opens a reader, consuming the CSV header straight away so a bad header
+     * fails the request before any row is processed.
+     */
+    public static AuctionImportReader open(InputStream in, Format format, ObjectMapper objectMapper) throws IOException {
+        return format == Format.CSV ? new Csv(in, objectMapper) : new Ndjson(in, objectMapper);
+    }
+
+    /**
+     * @return the next row, or {@code null} at the end of the upload
+     */
+    public abstract Row next() throws IOException;
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    protected Row row(AuctionCreateDTO auction) {
+        return new Row(++rows, auction, null);
+    }
+
+    protected Row rejected(String error) {
+        return new Row(++rows, null, error);
+    }
+
+    private static class Csv extends AuctionImportReader {
+        private final List<String> header;
+
+        Csv(InputStream in, ObjectMapper objectMapper) throws IOException {
+            super(in, objectMapper);
+            Record first = readRecord();
+            while (first != null && first.isBlank()) {
+                first = readRecord();
+            }
+            if (first == null || first.truncated()) {
+                throw new AuctionException("CSV import needs a header row");
+            }
+            header = first.fields().stream().map(column -> column.replace("\uFEFF", "").trim()).toList();
+            List<String> unknown = header.stream().filter(column -> !COLUMNS.contains(column)).toList();
+            if (!unknown.isEmpty()) {
+                throw new AuctionException("Unknown CSV columns " + unknown + ", expected some of " + COLUMNS);
+            }
+        }
+
+        @Override
+        public Row next() throws IOException {
+            Record record;
+            do {
+                record = readRecord();
+                if (record == null) {
+                    return null;
+                }
+            } while (record.isBlank());
+
+            if (record.truncated()) {
+                return rejected("Row is longer than " + MAX_ROW_CHARS + " characters");
+            }
+            if (record.fields().size() != header.size()) {
+                return rejected("Expected " + header.size() + " columns but found " + record.fields().size());
+            }
+            Map<String, String> values = new LinkedHashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                String value = record.fields().get(i);
+                if (!value.isEmpty()) {
+                    values.put(header.get(i), value);
+                }
+            }
+            try {
+                return row(objectMapper.convertValue(values, AuctionCreateDTO.class));
+            } catch (IllegalArgumentException e) {
+                return rejected("Invalid value: " + e.getMessage());
+            }
+        }
+
+        private Record readRecord() throws IOException {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean truncated = false;
+            int length = 0;
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            for (; c != -1; c = reader.read()) {
+                if (!quoted && c == '\n') {
+                    break;
+                }
+                if (++length > MAX_ROW_CHARS && !truncated) {
+                    truncated = true;
+                    fields.clear();
+                    field.setLength(0);
+                }
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        if (reader.read() == '"') {
+                            append(field, '"', truncated);
+                        } else {
+                            quoted = false;
+                            reader.reset();
+                        }
+                    } else {
+                        append(field, c, truncated);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    if (!truncated) {
+                        fields.add(field.toString());
+                    }
+                    field.setLength(0);
+                } else if (c != '\r') {
+                    append(field, c, truncated);
+                }
+            }
+            fields.add(field.toString());
+            return new Record(truncated ? List.of() : fields, truncated);
+        }
+
+        private static void append(StringBuilder field, int c, boolean truncated) {
+            if (!truncated) {
+                field.append((char) c);
+            }
+        }
+
+        private record Record(List<String> fields, boolean truncated) {
+            boolean isBlank() {
+                return !truncated && fields.size() == 1 && fields.get(0).isBlank();
+            }
+        }
+    }
+
+    private static class Ndjson extends AuctionImportReader {
+        Ndjson(InputStream in, ObjectMapper objectMapper) {
+            super(in, objectMapper);
+        }
+
+        @Override
+        public Row next() throws IOException {
+            StringBuilder line = new StringBuilder();
+            while (true) {
+                line.setLength(0);
+                boolean truncated = false;
+                int c = reader.read();
+                if (c == -1) {
+                    return null;
+                }
+                for (; c != -1 && c != '\n'; c = reader.read()) {
+                    if (line.length() >= MAX_ROW_CHARS) {
+                        truncated = true;
+                    } else {
+                        line.append((char) c);
+                    }
+                }
+                if (truncated) {
+                    return rejected("Row is longer than " + MAX_ROW_CHARS + " characters");
+                }
+                if (!line.toString().isBlank()) {
+                    break;
+                }
+            }
+            try {
+                return row(objectMapper.readValue(line.toString(), AuctionCreateDTO.class));
+            } catch (JsonProcessingException e) {
+                return rejected("Invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+}
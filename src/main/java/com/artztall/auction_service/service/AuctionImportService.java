@@ -0,0 +1,166 @@
+package com.artztall.auction_service.service;
+
+import com.artztall.auction_service.cache.AuctionCache;
+import com.artztall.auction_service.dto.AuctionImportResultDTO;
+import com.artztall.auction_service.exception.AuctionBaseException;
+import com.artztall.auction_service.model.Auction;
+import com.artztall.auction_service.repository.AuctionRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Bulk creation of auctions from a streamed upload. Rows are validated as
+ * they are read, with the same rules as a single create, and valid ones are
+ * inserted in chunks of {@code auction.import.chunk-size}. Results are
+ * handed out per chunk in row order, so memory use is bounded by the chunk
+ * size however large the upload is.
+ */
+@Service
+@Slf4j
+public class AuctionImportService {
+    private final AuctionServiceImpl auctionService;
+    private final AuctionRepository auctionRepository;
+    private final AuctionCache auctionCache;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public AuctionImportService(
+            AuctionServiceImpl auctionService,
+            AuctionRepository auctionRepository,
+            AuctionCache auctionCache,
+            ObjectMapper objectMapper,
+            @Value("${auction.import.chunk-size:500}") int chunkSize
+    ) {
+        this.auctionService = auctionService;
+        this.auctionRepository = auctionRepository;
+        this.auctionCache = auctionCache;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    public AuctionImportReader open(InputStream upload, AuctionImportReader.Format format) throws IOException {
+        return AuctionImportReader.open(upload, format, objectMapper);
+    }
+
+    /**
+     * Imports every row of the upload, writing each row's result to
+     * {@code out} as a line of NDJSON.
+     */
+    public void importAuctions(AuctionImportReader reader, OutputStream out) throws IOException {
+        try {
+            importAuctions(reader, result -> {
+                try {
+                    out.write(objectMapper.writeValueAsBytes(result));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Imports every row of the upload, passing each row's result to
+     * {@code results}.
+     */
+    public void importAuctions(AuctionImportReader reader, Consumer<AuctionImportResultDTO> results) throws IOException {
+        Chunk chunk = new Chunk();
+        int imported = 0;
+        int total = 0;
+        for (AuctionImportReader.Row row = reader.next(); row != null; row = reader.next()) {
+            total++;
+            if (row.error() != null) {
+                chunk.results.add(rejected(row.number(), row.error()));
+            } else {
+                prepare(row, chunk);
+            }
+            if (chunk.results.size() >= chunkSize) {
+                imported += flush(chunk, results);
+            }
+        }
+        imported += flush(chunk, results);
+        log.info("Imported {} of {} auction rows", imported, total);
+    }
+
+    private void prepare(AuctionImportReader.Row row, Chunk chunk) {
+        try {
+            Auction auction = auctionService.newAuction(row.auction(), new ObjectId().toHexString());
+            auction.setVersion(0L);
+            chunk.add(auction, new AuctionImportResultDTO(
+                    row.number(), AuctionImportResultDTO.Status.IMPORTED, auction.getId(), null));
+        } catch (AuctionBaseException e) {
+            chunk.results.add(rejected(row.number(), e.getMessage()));
+        }
+    }
+
+    private int flush(Chunk chunk, Consumer<AuctionImportResultDTO> results) {
+        Map<Integer, String> failures;
+        try {
+            failures = chunk.auctions.isEmpty() ? Map.of() : auctionRepository.insertAll(chunk.auctions);
+        } catch (RuntimeException e) {
+            log.warn("Bulk insert of {} auctions failed", chunk.auctions.size(), e);
+            failures = new HashMap<>();
+            for (int i = 0; i < chunk.auctions.size(); i++) {
+                failures.put(i, "Insert failed, the row can be resubmitted");
+            }
+        }
+
+        int imported = 0;
+        for (int i = 0; i < chunk.auctions.size(); i++) {
+            String failure = failures.get(i);
+            if (failure == null) {
+                auctionCache.put(chunk.auctions.get(i));
+                imported++;
+            } else {
+                AuctionImportResultDTO result = chunk.inserted.get(i);
+                result.setStatus(AuctionImportResultDTO.Status.FAILED);
+                result.setAuctionId(null);
+                result.setError(failure);
+            }
+        }
+        chunk.results.forEach(results);
+        chunk.clear();
+        return imported;
+    }
+
+    private static AuctionImportResultDTO rejected(int row, String error) {
+        return new AuctionImportResultDTO(row, AuctionImportResultDTO.Status.REJECTED, null, error);
+    }
+
+    /**
+     * Auctions awaiting insert, with every result since the last flush in
+     * row order; {@code inserted} holds the results for {@code auctions}.
+     */
+    private static class Chunk {
+        final List<Auction> auctions = new ArrayList<>();
+        final List<AuctionImportResultDTO> inserted = new ArrayList<>();
+        final List<AuctionImportResultDTO> results = new ArrayList<>();
+
+        void add(Auction auction, AuctionImportResultDTO result) {
+            auctions.add(auction);
+            inserted.add(result);
+            results.add(result);
+        }
+
+        void clear() {
+            auctions.clear();
+            inserted.clear();
+            results.clear();
+        }
+    }
+}
@@ -1,17 +1,23 @@
 package com.artztall.auction_service.service;
 
 import com.artztall.auction_service.dto.AuctionCreateDTO;
+import com.artztall.auction_service.dto.AuctionSummaryDTO;
 import com.artztall.auction_service.dto.BidDTO;
+import com.artztall.auction_service.dto.BidResult;
 import com.artztall.auction_service.dto.CompletedAuctionDTO;
 import com.artztall.auction_service.model.Auction;
+import com.artztall.auction_service.model.AuctionSort;
 
 import java.util.List;
 
 public interface AuctionService {
     Auction createAuction(AuctionCreateDTO auctionDTO);
-    Auction placeBid(BidDTO bidDTO);
+    BidResult placeBid(BidDTO bidDTO);
     Auction getAuctionById(String auctionId);
+    List<AuctionSummaryDTO> getAuctionSummaries(List<String> auctionIds);
     List<Auction> getActiveAuctions();
+    List<AuctionSummaryDTO> getAuctionsEndingWithin(long minutes, int limit);
+    List<AuctionSummaryDTO> getAuctionsByPriceRange(double minPrice, double maxPrice, AuctionSort sort, int limit);
     List<Auction> getAuctionsByArtist(String artistId);
     List<Auction> searchAuctions(String keyword);
     void closeExpiredAuctions();
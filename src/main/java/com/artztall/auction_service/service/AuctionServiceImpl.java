@@ -1,41 +1,115 @@
 package com.artztall.auction_service.service;
 
+import com.artztall.auction_service.cache.ActiveAuctionIndex;
+import com.artztall.auction_service.cache.AuctionCache;
+import com.artztall.auction_service.cache.SingleFlight;
 import com.artztall.auction_service.dto.AuctionCreateDTO;
+import com.artztall.auction_service.dto.AuctionSummaryDTO;
 import com.artztall.auction_service.dto.BidDTO;
+import com.artztall.auction_service.dto.BidRejection;
+import com.artztall.auction_service.dto.BidResult;
 import com.artztall.auction_service.dto.CompletedAuctionDTO;
+import com.artztall.auction_service.event.AuctionEvent;
+import com.artztall.auction_service.event.AuctionEventType;
+import com.artztall.auction_service.exception.AuctionConflictException;
 import com.artztall.auction_service.exception.AuctionException;
-import com.artztall.auction_service.exception.BidValidationException;
+import com.artztall.auction_service.exception.BidJournalUnavailableException;
+import com.artztall.auction_service.journal.BidJournal;
+import com.artztall.auction_service.journal.BidJournalApplier;
+import com.artztall.auction_service.journal.JournaledBid;
 import com.artztall.auction_service.model.Auction;
+import com.artztall.auction_service.model.AuctionListing;
+import com.artztall.auction_service.model.AuctionSort;
 import com.artztall.auction_service.model.AuctionStatus;
 import com.artztall.auction_service.model.Bid;
+import com.artztall.auction_service.model.BidOutcome;
 import com.artztall.auction_service.model.PaymentStatus;
+import com.artztall.auction_service.profiling.BidValidationEvent;
+import com.artztall.auction_service.profiling.RepositoryCallEvent;
+import com.artztall.auction_service.repository.AuctionArchiveRepository;
 import com.artztall.auction_service.repository.AuctionRepository;
+import com.artztall.auction_service.shedular.AuctionCloseExecutor;
+import com.artztall.auction_service.traffic.BidAdmissionControl;
+import com.artztall.auction_service.traffic.HotAuctionTracker;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class AuctionServiceImpl implements AuctionService {
     private static final long MAX_AUCTION_DURATION_DAYS = 30;
+    private static final List<AuctionStatus> CANCELLABLE = List.of(AuctionStatus.ACTIVE, AuctionStatus.PENDING);
+    private static final int MAX_WRITE_ATTEMPTS = 5;
+    private static final long WRITE_BACKOFF_MS = 10;
+    private static final int MAX_BATCH_IDS = 100;
+    private static final int MAX_LISTING_LIMIT = 200;
 
     private final AuctionRepository auctionRepository;
+    private final AuctionArchiveRepository auctionArchiveRepository;
+    private final AuctionCache auctionCache;
+    private final HotAuctionTracker hotAuctionTracker;
+    private final BidAdmissionControl bidAdmissionControl;
+    private final AuctionCloseExecutor auctionCloseExecutor;
+    private final ActiveAuctionIndex activeAuctionIndex;
+    private final Clock clock;
+    private final ObservationRegistry observationRegistry;
+    private final ObjectProvider<BidJournal> bidJournal;
+    private final SingleFlight<String, Auction> auctionLoads = new SingleFlight<>();
 
     @Override
     @Transactional
     public Auction createAuction(AuctionCreateDTO auctionDTO) {
+        return Observation.createNotStarted("auction.create", observationRegistry)
+                .contextualName("create auction")
+                .observe(() -> {
+                    Auction auction = newAuction(auctionDTO, null);
+
+                    log.info("Creating new auction for painting: {}", auctionDTO.getPaintingUrl());
+                    return cache(save(auction));
+                });
+    }
+
+    /**
+     * Validates a creation request and builds the unsaved auction with its
+     * creation event. Shared with {@link AuctionImportService}, which assigns
+     * IDs up front so the event carries them.
+     */
+    Auction newAuction(AuctionCreateDTO auctionDTO, String auctionId) {
         validateAuctionCreation(auctionDTO);
 
         Auction auction = new Auction();
+        auction.setId(auctionId);
         auction.setTitle(auctionDTO.getTitle());
         auction.setDescription(auctionDTO.getDescription());
         auction.setPaintingUrl(auctionDTO.getPaintingUrl());
@@ -46,72 +120,274 @@ public class AuctionServiceImpl implements AuctionService {
         auction.setPaymentStatus(PaymentStatus.PENDING);
         auction.setEndTime(calculateEndTime(auctionDTO));
         auction.setAuctionStatus(AuctionStatus.ACTIVE);
-
-        log.info("Creating new auction for painting: {}", auctionDTO.getPaintingUrl());
-        return auctionRepository.save(auction);
+        auction.setCreatedAt(LocalDateTime.now(clock));
+        auction.setUpdatedAt(auction.getCreatedAt());
+        auction.recordEvent(AuctionEvent.of(AuctionEventType.AUCTION_CREATED, auction, clock));
+        return auction;
     }
 
     @Override
     @Transactional
-    public Auction placeBid(BidDTO bidDTO) {
-        Auction auction = getAuctionById(bidDTO.getAuctionId());
-        validateBid(auction, bidDTO);
+    public BidResult placeBid(BidDTO bidDTO) {
+        Observation observation = Observation.createNotStarted("auction.bid", observationRegistry)
+                .contextualName("place bid")
+                .highCardinalityKeyValue("auction.id", String.valueOf(bidDTO.getAuctionId()));
+        return observation.observe(() -> {
+            BidResult result = admitAndPlaceBid(bidDTO);
+            observation.lowCardinalityKeyValue("bid.outcome", result.getOutcome().name());
+            return result;
+        });
+    }
 
-        Bid bid = createBid(auction, bidDTO);
-        auction.addBid(bid);
-        auction.setCurrentPrice(bidDTO.getAmount());
+    private BidResult admitAndPlaceBid(BidDTO bidDTO) {
+        Optional<BidRejection> shed = bidAdmissionControl.admit(bidDTO);
+        if (shed.isPresent()) {
+            return BidResult.rejected(shed.get());
+        }
+        hotAuctionTracker.recordBid(bidDTO.getAuctionId());
+        Optional<Lock> sequencer = hotAuctionTracker.sequencerFor(bidDTO.getAuctionId());
+        sequencer.ifPresent(Lock::lock);
+        try {
+            BidJournal journal = bidJournal.getIfAvailable();
+            if (journal != null) {
+                return journalBid(journal, bidDTO);
+            }
+            return retryOnConflict(bidDTO.getAuctionId(), () -> applyBid(bidDTO, sequencer.isPresent()));
+        } finally {
+            sequencer.ifPresent(Lock::unlock);
+        }
+    }
+
+    /**
+     * Validates and saves a bid. A hot auction is read from its pinned cache
+     * entry rather than from Mongo; if that entry turns out to be stale the
+     * save conflicts, the entry is evicted and the retry reads Mongo.
+     */
+    private BidResult applyBid(BidDTO bidDTO, boolean hot) {
+        Optional<Auction> pinned = hot
+                ? auctionCache.get(bidDTO.getAuctionId()).filter(cached -> cached.getVersion() != null).map(Auction::copy)
+                : Optional.empty();
+        Auction auction = pinned.orElseGet(() -> findAuction(bidDTO.getAuctionId()));
+        BidOutcome outcome = applyBidTo(auction, bidDTO);
+        if (outcome != BidOutcome.ACCEPTED) {
+            return BidResult.rejected(BidRejection.of(outcome, auction));
+        }
 
+        Auction saved;
+        try {
+            saved = save(auction);
+        } catch (OptimisticLockingFailureException e) {
+            pinned.ifPresent(stale -> auctionCache.evict(stale.getId()));
+            throw e;
+        }
         log.info("Bid placed on auction {} by user {}", auction.getId(), bidDTO.getUserId());
-        return auctionRepository.save(auction);
+        return BidResult.accepted(cache(saved));
+    }
+
+    /**
+     * Accepts a bid into the local journal and acknowledges it once it is on
+     * disk; the {@link BidJournalApplier} writes it to Mongo. The bid is
+     * validated against the latest known state plus bids still waiting in
+     * the journal, and the returned auction is that provisional state. A
+     * bid the journal fails or times out on is answered with a 503.
+     */
+    private BidResult journalBid(BidJournal journal, BidDTO bidDTO) {
+        String auctionId = bidDTO.getAuctionId();
+        Auction provisional;
+        CompletableFuture<Void> durable;
+        Lock lock = journal.lockFor(auctionId);
+        lock.lock();
+        try {
+            provisional = auctionCache.get(auctionId).orElseGet(() -> findAuction(auctionId)).copy();
+            journal.pendingPrice(auctionId)
+                    .ifPresent(pending -> provisional.setCurrentPrice(Math.max(pending, provisional.getCurrentPrice())));
+            JournaledBid journaled = new JournaledBid(UUID.randomUUID().toString(), auctionId,
+                    bidDTO.getUserId(), bidDTO.getAmount(), LocalDateTime.now(clock));
+            BidOutcome outcome = applyBidTo(provisional, bidDTO, journaled.bidId(), journaled.acceptedAt());
+            if (outcome != BidOutcome.ACCEPTED) {
+                return BidResult.rejected(BidRejection.of(outcome, provisional));
+            }
+            durable = journal.append(journaled);
+        } finally {
+            lock.unlock();
+        }
+        try {
+            // Bounded by the journal's acknowledgement timeout.
+            durable.join();
+        } catch (CompletionException e) {
+            log.error("Bid on auction {} by user {} did not reach the journal", auctionId, bidDTO.getUserId(), e.getCause());
+            throw new BidJournalUnavailableException("Bid could not be recorded, please retry");
+        }
+        log.info("Bid journaled on auction {} by user {}", auctionId, bidDTO.getUserId());
+        return BidResult.accepted(provisional);
+    }
+
+    /**
+     * Writes a journaled bid to Mongo. Bids already present, e.g. applied
+     * just before a crash and replayed, are skipped.
+     *
+     * @return the outcome against the stored auction; a rejected bid is not
+     * written
+     */
+    public BidOutcome applyJournaledBid(JournaledBid journaled) {
+        return retryOnConflict(journaled.auctionId(), () -> {
+            Auction auction = findAuction(journaled.auctionId());
+            if (auction.getBids().stream().anyMatch(bid -> journaled.bidId().equals(bid.getId()))) {
+                return BidOutcome.ACCEPTED;
+            }
+            BidDTO bidDTO = new BidDTO();
+            bidDTO.setAuctionId(journaled.auctionId());
+            bidDTO.setUserId(journaled.userId());
+            bidDTO.setAmount(journaled.amount());
+            BidOutcome outcome = applyBidTo(auction, bidDTO, journaled.bidId(), journaled.acceptedAt());
+            if (outcome == BidOutcome.ACCEPTED) {
+                cache(save(auction));
+            }
+            return outcome;
+        });
     }
 
-    private void validateBid(Auction auction, BidDTO bidDTO) {
-        LocalDateTime now = LocalDateTime.now();
+    /**
+     * Validates a bid and applies it to the in-memory auction without
+     * persisting it. Also used by {@link AuctionWarmup} to exercise the path.
+     * The auction is left untouched unless the outcome is accepted.
+     */
+    BidOutcome applyBidTo(Auction auction, BidDTO bidDTO) {
+        return applyBidTo(auction, bidDTO, UUID.randomUUID().toString(), LocalDateTime.now(clock));
+    }
+
+    private BidOutcome applyBidTo(Auction auction, BidDTO bidDTO, String bidId, LocalDateTime bidTime) {
+        BidValidationEvent validation = new BidValidationEvent();
+        validation.begin();
+        BidOutcome outcome = validateBid(auction, bidDTO, bidTime);
+        validation.finish(auction.getId(), bidDTO.getAmount(), outcome);
+        if (outcome != BidOutcome.ACCEPTED) {
+            return outcome;
+        }
+
+        Bid previousHighestBid = auction.getHighestBid();
+        Bid bid = createBid(auction, bidDTO, bidId, bidTime);
+        auction.addBid(bid);
+        auction.setCurrentPrice(bidDTO.getAmount());
+        auction.setUpdatedAt(bid.getBidTime());
+        auction.recordEvent(bidPlacedEvent(auction, bid, previousHighestBid));
+        return BidOutcome.ACCEPTED;
+    }
 
+    private BidOutcome validateBid(Auction auction, BidDTO bidDTO, LocalDateTime now) {
         if (!AuctionStatus.ACTIVE.equals(auction.getAuctionStatus())) {
-            throw new BidValidationException("Auction is not active");
+            return BidRejection.forStatus(auction.getAuctionStatus());
         }
 
-        if (now.isBefore(auction.getStartTime()) || now.isAfter(auction.getEndTime())) {
-            throw new BidValidationException("Auction is not within its time period");
+        if (now.isBefore(auction.getStartTime())) {
+            return BidOutcome.NOT_STARTED;
+        }
+        if (now.isAfter(auction.getEndTime())) {
+            return BidOutcome.CLOSED;
         }
 
         BigDecimal minBidAmount = BigDecimal.valueOf(auction.getCurrentPrice());
         if (BigDecimal.valueOf(bidDTO.getAmount()).compareTo(minBidAmount) < 0) {
-            throw new BidValidationException("Bid must be at least " + minBidAmount);
+            return BidOutcome.OUTBID;
+        }
+        return BidOutcome.ACCEPTED;
+    }
+
+    private AuctionEvent bidPlacedEvent(Auction auction, Bid bid, Bid previousHighestBid) {
+        AuctionEvent event = AuctionEvent.of(AuctionEventType.BID_PLACED, auction, clock);
+        event.setUserId(bid.getUserId());
+        event.setAmount(bid.getAmount());
+        if (previousHighestBid != null) {
+            event.setPreviousLeaderId(previousHighestBid.getUserId());
         }
+        return event;
     }
 
-    private Bid createBid(Auction auction, BidDTO bidDTO) {
+    private Bid createBid(Auction auction, BidDTO bidDTO, String bidId, LocalDateTime bidTime) {
         Bid bid = new Bid();
-        bid.setId(UUID.randomUUID().toString());
+        bid.setId(bidId);
         bid.setAuctionId(auction.getId());
         bid.setUserId(bidDTO.getUserId());
         bid.setAmount(bidDTO.getAmount());
-        bid.setBidTime(LocalDateTime.now());
+        bid.setBidTime(bidTime);
         return bid;
     }
 
     @Override
     @Transactional
     public void closeExpiredAuctions() {
-        LocalDateTime now = LocalDateTime.now();
-        List<Auction> expiredAuctions = auctionRepository.findExpiredActiveAuctions(now);
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<Auction> expiredAuctions = RepositoryCallEvent.record("findExpiredActiveAuctions", null,
+                () -> auctionRepository.findExpiredActiveAuctions(now));
+        BidJournal journal = bidJournal.getIfAvailable();
+        if (journal != null) {
+            expiredAuctions = withoutPendingBids(journal, expiredAuctions);
+        }
+        if (expiredAuctions.isEmpty()) {
+            return;
+        }
+
+        int closed = auctionCloseExecutor.execute(expiredAuctions, partition -> closePartition(partition, now));
+        log.info("Closed {} of {} expired auctions", closed, expiredAuctions.size());
+    }
+
+    /**
+     * Leaves out auctions with journaled bids that have not reached Mongo
+     * yet; closing them now would pick the winner from a stale highest bid.
+     * They close on a later run once the {@link BidJournalApplier} has caught
+     * up. Taking the journal lock waits out a bid still being validated.
+     */
+    private List<Auction> withoutPendingBids(BidJournal journal, List<Auction> auctions) {
+        List<Auction> settled = new ArrayList<>(auctions.size());
+        for (Auction auction : auctions) {
+            Lock lock = journal.lockFor(auction.getId());
+            lock.lock();
+            try {
+                if (journal.pendingPrice(auction.getId()).isEmpty()) {
+                    settled.add(auction);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        if (settled.size() < auctions.size()) {
+            log.info("Postponed closing {} expired auctions with journaled bids pending", auctions.size() - settled.size());
+        }
+        return settled;
+    }
 
-        expiredAuctions.forEach(auction -> {
+    private Set<String> closePartition(List<Auction> partition, LocalDateTime now) {
+        partition.forEach(auction -> {
             auction.setAuctionStatus(AuctionStatus.COMPLETED);
+            auction.setUpdatedAt(now);
             if (auction.hasBids()) {
                 Bid highestBid = auction.getHighestBid();
                 auction.setWinnerId(highestBid.getUserId());
             }
-            log.info("Closing auction: {}", auction.getId());
+            AuctionEvent closed = AuctionEvent.of(AuctionEventType.AUCTION_CLOSED, auction, clock);
+            closed.setUserId(auction.getWinnerId());
+            auction.recordEvent(closed);
         });
 
-        auctionRepository.saveAll(expiredAuctions);
+        Set<String> closed = RepositoryCallEvent.record("closeAll", null,
+                () -> auctionRepository.closeAll(partition));
+        partition.forEach(auction -> {
+            if (closed.contains(auction.getId())) {
+                // closeAll bumped the stored version; match it so the cache takes the closed state.
+                auction.setVersion(auction.getVersion() == null ? 1L : auction.getVersion() + 1);
+                auctionCache.put(auction);
+            } else {
+                // Bid on, extended, cancelled or closed elsewhere meanwhile; reload it on demand.
+                auctionCache.evict(auction.getId());
+            }
+        });
+        return closed;
     }
 
-
     private void validateAuctionCreation(AuctionCreateDTO auctionDTO) {
+        if (auctionDTO.getStartTime() == null || auctionDTO.getEndTime() == null) {
+            throw new AuctionException("Start time and end time are required");
+        }
         if (auctionDTO.getStartTime().isAfter(auctionDTO.getEndTime())) {
             throw new AuctionException("Start time must be before end time");
         }
@@ -128,20 +404,149 @@ public class AuctionServiceImpl implements AuctionService {
     // Placeholder implementations for other methods
     @Override
     public Auction getAuctionById(String auctionId) {
-        return auctionRepository.findById(auctionId)
+        return Observation.createNotStarted("auction.get", observationRegistry)
+                .contextualName("get auction")
+                .highCardinalityKeyValue("auction.id", String.valueOf(auctionId))
+                .observe(() -> auctionCache.get(auctionId)
+                        .orElseGet(() -> auctionLoads.execute(auctionId, () -> cache(findAuction(auctionId)))));
+    }
+
+    /**
+     * Summaries for a batch of auctions, in request order. Cached auctions are
+     * served locally and the rest are fetched with one projected query, then
+     * from the archive if still missing. Unknown IDs are left out.
+     */
+    @Override
+    public List<AuctionSummaryDTO> getAuctionSummaries(List<String> auctionIds) {
+        return Observation.createNotStarted("auction.summaries", observationRegistry)
+                .contextualName("get auction summaries")
+                .highCardinalityKeyValue("auction.count", String.valueOf(auctionIds.size()))
+                .observe(() -> summaries(auctionIds));
+    }
+
+    private List<AuctionSummaryDTO> summaries(List<String> auctionIds) {
+        Set<String> ids = new LinkedHashSet<>(auctionIds);
+        if (ids.size() > MAX_BATCH_IDS) {
+            throw new AuctionException("At most " + MAX_BATCH_IDS + " auctions can be fetched at once");
+        }
+
+        Map<String, Auction> found = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String id : ids) {
+            auctionCache.get(id).ifPresentOrElse(auction -> found.put(id, auction), () -> misses.add(id));
+        }
+        if (!misses.isEmpty()) {
+            RepositoryCallEvent.record("findSummariesByIdIn", null, () -> auctionRepository.findSummariesByIdIn(misses))
+                    .forEach(auction -> found.put(auction.getId(), auction));
+            List<String> archived = misses.stream().filter(id -> !found.containsKey(id)).toList();
+            if (!archived.isEmpty()) {
+                auctionArchiveRepository.findSummariesByIdIn(archived)
+                        .forEach(auction -> found.putIfAbsent(auction.getId(), auction));
+            }
+        }
+
+        return ids.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .map(this::convertToSummaryDTO)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Loads the authoritative copy from Mongo, falling back to the archive for
+     * settled auctions. Mutating operations use this so they never modify an
+     * instance shared through the cache.
+     */
+    private Auction findAuction(String auctionId) {
+        return RepositoryCallEvent.record("findById", auctionId, () -> auctionRepository.findById(auctionId))
+                .map(this::versioned)
+                .or(() -> auctionArchiveRepository.findById(auctionId))
                 .orElseThrow(() -> new AuctionException("Auction not found"));
     }
 
+    private Auction versioned(Auction auction) {
+        if (auction.getVersion() == null) {
+            auctionRepository.initializeVersion(auction.getId());
+            auction.setVersion(0L);
+        }
+        return auction;
+    }
+
+    /**
+     * Re-runs a read-modify-write that lost an optimistic concurrency race,
+     * with jittered exponential backoff. Each attempt reloads the auction, so
+     * validation sees the state that won.
+     */
+    private <T> T retryOnConflict(String auctionId, Supplier<T> operation) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return operation.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= MAX_WRITE_ATTEMPTS) {
+                    throw new AuctionConflictException("Auction was modified concurrently, please retry");
+                }
+                log.debug("Write conflict on auction {}, attempt {}", auctionId, attempt);
+                long ceiling = WRITE_BACKOFF_MS << (attempt - 1);
+                try {
+                    Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw new AuctionConflictException("Interrupted while retrying a conflicting write");
+                }
+            }
+        }
+    }
+
+    private Auction save(Auction auction) {
+        return RepositoryCallEvent.record("save", auction.getId(), () -> auctionRepository.save(auction));
+    }
+
+    private Auction cache(Auction auction) {
+        auctionCache.put(auction);
+        return auction;
+    }
+
     @Override
     public List<Auction> getActiveAuctions() {
-        return auctionRepository.findActiveAuctions(LocalDateTime.now());
+        LocalDateTime now = LocalDateTime.now(clock);
+        return RepositoryCallEvent.record("findActiveAuctions", null, () -> auctionRepository.findActiveAuctions(now));
+    }
+
+    @Override
+    public List<AuctionSummaryDTO> getAuctionsEndingWithin(long minutes, int limit) {
+        if (minutes <= 0) {
+            throw new AuctionException("Window must be at least one minute");
+        }
+        validateListingLimit(limit);
+        LocalDateTime now = LocalDateTime.now(clock);
+        return activeAuctionIndex.endingBetween(now, now.plusMinutes(minutes), limit).stream()
+                .map(this::convertToSummaryDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<AuctionSummaryDTO> getAuctionsByPriceRange(double minPrice, double maxPrice, AuctionSort sort, int limit) {
+        if (minPrice > maxPrice) {
+            throw new AuctionException("Minimum price must not exceed maximum price");
+        }
+        validateListingLimit(limit);
+        return activeAuctionIndex.pricedBetween(minPrice, maxPrice, sort, limit, LocalDateTime.now(clock)).stream()
+                .map(this::convertToSummaryDTO)
+                .collect(Collectors.toList());
+    }
+
+    private void validateListingLimit(int limit) {
+        if (limit < 1 || limit > MAX_LISTING_LIMIT) {
+            throw new AuctionException("Limit must be between 1 and " + MAX_LISTING_LIMIT);
+        }
     }
 
     @Override
     public List<Auction> getAuctionsByArtist(String artistId) {
-        return auctionRepository.findByArtistIdAndAuctionStatusIn(
-                artistId,
-                List.of(AuctionStatus.PENDING, AuctionStatus.ACTIVE, AuctionStatus.COMPLETED)
+        List<AuctionStatus> statuses = List.of(AuctionStatus.PENDING, AuctionStatus.ACTIVE, AuctionStatus.COMPLETED);
+        return withArchived(
+                auctionRepository.findByArtistIdAndAuctionStatusIn(artistId, statuses),
+                auctionArchiveRepository.findByArtistIdAndAuctionStatusIn(artistId, statuses)
         );
     }
 
@@ -153,19 +558,28 @@ public class AuctionServiceImpl implements AuctionService {
     @Override
     @Transactional
     public void cancelAuction(String auctionId) {
-        Auction auction = getAuctionById(auctionId);
-        if (List.of(AuctionStatus.ACTIVE, AuctionStatus.PENDING).contains(auction.getAuctionStatus())) {
-            auction.setAuctionStatus(AuctionStatus.CANCELLED);
-            auctionRepository.save(auction);
-            log.info("Auction cancelled: {}", auctionId);
-        } else {
+        Auction auction = findAuction(auctionId);
+        if (!CANCELLABLE.contains(auction.getAuctionStatus())) {
             throw new AuctionException("Cannot cancel auction in current status");
         }
+
+        Update update = new Update()
+                .set("auctionStatus", AuctionStatus.CANCELLED)
+                .set("updatedAt", LocalDateTime.now(clock))
+                .push("pendingEvents", AuctionEvent.of(AuctionEventType.AUCTION_CANCELLED, auction, clock));
+        // Only the status is checked, so bids landing meanwhile do not block the cancel.
+        Auction cancelled = auctionRepository.updateIf(auctionId, where("auctionStatus").in(CANCELLABLE), update)
+                .orElseThrow(() -> new AuctionException("Cannot cancel auction in current status"));
+        cache(cancelled);
+        log.info("Auction cancelled: {}", auctionId);
     }
 
     @Override
     public List<CompletedAuctionDTO> getCompletedAuctions() {
-        return auctionRepository.findByAuctionStatus(AuctionStatus.COMPLETED)
+        return withArchived(
+                auctionRepository.findByAuctionStatus(AuctionStatus.COMPLETED),
+                auctionArchiveRepository.findByAuctionStatus(AuctionStatus.COMPLETED)
+        )
                 .stream()
                 .map(this::convertToCompletedAuctionDTO)
                 .collect(Collectors.toList());
@@ -173,7 +587,10 @@ public class AuctionServiceImpl implements AuctionService {
 
     @Override
     public List<CompletedAuctionDTO> getCompletedAuctionsByWinnerId(String winnerId) {
-        return auctionRepository.findByAuctionStatusAndWinnerId(AuctionStatus.COMPLETED, winnerId)
+        return withArchived(
+                auctionRepository.findByAuctionStatusAndWinnerId(AuctionStatus.COMPLETED, winnerId),
+                auctionArchiveRepository.findByAuctionStatusAndWinnerId(AuctionStatus.COMPLETED, winnerId)
+        )
                 .stream()
                 .map(this::convertToCompletedAuctionDTO)
                 .collect(Collectors.toList());
@@ -188,6 +605,20 @@ public class AuctionServiceImpl implements AuctionService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Merges hot and archived results. An auction caught mid-move can appear
+     * in both; the hot copy wins.
+     */
+    private List<Auction> withArchived(List<Auction> hot, List<Auction> archived) {
+        if (archived.isEmpty()) {
+            return hot;
+        }
+        Map<String, Auction> merged = new LinkedHashMap<>();
+        archived.forEach(auction -> merged.put(auction.getId(), auction));
+        hot.forEach(auction -> merged.put(auction.getId(), auction));
+        return new ArrayList<>(merged.values());
+    }
+
     private BidDTO convertToBidDTO(Bid bid) {
         BidDTO bidDTO = new BidDTO();
         bidDTO.setAuctionId(bid.getAuctionId());
@@ -197,6 +628,25 @@ public class AuctionServiceImpl implements AuctionService {
         return bidDTO;
     }
 
+    private AuctionSummaryDTO convertToSummaryDTO(Auction auction) {
+        AuctionSummaryDTO dto = new AuctionSummaryDTO();
+        dto.setId(auction.getId());
+        dto.setTitle(auction.getTitle());
+        dto.setPaintingUrl(auction.getPaintingUrl());
+        dto.setArtistId(auction.getArtistId());
+        dto.setCurrentPrice(auction.getCurrentPrice());
+        dto.setStartTime(auction.getStartTime());
+        dto.setEndTime(auction.getEndTime());
+        dto.setAuctionStatus(auction.getAuctionStatus());
+        dto.setWinnerId(auction.getWinnerId());
+        return dto;
+    }
+
+    private AuctionSummaryDTO convertToSummaryDTO(AuctionListing listing) {
+        return new AuctionSummaryDTO(listing.id(), listing.title(), listing.paintingUrl(), listing.artistId(),
+                listing.currentPrice(), listing.startTime(), listing.endTime(), AuctionStatus.ACTIVE, null);
+    }
+
     private CompletedAuctionDTO convertToCompletedAuctionDTO(Auction auction) {
         CompletedAuctionDTO dto = new CompletedAuctionDTO();
         dto.setId(auction.getId());
@@ -213,35 +663,48 @@ public class AuctionServiceImpl implements AuctionService {
     @Override
     @Transactional
     public Auction updateAuctionDetails(String auctionId, AuctionCreateDTO updateDTO) {
-        Auction auction = getAuctionById(auctionId);
-
-        if (!AuctionStatus.PENDING.equals(auction.getAuctionStatus())) {
-            throw new AuctionException("Only pending auctions can be updated");
-        }
+        return retryOnConflict(auctionId, () -> {
+            Auction auction = findAuction(auctionId);
 
-        auction.setTitle(updateDTO.getTitle());
-        auction.setDescription(updateDTO.getDescription());
-        auction.setStartingPrice(updateDTO.getStartingPrice());
-        auction.setStartTime(updateDTO.getStartTime());
-        auction.setEndTime(calculateEndTime(updateDTO));
+            if (!AuctionStatus.PENDING.equals(auction.getAuctionStatus())) {
+                throw new AuctionException("Only pending auctions can be updated");
+            }
 
-        log.info("Updating auction details: {}", auctionId);
-        return auctionRepository.save(auction);
+            Update update = new Update()
+                    .set("title", updateDTO.getTitle())
+                    .set("description", updateDTO.getDescription())
+                    .set("startingPrice", updateDTO.getStartingPrice())
+                    .set("startTime", updateDTO.getStartTime())
+                    .set("endTime", calculateEndTime(updateDTO))
+                    .set("updatedAt", LocalDateTime.now(clock));
+
+            log.info("Updating auction details: {}", auctionId);
+            return cache(auctionRepository.updateIf(auctionId,
+                            where("auctionStatus").is(AuctionStatus.PENDING).and("version").is(auction.getVersion()),
+                            update)
+                    .orElseThrow(() -> new OptimisticLockingFailureException("Auction " + auctionId + " changed")));
+        });
     }
 
     @Override
     @Transactional
     public void extendAuctionTime(String auctionId, long extensionMinutes) {
-        Auction auction = getAuctionById(auctionId);
+        retryOnConflict(auctionId, () -> {
+            Auction auction = findAuction(auctionId);
 
-        if (!AuctionStatus.ACTIVE.equals(auction.getAuctionStatus())) {
-            throw new AuctionException("Only active auctions can be extended");
-        }
+            if (!AuctionStatus.ACTIVE.equals(auction.getAuctionStatus())) {
+                throw new AuctionException("Only active auctions can be extended");
+            }
 
-        LocalDateTime newEndTime = auction.getEndTime().plusMinutes(extensionMinutes);
-        auction.setEndTime(newEndTime);
+            // Compare-and-set on endTime: bids do not conflict, a concurrent extension does.
+            LocalDateTime newEndTime = auction.getEndTime().plusMinutes(extensionMinutes);
+            Update update = new Update().set("endTime", newEndTime).set("updatedAt", LocalDateTime.now(clock));
 
-        log.info("Extending auction time: {} by {} minutes", auctionId, extensionMinutes);
-        auctionRepository.save(auction);
+            log.info("Extending auction time: {} by {} minutes", auctionId, extensionMinutes);
+            return cache(auctionRepository.updateIf(auctionId,
+                            where("auctionStatus").is(AuctionStatus.ACTIVE).and("endTime").is(auction.getEndTime()),
+                            update)
+                    .orElseThrow(() -> new OptimisticLockingFailureException("Auction " + auctionId + " changed")));
+        });
     }
 }
\ No newline at end of file
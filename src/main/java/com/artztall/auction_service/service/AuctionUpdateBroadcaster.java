@@ -0,0 +1,68 @@
+package com.artztall.auction_service.service;
+
+import com.artztall.auction_service.cache.AuctionChangeSubscriber;
+import com.artztall.auction_service.model.Auction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pushes auction updates to clients subscribed over server-sent events.
+ */
+@Component
+@Slf4j
+public class AuctionUpdateBroadcaster implements AuctionChangeSubscriber {
+    private static final long EMITTER_TIMEOUT_MS = 30 * 60 * 1000L;
+
+    private final Map<String, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    public SseEmitter subscribe(String auctionId) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        emitters.computeIfAbsent(auctionId, id -> ConcurrentHashMap.newKeySet()).add(emitter);
+        emitter.onCompletion(() -> remove(auctionId, emitter));
+        emitter.onTimeout(() -> remove(auctionId, emitter));
+        emitter.onError(error -> remove(auctionId, emitter));
+        return emitter;
+    }
+
+    @Override
+    public void onAuctionChanged(Auction auction) {
+        Set<SseEmitter> subscribers = emitters.get(auction.getId());
+        if (subscribers == null) {
+            return;
+        }
+        for (SseEmitter emitter : subscribers) {
+            try {
+                emitter.send(SseEmitter.event().name("auction").data(auction));
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping update subscriber for auction {}", auction.getId());
+                remove(auction.getId(), emitter);
+            }
+        }
+    }
+
+    @Override
+    public void onAuctionRemoved(String auctionId) {
+        Set<SseEmitter> subscribers = emitters.remove(auctionId);
+        if (subscribers != null) {
+            subscribers.forEach(SseEmitter::complete);
+        }
+    }
+
+    public int subscriberCount(String auctionId) {
+        Set<SseEmitter> subscribers = emitters.get(auctionId);
+        return subscribers != null ? subscribers.size() : 0;
+    }
+
+    private void remove(String auctionId, SseEmitter emitter) {
+        emitters.computeIfPresent(auctionId, (id, set) -> {
+            set.remove(emitter);
+            return set.isEmpty() ? null : set;
+        });
+    }
+}
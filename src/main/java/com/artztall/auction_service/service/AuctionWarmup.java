@@ -0,0 +1,209 @@
+package com.artztall.auction_service.service;
+
+import com.artztall.auction_service.cache.AuctionCache;
+import com.artztall.auction_service.dto.BidDTO;
+import com.artztall.auction_service.model.Auction;
+import com.artztall.auction_service.model.AuctionStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Warms a fresh instance before it takes traffic: opens Mongo connections,
+ * streams active auctions into the local caches and runs the bid and
+ * serialization paths until the JIT has compiled them.
+ * <p>
+ * Reported through the {@code warmup} health indicator, which is part of the
+ * readiness group, and through the Eureka instance status, which stays
+ * {@code STARTING} until warm-up finishes. Warm-up runs off the startup
+ * thread and gives up after a deadline; a failed step degrades to a cold
+ * start rather than keeping the instance out of rotation.
+ */
+@Component("warmup")
+@Slf4j
+public class AuctionWarmup implements HealthIndicator {
+    private final MongoTemplate mongoTemplate;
+    private final AuctionCache auctionCache;
+    private final AuctionServiceImpl auctionService;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<ApplicationInfoManager> applicationInfoManager;
+    private final Clock clock;
+    private final boolean enabled;
+    private final int connections;
+    private final int iterations;
+    private final Duration timeout;
+
+    private volatile boolean complete;
+    private volatile String summary = "pending";
+
+    public AuctionWarmup(
+            MongoTemplate mongoTemplate,
+            AuctionCache auctionCache,
+            AuctionServiceImpl auctionService,
+            ObjectMapper objectMapper,
+            ObjectProvider<ApplicationInfoManager> applicationInfoManager,
+            Clock clock,
+            @Value("${auction.warmup.enabled:true}") boolean enabled,
+            @Value("${auction.warmup.connections:8}") int connections,
+            @Value("${auction.warmup.iterations:5000}") int iterations,
+            @Value("${auction.warmup.timeout-ms:60000}") long timeoutMillis
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.auctionCache = auctionCache;
+        this.auctionService = auctionService;
+        this.objectMapper = objectMapper;
+        this.applicationInfoManager = applicationInfoManager;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.connections = connections;
+        this.iterations = iterations;
+        this.timeout = Duration.ofMillis(timeoutMillis);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            finish("disabled");
+            return;
+        }
+        Thread thread = new Thread(this::run, "auction-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = complete ? Health.up() : Health.outOfService();
+        return builder.withDetail("warmup", summary).build();
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    private void run() {
+        long started = System.nanoTime();
+        long deadline = started + timeout.toNanos();
+        int primed = step("prime connection pool", this::primeConnectionPool, 0);
+        int preloaded = step("preload active auctions", () -> preloadActiveAuctions(deadline), 0);
+        int exercised = step("exercise bid path", () -> exerciseBidPath(deadline), 0);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        finish(String.format("%d connections, %d auctions, %d bid iterations in %d ms",
+                primed, preloaded, exercised, elapsedMillis));
+    }
+
+    private int primeConnectionPool() {
+        ExecutorService executor = Executors.newFixedThreadPool(connections);
+        try {
+            List<CompletableFuture<Document>> pings = IntStream.range(0, connections)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(
+                            () -> mongoTemplate.executeCommand(new Document("ping", 1)), executor))
+                    .toList();
+            CompletableFuture.allOf(pings.toArray(CompletableFuture[]::new))
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            return pings.size();
+        } catch (Exception e) {
+            throw new IllegalStateException("Mongo ping failed", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int preloadActiveAuctions(long deadline) {
+        int loaded = 0;
+        try (Stream<Auction> auctions = mongoTemplate.stream(
+                new Query(where("auctionStatus").is(AuctionStatus.ACTIVE)), Auction.class)) {
+            for (Auction auction : (Iterable<Auction>) auctions::iterator) {
+                auctionCache.put(auction);
+                loaded++;
+                if (System.nanoTime() > deadline) {
+                    break;
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private int exerciseBidPath(long deadline) throws Exception {
+        int completed = 0;
+        Auction auction = syntheticAuction();
+        for (int i = 0; i < iterations && System.nanoTime() < deadline; i++) {
+            if (auction.getBidsCount() >= 50) {
+                auction = syntheticAuction();
+            }
+            BidDTO bidDTO = new BidDTO();
+            bidDTO.setAuctionId(auction.getId());
+            bidDTO.setUserId("warmup-" + (i % 7));
+            bidDTO.setAmount(auction.getCurrentPrice() + 1);
+            auctionService.applyBidTo(auction, bidDTO);
+
+            byte[] json = objectMapper.writeValueAsBytes(auction);
+            objectMapper.readValue(json, Auction.class);
+            objectMapper.writeValueAsBytes(bidDTO);
+            completed++;
+        }
+        return completed;
+    }
+
+    private Auction syntheticAuction() {
+        Auction auction = new Auction();
+        auction.setId("warmup-" + UUID.randomUUID());
+        auction.setTitle("Warm-up");
+        auction.setArtistId("warmup-artist");
+        auction.setStartingPrice(1);
+        auction.setCurrentPrice(1);
+        auction.setStartTime(LocalDateTime.now(clock).minusMinutes(1));
+        auction.setEndTime(LocalDateTime.now(clock).plusHours(1));
+        auction.setAuctionStatus(AuctionStatus.ACTIVE);
+        return auction;
+    }
+
+    private int step(String name, WarmupStep step, int fallback) {
+        try {
+            return step.run();
+        } catch (Exception e) {
+            log.warn("Warm-up step '{}' failed, continuing cold", name, e);
+            return fallback;
+        }
+    }
+
+    private void finish(String result) {
+        summary = result;
+        complete = true;
+        ApplicationInfoManager infoManager = applicationInfoManager.getIfAvailable();
+        if (infoManager != null) {
+            infoManager.setInstanceStatus(InstanceInfo.InstanceStatus.UP);
+        }
+        log.info("Warm-up complete: {}", result);
+    }
+
+    @FunctionalInterface
+    private interface WarmupStep {
+        int run() throws Exception;
+    }
+}
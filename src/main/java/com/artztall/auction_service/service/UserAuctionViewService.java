@@ -0,0 +1,135 @@
+package com.artztall.auction_service.service;
+
+import com.artztall.auction_service.event.AuctionEvent;
+import com.artztall.auction_service.event.AuctionEventHandler;
+import com.artztall.auction_service.model.UserAuctionStatus;
+import com.artztall.auction_service.model.UserAuctionView;
+import com.artztall.auction_service.repository.UserAuctionViewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Maintains the per-user "my bids" / "won auctions" read model from auction
+ * events. Every update is conditional on prices, so replayed or duplicate
+ * events cannot demote a newer leader. A bidder's view starts out outbid
+ * and at the highest price already known for the auction, so a bid whose
+ * event arrives after a higher rival's is not shown as leading.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class UserAuctionViewService implements AuctionEventHandler {
+    private final UserAuctionViewRepository userAuctionViewRepository;
+    private final MongoTemplate mongoTemplate;
+    private final Clock clock;
+
+    public List<UserAuctionView> getActiveBids(String userId) {
+        return userAuctionViewRepository.findByUserIdAndStatusInOrderByUpdatedAtDesc(
+                userId, List.of(UserAuctionStatus.LEADING, UserAuctionStatus.OUTBID));
+    }
+
+    public List<UserAuctionView> getWonAuctions(String userId) {
+        return userAuctionViewRepository.findByUserIdAndStatusInOrderByUpdatedAtDesc(
+                userId, List.of(UserAuctionStatus.WON));
+    }
+
+    @Override
+    public void onEvent(AuctionEvent event) {
+        switch (event.getType()) {
+            case BID_PLACED -> applyBid(event);
+            case AUCTION_CLOSED -> applyClose(event);
+            case AUCTION_CANCELLED -> applyCancel(event);
+            default -> {
+            }
+        }
+    }
+
+    private void applyBid(AuctionEvent event) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        String bidderViewId = UserAuctionView.idFor(event.getUserId(), event.getAuctionId());
+        UserAuctionView highestRival = mongoTemplate.findOne(
+                new Query(where("auctionId").is(event.getAuctionId()).and("userId").ne(event.getUserId()))
+                        .with(Sort.by(Sort.Direction.DESC, "myHighestBid"))
+                        .limit(1),
+                UserAuctionView.class
+        );
+        double knownPrice = highestRival != null
+                ? Math.max(highestRival.getMyHighestBid(), event.getAmount())
+                : event.getAmount();
+
+        mongoTemplate.upsert(
+                new Query(where("_id").is(bidderViewId)),
+                new Update()
+                        .setOnInsert("userId", event.getUserId())
+                        .setOnInsert("auctionId", event.getAuctionId())
+                        .setOnInsert("status", UserAuctionStatus.OUTBID)
+                        .set("title", event.getTitle())
+                        .max("myHighestBid", event.getAmount())
+                        .max("currentPrice", knownPrice)
+                        .max("lastBidAt", event.getOccurredAt())
+                        .set("updatedAt", now),
+                UserAuctionView.class
+        );
+        mongoTemplate.updateFirst(
+                new Query(where("_id").is(bidderViewId).and("currentPrice").lte(event.getAmount())
+                        .and("status").nin(UserAuctionStatus.WON, UserAuctionStatus.LOST, UserAuctionStatus.CANCELLED)),
+                new Update().set("status", UserAuctionStatus.LEADING),
+                UserAuctionView.class
+        );
+        mongoTemplate.updateMulti(
+                new Query(where("auctionId").is(event.getAuctionId())
+                        .and("userId").ne(event.getUserId())
+                        .and("status").is(UserAuctionStatus.LEADING)
+                        .and("myHighestBid").lte(event.getAmount())),
+                new Update().set("status", UserAuctionStatus.OUTBID).set("updatedAt", now),
+                UserAuctionView.class
+        );
+        mongoTemplate.updateMulti(
+                new Query(where("auctionId").is(event.getAuctionId()).and("currentPrice").lt(event.getAmount())),
+                new Update().set("currentPrice", event.getAmount()),
+                UserAuctionView.class
+        );
+    }
+
+    private void applyClose(AuctionEvent event) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        mongoTemplate.updateMulti(
+                new Query(where("auctionId").is(event.getAuctionId()).and("userId").ne(event.getUserId())),
+                new Update()
+                        .set("status", UserAuctionStatus.LOST)
+                        .set("finalPrice", event.getAmount())
+                        .set("updatedAt", now),
+                UserAuctionView.class
+        );
+        if (event.getUserId() != null) {
+            mongoTemplate.updateFirst(
+                    new Query(where("_id").is(UserAuctionView.idFor(event.getUserId(), event.getAuctionId()))),
+                    new Update()
+                            .set("status", UserAuctionStatus.WON)
+                            .set("finalPrice", event.getAmount())
+                            .set("updatedAt", now),
+                    UserAuctionView.class
+            );
+        }
+        log.debug("Settled user views for closed auction {}", event.getAuctionId());
+    }
+
+    private void applyCancel(AuctionEvent event) {
+        mongoTemplate.updateMulti(
+                new Query(where("auctionId").is(event.getAuctionId())),
+                new Update().set("status", UserAuctionStatus.CANCELLED).set("updatedAt", LocalDateTime.now(clock)),
+                UserAuctionView.class
+        );
+    }
+}
@@ -0,0 +1,83 @@
+package com.artztall.auction_service.shedular;
+
+import com.artztall.auction_service.model.Auction;
+import com.artztall.auction_service.model.AuctionStatus;
+import com.artztall.auction_service.repository.AuctionArchiveRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Moves settled auctions past the retention window out of the hot
+ * {@code auctions} collection, keeping its working set and indexes sized to
+ * live trading. Auctions with undelivered outbox events are left in place
+ * until the dispatcher has drained them.
+ */
+@Component
+@Slf4j
+public class AuctionArchiver {
+    private static final String LEASE_NAME = "auction-archiver";
+    private static final List<AuctionStatus> SETTLED = List.of(AuctionStatus.COMPLETED, AuctionStatus.CANCELLED);
+
+    private final MongoTemplate mongoTemplate;
+    private final AuctionArchiveRepository archiveRepository;
+    private final SchedulerLease schedulerLease;
+    private final Clock clock;
+    private final long retentionDays;
+    private final int batchSize;
+
+    public AuctionArchiver(
+            MongoTemplate mongoTemplate,
+            AuctionArchiveRepository archiveRepository,
+            SchedulerLease schedulerLease,
+            Clock clock,
+            @Value("${auction.archive.retention-days:30}") long retentionDays,
+            @Value("${auction.archive.batch-size:500}") int batchSize
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.archiveRepository = archiveRepository;
+        this.schedulerLease = schedulerLease;
+        this.clock = clock;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${auction.archive.interval-ms:3600000}",
+            initialDelayString = "${auction.archive.initial-delay-ms:300000}")
+    public void archiveSettledAuctions() {
+        if (!schedulerLease.tryAcquire(LEASE_NAME, Duration.ofMinutes(30))) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now(clock).minusDays(retentionDays);
+        int archived = 0;
+        List<Auction> batch;
+        do {
+            batch = mongoTemplate.find(new Query(where("auctionStatus").in(SETTLED)
+                    .and("endTime").lt(cutoff)
+                    .and("pendingEvents.0").exists(false)).limit(batchSize), Auction.class);
+            if (batch.isEmpty()) {
+                break;
+            }
+            archiveRepository.saveAll(batch);
+            List<String> ids = batch.stream().map(Auction::getId).toList();
+            // Re-check the status so nothing that changed since the read is dropped.
+            mongoTemplate.remove(new Query(where("_id").in(ids).and("auctionStatus").in(SETTLED)
+                    .and("pendingEvents.0").exists(false)), Auction.class);
+            archived += batch.size();
+        } while (batch.size() == batchSize);
+
+        if (archived > 0) {
+            log.info("Archived {} settled auctions ended before {}", archived, cutoff);
+        }
+    }
+}
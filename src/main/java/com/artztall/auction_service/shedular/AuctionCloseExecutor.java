@@ -0,0 +1,128 @@
+package com.artztall.auction_service.shedular;
+
+import com.artztall.auction_service.model.Auction;
+import com.artztall.auction_service.profiling.CloseBatchEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Closes expired auctions in partitions on a bounded pool, so a sale where
+ * many auctions end in the same minute is not closed one by one.
+ * <p>
+ * At most {@code concurrency} partitions are in flight, capped at a quarter of
+ * the Mongo connection pool so bids keep their connections during a large
+ * close; the caller blocks until a slot frees up. A failed partition is
+ * logged and left ACTIVE for the next run. Close lag, the time from an
+ * auction's end to its close being written, is recorded per auction closed.
+ */
+@Component
+@Slf4j
+public class AuctionCloseExecutor {
+    private final ExecutorService executor;
+    private final Semaphore inFlight;
+    private final int partitionSize;
+    private final Clock clock;
+    private final Timer closeLag;
+    private final Counter closedAuctions;
+    private final Counter failedPartitions;
+
+    public AuctionCloseExecutor(
+            MeterRegistry meterRegistry,
+            Clock clock,
+            @Value("${auction.close.concurrency:4}") int concurrency,
+            @Value("${auction.close.partition-size:100}") int partitionSize,
+            @Value("${auction.mongo.pool.max-size:100}") int maxPoolSize
+    ) {
+        int threads = Math.max(1, Math.min(concurrency, maxPoolSize / 4));
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "auction-close-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.inFlight = new Semaphore(threads);
+        this.partitionSize = Math.max(1, partitionSize);
+        this.clock = clock;
+
+        this.closeLag = Timer.builder("auction.close.lag")
+                .description("Time from an auction's end time to its close being written")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.closedAuctions = Counter.builder("auction.close.closed").register(meterRegistry);
+        this.failedPartitions = Counter.builder("auction.close.partition.failures").register(meterRegistry);
+    }
+
+    /**
+     * Runs {@code closePartition} over the auctions in partitions and waits
+     * for all of them. {@code closePartition} returns the ids of the auctions
+     * it closed; the others were left ACTIVE and are not counted.
+     *
+     * @return the number of auctions closed
+     */
+    public int execute(List<Auction> auctions, Function<List<Auction>, Set<String>> closePartition) {
+        List<CompletableFuture<Integer>> partitions = new ArrayList<>();
+        for (int from = 0; from < auctions.size(); from += partitionSize) {
+            List<Auction> partition = auctions.subList(from, Math.min(from + partitionSize, auctions.size()));
+            inFlight.acquireUninterruptibly();
+            partitions.add(CompletableFuture
+                    .supplyAsync(() -> closeAndRecord(partition, closePartition), executor)
+                    .whenComplete((closed, error) -> inFlight.release()));
+        }
+
+        int closed = 0;
+        for (CompletableFuture<Integer> partition : partitions) {
+            try {
+                closed += partition.join();
+            } catch (RuntimeException e) {
+                failedPartitions.increment();
+                log.warn("Failed to close a partition of expired auctions, retrying on the next run", e);
+            }
+        }
+        return closed;
+    }
+
+    private int closeAndRecord(List<Auction> partition, Function<List<Auction>, Set<String>> closePartition) {
+        CloseBatchEvent event = new CloseBatchEvent();
+        event.begin();
+        Set<String> closedIds;
+        try {
+            closedIds = closePartition.apply(partition);
+        } catch (RuntimeException e) {
+            event.finish(partition.get(0).getId(), partition.size(), 0, "FAILED");
+            throw e;
+        }
+        int closed = closedIds.size();
+        event.finish(partition.get(0).getId(), partition.size(), closed, closed == partition.size() ? "CLOSED" : "PARTIAL");
+        LocalDateTime now = LocalDateTime.now(clock);
+        for (Auction auction : partition) {
+            if (auction.getEndTime() != null && closedIds.contains(auction.getId())) {
+                closeLag.record(Duration.between(auction.getEndTime(), now));
+            }
+        }
+        closedAuctions.increment(closed);
+        return closed;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
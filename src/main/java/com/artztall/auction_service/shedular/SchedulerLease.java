@@ -0,0 +1,47 @@
+package com.artztall.auction_service.shedular;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Mongo-backed lease that lets exactly one replica run a given background job
+ * at a time. A holder renews the lease simply by acquiring it again.
+ */
+@Component
+public class SchedulerLease {
+    private static final String COLLECTION = "scheduler_leases";
+
+    private final MongoTemplate mongoTemplate;
+    private final Clock clock;
+    private final String owner = UUID.randomUUID().toString();
+
+    public SchedulerLease(MongoTemplate mongoTemplate, Clock clock) {
+        this.mongoTemplate = mongoTemplate;
+        this.clock = clock;
+    }
+
+    public boolean tryAcquire(String name, Duration ttl) {
+        Instant now = clock.instant();
+        Query query = new Query(where("_id").is(name)
+                .orOperator(where("owner").is(owner), where("expiresAt").lt(now)));
+        Update update = new Update()
+                .set("owner", owner)
+                .set("expiresAt", now.plus(ttl));
+        try {
+            mongoTemplate.upsert(query, update, COLLECTION);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.artztall.auction_service.tracing;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+
+/**
+ * A finished span in Zipkin v2 JSON form, which Zipkin, Jaeger and the
+ * OpenTelemetry collector all accept.
+ *
+ * @param timestamp start in epoch microseconds
+ * @param duration  duration in microseconds
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record RecordedSpan(
+        String traceId,
+        String id,
+        String parentId,
+        String name,
+        String kind,
+        long timestamp,
+        long duration,
+        Map<String, String> localEndpoint,
+        Map<String, String> tags
+) {
+}
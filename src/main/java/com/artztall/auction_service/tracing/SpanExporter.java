@@ -0,0 +1,155 @@
+package com.artztall.auction_service.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ships finished spans off the request path. With
+ * {@code auction.tracing.exporter=file} spans are appended to
+ * {@code auction.tracing.file} as NDJSON; with {@code zipkin} they are
+ * posted in batches to {@code auction.tracing.endpoint}, the Zipkin v2
+ * spans API that Zipkin and the OpenTelemetry collector's Zipkin receiver
+ * serve. Spans are dropped, and counted, when the queue is full or a post
+ * fails.
+ */
+@Component
+@ConditionalOnProperty(name = "auction.tracing.enabled", havingValue = "true")
+@Slf4j
+public class SpanExporter {
+    private static final int MAX_BATCH = 512;
+
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<RecordedSpan> queue;
+    private final Counter exported;
+    private final Counter dropped;
+    private final Path file;
+    private final URI endpoint;
+    private final HttpClient httpClient;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public SpanExporter(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${auction.tracing.exporter:file}") String exporter,
+            @Value("${auction.tracing.file:./data/traces/spans.ndjson}") String file,
+            @Value("${auction.tracing.endpoint:http://localhost:9411/api/v2/spans}") String endpoint,
+            @Value("${auction.tracing.queue-capacity:16384}") int queueCapacity
+    ) {
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.exported = Counter.builder("auction.tracing.spans.exported").register(meterRegistry);
+        this.dropped = Counter.builder("auction.tracing.spans.dropped")
+                .description("Spans lost to a full queue or a failed export")
+                .register(meterRegistry);
+        if ("zipkin".equals(exporter)) {
+            this.file = null;
+            this.endpoint = URI.create(endpoint);
+            this.httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        } else if ("file".equals(exporter)) {
+            this.file = Paths.get(file);
+            this.endpoint = null;
+            this.httpClient = null;
+            try {
+                if (this.file.getParent() != null) {
+                    Files.createDirectories(this.file.getParent());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot create span file directory for " + file, e);
+            }
+        } else {
+            throw new IllegalArgumentException("auction.tracing.exporter must be file or zipkin, not " + exporter);
+        }
+        this.writer = new Thread(this::drain, "span-exporter");
+        this.writer.setDaemon(true);
+        this.writer.start();
+        log.info("Exporting spans to {}", this.file != null ? this.file : this.endpoint);
+    }
+
+    public void export(RecordedSpan span) {
+        if (!queue.offer(span)) {
+            dropped.increment();
+        }
+    }
+
+    private void drain() {
+        List<RecordedSpan> batch = new ArrayList<>(MAX_BATCH);
+        try {
+            while (running || !queue.isEmpty()) {
+                RecordedSpan first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, MAX_BATCH - 1);
+                try {
+                    if (file != null) {
+                        write(batch);
+                    } else {
+                        post(batch);
+                    }
+                    exported.increment(batch.size());
+                } catch (IOException e) {
+                    dropped.increment(batch.size());
+                    log.warn("Failed to export {} spans: {}", batch.size(), e.getMessage());
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void write(List<RecordedSpan> batch) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (RecordedSpan span : batch) {
+                out.write(objectMapper.writeValueAsString(span));
+                out.newLine();
+            }
+        }
+    }
+
+    private void post(List<RecordedSpan> batch) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(endpoint)
+                .timeout(Duration.ofSeconds(5))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(batch)))
+                .build();
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() >= 300) {
+            throw new IOException("Collector answered " + response.statusCode());
+        }
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+}
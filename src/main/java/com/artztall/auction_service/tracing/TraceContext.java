@@ -0,0 +1,42 @@
+package com.artztall.auction_service.tracing;
+
+import java.util.HexFormat;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Trace and span IDs as carried in a W3C {@code traceparent} header, which
+ * is what Micrometer Tracing sends by default from other services.
+ */
+public record TraceContext(String traceId, String spanId, boolean sampled) {
+    public static final String HEADER = "traceparent";
+    private static final Pattern TRACEPARENT = Pattern.compile("00-([0-9a-f]{32})-([0-9a-f]{16})-([0-9a-f]{2})");
+    private static final String INVALID_TRACE_ID = "0".repeat(32);
+    private static final String INVALID_SPAN_ID = "0".repeat(16);
+
+    /**
+     * @return the context, or {@code null} if the header is missing or malformed
+     */
+    public static TraceContext parse(String traceparent) {
+        if (traceparent == null) {
+            return null;
+        }
+        var matcher = TRACEPARENT.matcher(traceparent.trim());
+        if (!matcher.matches() || matcher.group(1).equals(INVALID_TRACE_ID) || matcher.group(2).equals(INVALID_SPAN_ID)) {
+            return null;
+        }
+        boolean sampled = (HexFormat.fromHexDigits(matcher.group(3)) & 1) == 1;
+        return new TraceContext(matcher.group(1), matcher.group(2), sampled);
+    }
+
+    public String traceparent() {
+        return "00-" + traceId + "-" + spanId + (sampled ? "-01" : "-00");
+    }
+
+    static String newId(int bytes) {
+        byte[] id = new byte[bytes];
+        ThreadLocalRandom.current().nextBytes(id);
+        id[0] |= 1;
+        return HexFormat.of().formatHex(id);
+    }
+}
@@ -0,0 +1,130 @@
+package com.artztall.auction_service.tracing;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationView;
+import io.micrometer.observation.transport.ReceiverContext;
+import io.micrometer.observation.transport.SenderContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turns observations into spans. Boot already observes incoming HTTP
+ * requests and outgoing HTTP client calls, the service observes bids and
+ * reads, and the Mongo driver observes commands, so every observation
+ * becomes a span parented by the observation that was current when it
+ * started.
+ * <p>
+ * Incoming requests continue the trace in their {@code traceparent}
+ * header, including its sampling decision, and outgoing HTTP calls get
+ * one. Traces started here are sampled with
+ * {@code auction.tracing.sampling-probability}. Only sampled spans are
+ * exported.
+ */
+@Component
+@ConditionalOnProperty(name = "auction.tracing.enabled", havingValue = "true")
+public class TracingObservationHandler implements ObservationHandler<Observation.Context> {
+    private final SpanExporter exporter;
+    private final Clock clock;
+    private final double samplingProbability;
+    private final Map<String, String> localEndpoint;
+
+    public TracingObservationHandler(
+            SpanExporter exporter,
+            Clock clock,
+            @Value("${auction.tracing.sampling-probability:0.1}") double samplingProbability,
+            @Value("${spring.application.name:auction-service}") String serviceName
+    ) {
+        this.exporter = exporter;
+        this.clock = clock;
+        this.samplingProbability = samplingProbability;
+        this.localEndpoint = Map.of("serviceName", serviceName);
+    }
+
+    @Override
+    public void onStart(Observation.Context context) {
+        TraceContext parent = parentOf(context);
+        boolean sampled = parent != null ? parent.sampled() : ThreadLocalRandom.current().nextDouble() < samplingProbability;
+        TraceContext span = new TraceContext(
+                parent != null ? parent.traceId() : TraceContext.newId(16), TraceContext.newId(8), sampled);
+        context.put(Span.class, new Span(span, parent != null ? parent.spanId() : null,
+                Instant.now(clock), System.nanoTime()));
+        if (context instanceof SenderContext<?> sender) {
+            inject(sender, span);
+        }
+    }
+
+    @Override
+    public void onStop(Observation.Context context) {
+        Span span = context.get(Span.class);
+        if (span == null || !span.context().sampled()) {
+            return;
+        }
+        Map<String, String> tags = new LinkedHashMap<>();
+        for (KeyValue keyValue : context.getAllKeyValues()) {
+            tags.put(keyValue.getKey(), keyValue.getValue());
+        }
+        if (context.getError() != null) {
+            tags.put("error", String.valueOf(context.getError().getMessage()));
+        }
+        String kind = context instanceof ReceiverContext<?> ? "SERVER" : context instanceof SenderContext<?> ? "CLIENT" : null;
+        exporter.export(new RecordedSpan(
+                span.context().traceId(),
+                span.context().spanId(),
+                span.parentId(),
+                context.getContextualName() != null ? context.getContextualName() : context.getName(),
+                kind,
+                ChronoUnit.MICROS.between(Instant.EPOCH, span.start()),
+                Math.max(1, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - span.startNanos())),
+                localEndpoint,
+                tags));
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return true;
+    }
+
+    /**
+     * The span of this observation's parent, or for an incoming request
+     * without one, the caller's span from its {@code traceparent} header.
+     */
+    private static TraceContext parentOf(Observation.Context context) {
+        ObservationView parent = context.getParentObservation();
+        if (parent != null) {
+            Span span = parent.getContextView().get(Span.class);
+            if (span != null) {
+                return span.context();
+            }
+        }
+        if (context instanceof ReceiverContext<?> receiver) {
+            return TraceContext.parse(extract(receiver));
+        }
+        return null;
+    }
+
+    private static <C> String extract(ReceiverContext<C> receiver) {
+        C carrier = receiver.getCarrier();
+        return carrier != null ? receiver.getGetter().get(carrier, TraceContext.HEADER) : null;
+    }
+
+    private static <C> void inject(SenderContext<C> sender, TraceContext span) {
+        C carrier = sender.getCarrier();
+        if (carrier != null) {
+            sender.getSetter().set(carrier, TraceContext.HEADER, span.traceparent());
+        }
+    }
+
+    private record Span(TraceContext context, String parentId, Instant start, long startNanos) {
+    }
+}
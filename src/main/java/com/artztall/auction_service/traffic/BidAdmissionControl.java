@@ -0,0 +1,194 @@
+package com.artztall.auction_service.traffic;
+
+import com.artztall.auction_service.cache.AuctionChangeSubscriber;
+import com.artztall.auction_service.cache.LiveAuctionState;
+import com.artztall.auction_service.cache.LiveAuctionStore;
+import com.artztall.auction_service.dto.BidDTO;
+import com.artztall.auction_service.dto.BidRejection;
+import com.artztall.auction_service.exception.AuctionException;
+import com.artztall.auction_service.exception.BidRateLimitException;
+import com.artztall.auction_service.model.Auction;
+import com.artztall.auction_service.model.AuctionStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sheds bid traffic before it reaches Mongo.
+ * <p>
+ * Each bid must take a token from its user's bucket and, if it is not already
+ * doomed, from its auction's bucket. Doomed bids are those below the highest
+ * price this instance has seen for the auction, or on an auction it has seen
+ * settle. Both facts only ever move in one direction while an auction is
+ * live, so a stale observation can reject too little but never too much.
+ * Doomed bids are returned as the rejection cached with the floor, so
+ * repeated losing bids on the same auction share one response body;
+ * exceeding a rate limit still throws {@link BidRateLimitException}.
+ * <p>
+ * When the {@link LiveAuctionStore} is enabled it already holds each
+ * auction's price and status off-heap, so no floors are kept here and doomed
+ * bids are checked against the store instead, at the cost of building their
+ * rejection per bid.
+ */
+@Component
+public class BidAdmissionControl implements AuctionChangeSubscriber {
+    private static final long IDLE_STATE_NANOS = 10L * 60 * 1_000_000_000;
+
+    private final Map<String, TokenBucket> userBuckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> auctionBuckets = new ConcurrentHashMap<>();
+    private final Map<String, PriceFloor> priceFloors = new ConcurrentHashMap<>();
+    private final LiveAuctionStore liveAuctionStore;
+    private final ThreadLocal<LiveAuctionState> liveState = ThreadLocal.withInitial(LiveAuctionState::new);
+
+    private final double userBurst;
+    private final double userBidsPerSecond;
+    private final double auctionBurst;
+    private final double auctionBidsPerSecond;
+
+    private final Counter admitted;
+    private final Counter userRateRejections;
+    private final Counter auctionRateRejections;
+    private final Counter belowPriceRejections;
+    private final Counter closedRejections;
+
+    public BidAdmissionControl(
+            MeterRegistry meterRegistry,
+            LiveAuctionStore liveAuctionStore,
+            @Value("${auction.admission.user-burst:10}") double userBurst,
+            @Value("${auction.admission.user-bids-per-second:5}") double userBidsPerSecond,
+            @Value("${auction.admission.auction-burst:400}") double auctionBurst,
+            @Value("${auction.admission.auction-bids-per-second:200}") double auctionBidsPerSecond
+    ) {
+        this.liveAuctionStore = liveAuctionStore;
+        this.userBurst = userBurst;
+        this.userBidsPerSecond = userBidsPerSecond;
+        this.auctionBurst = auctionBurst;
+        this.auctionBidsPerSecond = auctionBidsPerSecond;
+        this.admitted = Counter.builder("auction.bid.admitted").register(meterRegistry);
+        this.userRateRejections = rejectionCounter(meterRegistry, "user_rate");
+        this.auctionRateRejections = rejectionCounter(meterRegistry, "auction_rate");
+        this.belowPriceRejections = rejectionCounter(meterRegistry, "below_price");
+        this.closedRejections = rejectionCounter(meterRegistry, "closed");
+    }
+
+    /**
+     * @return the rejection if the bid is already doomed, otherwise empty
+     * once the bid has been admitted
+     * @throws AuctionException if the bid names no auction or user
+     */
+    public Optional<BidRejection> admit(BidDTO bidDTO) {
+        if (!StringUtils.hasText(bidDTO.getAuctionId()) || !StringUtils.hasText(bidDTO.getUserId())) {
+            throw new AuctionException("Auction ID and user ID are required");
+        }
+        long now = System.nanoTime();
+        TokenBucket userBucket = userBuckets.computeIfAbsent(bidDTO.getUserId(),
+                id -> new TokenBucket(userBurst, userBidsPerSecond, now));
+        if (!userBucket.tryAcquire(now)) {
+            userRateRejections.increment();
+            throw new BidRateLimitException("Too many bids from this user, slow down");
+        }
+
+        Optional<BidRejection> doomed = liveAuctionStore.isEnabled() ? doomedByLiveState(bidDTO) : doomedByFloor(bidDTO);
+        if (doomed.isPresent()) {
+            return doomed;
+        }
+
+        TokenBucket auctionBucket = auctionBuckets.computeIfAbsent(bidDTO.getAuctionId(),
+                id -> new TokenBucket(auctionBurst, auctionBidsPerSecond, now));
+        if (!auctionBucket.tryAcquire(now)) {
+            auctionRateRejections.increment();
+            throw new BidRateLimitException("Too many bids on this auction, try again");
+        }
+        admitted.increment();
+        return Optional.empty();
+    }
+
+    private Optional<BidRejection> doomedByFloor(BidDTO bidDTO) {
+        PriceFloor floor = priceFloors.get(bidDTO.getAuctionId());
+        if (floor != null) {
+            if (floor.settled()) {
+                closedRejections.increment();
+                return Optional.of(floor.rejection());
+            }
+            if (bidDTO.getAmount() < floor.price()) {
+                belowPriceRejections.increment();
+                return Optional.of(floor.rejection());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Optional<BidRejection> doomedByLiveState(BidDTO bidDTO) {
+        LiveAuctionState state = liveState.get();
+        if (liveAuctionStore.read(bidDTO.getAuctionId(), state)) {
+            if (state.isSettled()) {
+                closedRejections.increment();
+                return Optional.of(BidRejection.closed(bidDTO.getAuctionId()));
+            }
+            if (bidDTO.getAmount() < state.getCurrentPrice()) {
+                belowPriceRejections.increment();
+                return Optional.of(BidRejection.outbid(bidDTO.getAuctionId(), state.getCurrentPrice()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void onAuctionChanged(Auction auction) {
+        if (liveAuctionStore.isEnabled()) {
+            return;
+        }
+        boolean settled = AuctionStatus.COMPLETED.equals(auction.getAuctionStatus())
+                || AuctionStatus.CANCELLED.equals(auction.getAuctionStatus());
+        long now = System.nanoTime();
+        priceFloors.merge(auction.getId(), PriceFloor.of(auction.getId(), auction.getCurrentPrice(), settled, now),
+                (existing, observed) -> existing.price() >= observed.price() && (existing.settled() || !observed.settled())
+                        ? existing.observedAt(now)
+                        : PriceFloor.of(auction.getId(),
+                                Math.max(existing.price(), observed.price()),
+                                existing.settled() || observed.settled(),
+                                now));
+    }
+
+    @Override
+    public void onAuctionRemoved(String auctionId) {
+        priceFloors.remove(auctionId);
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void evictIdleState() {
+        long now = System.nanoTime();
+        userBuckets.values().removeIf(bucket -> bucket.isFull(now));
+        auctionBuckets.values().removeIf(bucket -> bucket.isFull(now));
+        priceFloors.values().removeIf(floor -> floor.settled() && now - floor.observedAtNanos() > IDLE_STATE_NANOS);
+    }
+
+    private static Counter rejectionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("auction.bid.rejected")
+                .tag("reason", reason)
+                .description("Bids shed by admission control before reaching Mongo")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Highest price seen for an auction, which is also the minimum next bid,
+     * with the rejection body for bids that fall below it.
+     */
+    private record PriceFloor(double price, boolean settled, long observedAtNanos, BidRejection rejection) {
+        static PriceFloor of(String auctionId, double price, boolean settled, long observedAtNanos) {
+            BidRejection rejection = settled ? BidRejection.closed(auctionId) : BidRejection.outbid(auctionId, price);
+            return new PriceFloor(price, settled, observedAtNanos, rejection);
+        }
+
+        PriceFloor observedAt(long nanos) {
+            return new PriceFloor(price, settled, nanos, rejection);
+        }
+    }
+}
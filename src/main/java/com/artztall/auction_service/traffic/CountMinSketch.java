@@ -0,0 +1,69 @@
+package com.artztall.auction_service.traffic;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size, thread-safe count-min sketch. Estimates never undercount; with
+ * width {@code w} and depth {@code d} the overcount is at most {@code 2N/w}
+ * with probability {@code 1 - 2^-d}, where {@code N} is the total count.
+ */
+public class CountMinSketch {
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+            0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x94D049BB133111EBL, 0xBF58476D1CE4E5B9L
+    };
+
+    private final int width;
+    private final int depth;
+    private final AtomicLongArray counters;
+
+    public CountMinSketch(int width, int depth) {
+        if (width <= 0 || depth <= 0 || depth > SEEDS.length) {
+            throw new IllegalArgumentException("width must be positive and depth in 1.." + SEEDS.length);
+        }
+        this.width = width;
+        this.depth = depth;
+        this.counters = new AtomicLongArray(width * depth);
+    }
+
+    public void add(String key, long count) {
+        int hash = key.hashCode();
+        for (int row = 0; row < depth; row++) {
+            counters.addAndGet(index(row, hash), count);
+        }
+    }
+
+    public long estimate(String key) {
+        int hash = key.hashCode();
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters.get(index(row, hash)));
+        }
+        return min;
+    }
+
+    /**
+     * Subtracts another sketch of the same shape cell by cell. Used to expire a
+     * time slot from a windowed total.
+     */
+    public void subtract(CountMinSketch other) {
+        for (int i = 0; i < counters.length(); i++) {
+            long value = other.counters.get(i);
+            if (value != 0) {
+                counters.addAndGet(i, -value);
+            }
+        }
+    }
+
+    public void clear() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, 0);
+        }
+    }
+
+    private int index(int row, int hash) {
+        long mixed = (hash ^ SEEDS[row]) * SEEDS[(row + 1) % SEEDS.length];
+        mixed ^= mixed >>> 31;
+        return row * width + (int) Math.floorMod(mixed, (long) width);
+    }
+}
@@ -0,0 +1,189 @@
+package com.artztall.auction_service.traffic;
+
+import com.artztall.auction_service.cache.AuctionCache;
+import com.artztall.auction_service.dto.HotAuctionDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Tracks bid rate per auction over a sliding window and promotes the heaviest
+ * hitters into an accelerated mode.
+ * <p>
+ * Counts live in a ring of count-min sketches, one per time slot, plus a
+ * running window total from which expiring slots are subtracted. A bounded
+ * top-K candidate map holds the auctions worth evaluating. Hot auctions are
+ * pinned in the {@link AuctionCache}, where bids on them read their state,
+ * and their bids are sequenced through a striped lock, so concurrent bids on
+ * this instance queue up instead of racing on read-modify-write. Promotion and demotion use separate thresholds
+ * to avoid flapping.
+ */
+@Component
+@Slf4j
+public class HotAuctionTracker {
+    private static final int SEQUENCER_STRIPES = 256;
+
+    private final CountMinSketch[] slots;
+    private final CountMinSketch window;
+    private volatile int currentSlot;
+
+    private final Map<String, Long> candidates = new ConcurrentHashMap<>();
+    private final Map<String, LocalDateTime> hotAuctions = new ConcurrentHashMap<>();
+    // Striped and never removed, so a demotion cannot hand out a second lock while bids hold or wait on the first.
+    private final Lock[] sequencers = new Lock[SEQUENCER_STRIPES];
+
+    private final AuctionCache auctionCache;
+    private final Clock clock;
+    private final int topK;
+    private final long promoteThreshold;
+    private final long demoteThreshold;
+    private final Counter promotions;
+    private final Counter demotions;
+
+    public HotAuctionTracker(
+            AuctionCache auctionCache,
+            MeterRegistry meterRegistry,
+            Clock clock,
+            @Value("${auction.hot.top-k:32}") int topK,
+            @Value("${auction.hot.window-slots:6}") int windowSlots,
+            @Value("${auction.hot.promote-threshold:60}") long promoteThreshold,
+            @Value("${auction.hot.demote-threshold:20}") long demoteThreshold,
+            @Value("${auction.hot.sketch-width:2048}") int sketchWidth,
+            @Value("${auction.hot.sketch-depth:4}") int sketchDepth
+    ) {
+        this.auctionCache = auctionCache;
+        this.clock = clock;
+        this.topK = topK;
+        this.promoteThreshold = promoteThreshold;
+        this.demoteThreshold = demoteThreshold;
+        this.slots = new CountMinSketch[windowSlots];
+        for (int i = 0; i < windowSlots; i++) {
+            slots[i] = new CountMinSketch(sketchWidth, sketchDepth);
+        }
+        this.window = new CountMinSketch(sketchWidth, sketchDepth);
+        for (int i = 0; i < SEQUENCER_STRIPES; i++) {
+            sequencers[i] = new ReentrantLock(true);
+        }
+
+        Gauge.builder("auction.hot.count", hotAuctions, Map::size)
+                .description("Auctions currently in accelerated mode")
+                .register(meterRegistry);
+        Gauge.builder("auction.hot.candidates", candidates, Map::size)
+                .description("Top-K heavy hitter candidates being tracked")
+                .register(meterRegistry);
+        this.promotions = Counter.builder("auction.hot.promotions").register(meterRegistry);
+        this.demotions = Counter.builder("auction.hot.demotions").register(meterRegistry);
+    }
+
+    public void recordBid(String auctionId) {
+        slots[currentSlot].add(auctionId, 1);
+        window.add(auctionId, 1);
+        long estimate = window.estimate(auctionId);
+        offerCandidate(auctionId, estimate);
+        if (estimate >= promoteThreshold && !hotAuctions.containsKey(auctionId)) {
+            promote(auctionId, estimate);
+        }
+    }
+
+    public boolean isHot(String auctionId) {
+        return hotAuctions.containsKey(auctionId);
+    }
+
+    /**
+     * Returns the lock that sequences bids on a hot auction, or empty when the
+     * auction is not hot and bids proceed without local coordination.
+     */
+    public Optional<Lock> sequencerFor(String auctionId) {
+        if (!hotAuctions.containsKey(auctionId)) {
+            return Optional.empty();
+        }
+        return Optional.of(sequencers[Math.floorMod(auctionId.hashCode(), SEQUENCER_STRIPES)]);
+    }
+
+    @Scheduled(fixedRateString = "${auction.hot.slot-ms:10000}")
+    public void rotate() {
+        int next = (currentSlot + 1) % slots.length;
+        window.subtract(slots[next]);
+        slots[next].clear();
+        currentSlot = next;
+        reevaluate();
+    }
+
+    public List<HotAuctionDTO> snapshot() {
+        return candidates.keySet().stream()
+                .map(auctionId -> new HotAuctionDTO(
+                        auctionId,
+                        window.estimate(auctionId),
+                        hotAuctions.containsKey(auctionId),
+                        hotAuctions.get(auctionId)))
+                .sorted(Comparator.comparingLong(HotAuctionDTO::getEstimatedBidsInWindow).reversed())
+                .toList();
+    }
+
+    private void reevaluate() {
+        for (String auctionId : candidates.keySet()) {
+            long estimate = window.estimate(auctionId);
+            if (estimate < demoteThreshold) {
+                candidates.remove(auctionId);
+                if (hotAuctions.containsKey(auctionId)) {
+                    demote(auctionId, estimate);
+                }
+            } else {
+                candidates.put(auctionId, estimate);
+                if (estimate >= promoteThreshold && !hotAuctions.containsKey(auctionId)) {
+                    promote(auctionId, estimate);
+                }
+            }
+        }
+        // An auction that fell out of the candidate set can no longer be observed.
+        hotAuctions.keySet().stream()
+                .filter(auctionId -> !candidates.containsKey(auctionId))
+                .toList()
+                .forEach(auctionId -> demote(auctionId, window.estimate(auctionId)));
+    }
+
+    private void offerCandidate(String auctionId, long estimate) {
+        if (candidates.containsKey(auctionId) || candidates.size() < topK) {
+            candidates.put(auctionId, estimate);
+            return;
+        }
+        candidates.entrySet().stream()
+                .min(Map.Entry.comparingByValue())
+                .filter(min -> min.getValue() < estimate)
+                .ifPresent(min -> {
+                    if (candidates.remove(min.getKey(), min.getValue())) {
+                        candidates.put(auctionId, estimate);
+                    }
+                });
+    }
+
+    private void promote(String auctionId, long estimate) {
+        if (hotAuctions.putIfAbsent(auctionId, LocalDateTime.now(clock)) == null) {
+            auctionCache.pin(auctionId);
+            promotions.increment();
+            log.info("Auction {} promoted to hot ({} bids in window)", auctionId, estimate);
+        }
+    }
+
+    private void demote(String auctionId, long estimate) {
+        if (hotAuctions.remove(auctionId) != null) {
+            auctionCache.unpin(auctionId);
+            demotions.increment();
+            log.info("Auction {} cooled down ({} bids in window)", auctionId, estimate);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.artztall.auction_service.traffic;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * One line of a traffic recording. {@link Kind#SEED} lines come first and
+ * hold the active auctions at the start of the recording, in
+ * {@code body}; {@link Kind#REQUEST} lines hold an anonymized request and
+ * what it returned.
+ *
+ * @param atMillis    wall-clock time the request arrived, or the recording started for seeds
+ * @param route       what the request did, so a replayer need not parse paths
+ * @param auctionId   the auction addressed by the path, if any
+ * @param outcome     for bids, {@code ACCEPTED} or the rejection outcome
+ * @param price       for accepted bids, the resulting current price
+ * @param resultId    for creates, the ID of the new auction
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TrafficRecord(
+        Kind kind,
+        long atMillis,
+        Route route,
+        String auctionId,
+        String query,
+        JsonNode body,
+        Integer status,
+        Long latencyMicros,
+        String outcome,
+        Double price,
+        String resultId
+) {
+    public enum Kind {
+        SEED, REQUEST
+    }
+
+    public enum Route {
+        CREATE, BID, GET, BID_HISTORY, BATCH, ACTIVE, ENDING_SOON, BY_PRICE
+    }
+
+    public static TrafficRecord seed(long atMillis, JsonNode auction) {
+        return new TrafficRecord(Kind.SEED, atMillis, null, null, null, auction, null, null, null, null, null);
+    }
+}
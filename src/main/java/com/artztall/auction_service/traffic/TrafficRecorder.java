@@ -0,0 +1,298 @@
+package com.artztall.auction_service.traffic;
+
+import com.artztall.auction_service.model.Auction;
+import com.artztall.auction_service.repository.AuctionRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records auction API traffic to an NDJSON file for replay with the traffic
+ * replayer in the test sources. The recording starts with the active
+ * auctions as seeds, followed by bid, create and read requests with their
+ * status, latency and, for bids and creates, what they returned.
+ * <p>
+ * User and artist IDs are replaced by keyed hashes, consistent within one
+ * recording, and titles, descriptions and image URLs are dropped. The key
+ * is random per run and never written out. Records are written by a
+ * background thread; when it falls behind, records are dropped rather than
+ * slowing requests down.
+ */
+@Component
+@ConditionalOnProperty(name = "auction.traffic-recorder.enabled", havingValue = "true")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class TrafficRecorder extends OncePerRequestFilter {
+    private static final String BASE_PATH = "/api/auctions";
+    private static final Set<String> HASHED_FIELDS = Set.of("userId", "artistId", "winnerId");
+    private static final List<String> DROPPED_FIELDS = List.of("description", "paintingUrl", "bids", "highestBid");
+
+    private final ObjectMapper objectMapper;
+    private final AuctionRepository auctionRepository;
+    private final Clock clock;
+    private final BlockingQueue<TrafficRecord> queue;
+    private final Path file;
+    private final Counter recorded;
+    private final Counter dropped;
+    private final ThreadLocal<Mac> hmac;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public TrafficRecorder(
+            ObjectMapper objectMapper,
+            AuctionRepository auctionRepository,
+            Clock clock,
+            MeterRegistry meterRegistry,
+            @Value("${auction.traffic-recorder.directory:./data/traffic}") String directory,
+            @Value("${auction.traffic-recorder.queue-capacity:65536}") int queueCapacity
+    ) {
+        this.objectMapper = objectMapper;
+        this.auctionRepository = auctionRepository;
+        this.clock = clock;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.recorded = Counter.builder("auction.traffic.recorded").register(meterRegistry);
+        this.dropped = Counter.builder("auction.traffic.dropped")
+                .description("Requests not recorded because the writer fell behind")
+                .register(meterRegistry);
+
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.hmac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance("HmacSHA256");
+                mac.init(new SecretKeySpec(key, "HmacSHA256"));
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 is not available", e);
+            }
+        });
+
+        try {
+            Path dir = Files.createDirectories(Paths.get(directory));
+            this.file = dir.resolve("traffic-" + clock.millis() + ".ndjson");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create traffic recording directory " + directory, e);
+        }
+        this.writer = new Thread(this::drain, "traffic-recorder");
+        this.writer.setDaemon(true);
+        this.writer.start();
+        log.info("Recording auction traffic to {}", file);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recordSeeds() {
+        long now = clock.millis();
+        List<Auction> active = auctionRepository.findActiveAuctions(LocalDateTime.now(clock));
+        active.forEach(auction -> enqueue(TrafficRecord.seed(now, anonymize(objectMapper.valueToTree(auction)))));
+        log.info("Recorded {} active auctions as replay seeds", active.size());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return route(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        TrafficRecord.Route route = route(request);
+        boolean captureBodies = route == TrafficRecord.Route.CREATE || route == TrafficRecord.Route.BID;
+        HttpServletRequest req = captureBodies ? new ContentCachingRequestWrapper(request) : request;
+        ContentCachingResponseWrapper res = captureBodies ? new ContentCachingResponseWrapper(response) : null;
+
+        long atMillis = clock.millis();
+        long started = System.nanoTime();
+        try {
+            chain.doFilter(req, res != null ? res : response);
+        } finally {
+            long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - started);
+            try {
+                enqueue(toRecord(route, req, res != null ? res : response, atMillis, latencyMicros));
+            } catch (RuntimeException e) {
+                log.debug("Could not record {} {}", request.getMethod(), request.getRequestURI(), e);
+            }
+            if (res != null) {
+                res.copyBodyToResponse();
+            }
+        }
+    }
+
+    private TrafficRecord toRecord(TrafficRecord.Route route, HttpServletRequest request, HttpServletResponse response,
+                                   long atMillis, long latencyMicros) {
+        String auctionId = switch (route) {
+            case GET, BID_HISTORY -> pathSegments(request)[0];
+            default -> null;
+        };
+        JsonNode body = null;
+        String outcome = null;
+        Double price = null;
+        String resultId = null;
+        if (request instanceof ContentCachingRequestWrapper req && response instanceof ContentCachingResponseWrapper res) {
+            body = isJson(request.getContentType()) ? anonymize(readTree(req.getContentAsByteArray())) : null;
+            JsonNode result = isJson(res.getContentType()) ? readTree(res.getContentAsByteArray()) : null;
+            if (result != null && route == TrafficRecord.Route.BID) {
+                if (res.getStatus() == HttpServletResponse.SC_OK) {
+                    outcome = "ACCEPTED";
+                    price = result.path("currentPrice").asDouble();
+                } else if (result.hasNonNull("outcome")) {
+                    outcome = result.get("outcome").asText();
+                }
+            } else if (result != null && route == TrafficRecord.Route.CREATE && res.getStatus() == HttpServletResponse.SC_CREATED) {
+                resultId = result.path("id").asText(null);
+            }
+        }
+        return new TrafficRecord(TrafficRecord.Kind.REQUEST, atMillis, route, auctionId, request.getQueryString(), body,
+                response.getStatus(), latencyMicros, outcome, price, resultId);
+    }
+
+    private JsonNode anonymize(JsonNode node) {
+        if (node instanceof ObjectNode object) {
+            HASHED_FIELDS.forEach(field -> {
+                if (object.hasNonNull(field)) {
+                    object.put(field, hash(field, object.get(field).asText()));
+                }
+            });
+            if (object.has("title")) {
+                object.put("title", "lot");
+            }
+            object.remove(DROPPED_FIELDS);
+        }
+        return node;
+    }
+
+    private String hash(String field, String value) {
+        byte[] digest = hmac.get().doFinal((field + ':' + value).getBytes(StandardCharsets.UTF_8));
+        return field.substring(0, 1) + "-" + HexFormat.of().formatHex(digest, 0, 6);
+    }
+
+    private JsonNode readTree(byte[] content) {
+        if (content.length == 0) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(content);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void enqueue(TrafficRecord record) {
+        if (queue.offer(record)) {
+            recorded.increment();
+        } else {
+            dropped.increment();
+        }
+    }
+
+    private void drain() {
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            while (running || !queue.isEmpty()) {
+                TrafficRecord record = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (record == null) {
+                    out.flush();
+                    continue;
+                }
+                out.write(objectMapper.writeValueAsString(record));
+                out.newLine();
+            }
+        } catch (IOException e) {
+            log.error("Traffic recording to {} failed, no further requests are recorded", file, e);
+            running = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    static TrafficRecord.Route route(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        if (!uri.startsWith(BASE_PATH)) {
+            return null;
+        }
+        boolean get = HttpMethod.GET.matches(request.getMethod());
+        boolean post = HttpMethod.POST.matches(request.getMethod());
+        String[] segments = pathSegments(request);
+        if (segments.length == 0) {
+            return post ? TrafficRecord.Route.CREATE : null;
+        }
+        if (post) {
+            return segments.length == 1 && "bid".equals(segments[0]) ? TrafficRecord.Route.BID : null;
+        }
+        if (!get) {
+            return null;
+        }
+        return switch (segments[0]) {
+            case "batch" -> segments.length == 1 ? TrafficRecord.Route.BATCH : null;
+            case "active" -> segments.length == 1 ? TrafficRecord.Route.ACTIVE
+                    : "ending-soon".equals(segments[1]) ? TrafficRecord.Route.ENDING_SOON
+                    : "by-price".equals(segments[1]) ? TrafficRecord.Route.BY_PRICE
+                    : null;
+            case "completed", "artist", "users", "search", "import", "bid" -> null;
+            default -> segments.length == 1 ? TrafficRecord.Route.GET
+                    : segments.length == 2 && "bid-history".equals(segments[1]) ? TrafficRecord.Route.BID_HISTORY
+                    : null;
+        };
+    }
+
+    private static String[] pathSegments(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(BASE_PATH.length());
+        return StringUtils.tokenizeToStringArray(path, "/");
+    }
+
+    private static boolean isJson(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        try {
+            return MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.artztall.auction_service.cache;
+
+import com.artztall.auction_service.model.Auction;
+import com.artztall.auction_service.model.AuctionListing;
+import com.artztall.auction_service.model.AuctionSort;
+import com.artztall.auction_service.model.AuctionStatus;
+import com.artztall.auction_service.model.Bid;
+import com.artztall.auction_service.repository.AuctionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ActiveAuctionIndexTest {
+
+    @Mock
+    private AuctionRepository auctionRepository;
+
+    private ActiveAuctionIndex index;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        index = new ActiveAuctionIndex(auctionRepository, Clock.systemDefaultZone());
+        now = LocalDateTime.now();
+    }
+
+    private Auction createAuction(String id, double price, long endsInMinutes, long version) {
+        Auction auction = new Auction();
+        auction.setId(id);
+        auction.setVersion(version);
+        auction.setCurrentPrice(price);
+        auction.setStartTime(now.minusHours(1));
+        auction.setEndTime(now.plusMinutes(endsInMinutes));
+        auction.setAuctionStatus(AuctionStatus.ACTIVE);
+        return auction;
+    }
+
+    private static List<String> ids(List<AuctionListing> listings) {
+        return listings.stream().map(AuctionListing::id).toList();
+    }
+
+    @Test
+    @DisplayName("Should list auctions ending within the window, soonest first")
+    void testEndingBetween() {
+        index.onAuctionChanged(createAuction("a", 100, 90, 0));
+        index.onAuctionChanged(createAuction("b", 100, 10, 0));
+        index.onAuctionChanged(createAuction("c", 100, 30, 0));
+
+        assertEquals(List.of("b", "c"), ids(index.endingBetween(now, now.plusHours(1), 10)));
+        assertEquals(List.of("b"), ids(index.endingBetween(now, now.plusHours(1), 1)));
+    }
+
+    @Test
+    @DisplayName("Should move an auction when its price or end time changes")
+    void testReindexOnChange() {
+        index.onAuctionChanged(createAuction("a", 100, 10, 0));
+        index.onAuctionChanged(createAuction("b", 300, 20, 0));
+
+        Auction extended = createAuction("a", 400, 120, 1);
+        index.onAuctionChanged(extended);
+
+        assertEquals(List.of("b"), ids(index.endingBetween(now, now.plusHours(1), 10)));
+        assertEquals(List.of("b", "a"), ids(index.pricedBetween(0, 500, AuctionSort.PRICE, 10, now)));
+        assertEquals(List.of("a"), ids(index.pricedBetween(350, 500, AuctionSort.PRICE, 10, now)));
+    }
+
+    @Test
+    @DisplayName("Should ignore an older version delivered late")
+    void testIgnoresStaleUpdate() {
+        index.onAuctionChanged(createAuction("a", 200, 10, 2));
+        index.onAuctionChanged(createAuction("a", 100, 10, 1));
+
+        assertEquals(List.of(), ids(index.pricedBetween(0, 150, AuctionSort.PRICE, 10, now)));
+        assertEquals(List.of("a"), ids(index.pricedBetween(150, 250, AuctionSort.PRICE, 10, now)));
+    }
+
+    @Test
+    @DisplayName("Should drop closed and cancelled auctions")
+    void testRemovesSettledAuctions() {
+        index.onAuctionChanged(createAuction("a", 100, 10, 0));
+        Auction cancelled = createAuction("a", 100, 10, 1);
+        cancelled.setAuctionStatus(AuctionStatus.CANCELLED);
+
+        index.onAuctionChanged(cancelled);
+
+        assertEquals(0, index.size());
+        assertTrue(index.endingBetween(now, now.plusHours(1), 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should sort a price range by bid count")
+    void testSortByBids() {
+        Auction popular = createAuction("a", 100, 30, 0);
+        popular.addBid(new Bid());
+        popular.addBid(new Bid());
+        Auction quiet = createAuction("b", 50, 10, 0);
+        index.onAuctionChanged(quiet);
+        index.onAuctionChanged(popular);
+
+        assertEquals(List.of("a", "b"), ids(index.pricedBetween(0, 500, AuctionSort.BIDS, 10, now)));
+        assertEquals(List.of("b", "a"), ids(index.pricedBetween(0, 500, AuctionSort.ENDING, 10, now)));
+    }
+
+    @Test
+    @DisplayName("Should replace the index contents with the active auctions in Mongo")
+    void testRebuild() {
+        index.onAuctionChanged(createAuction("gone", 100, 10, 0));
+        when(auctionRepository.findActiveListings(any()))
+                .thenReturn(List.of(AuctionListing.of(createAuction("a", 100, 10, 0))));
+
+        index.rebuild();
+
+        assertEquals(List.of("a"), ids(index.endingBetween(now, now.plusHours(1), 10)));
+    }
+}
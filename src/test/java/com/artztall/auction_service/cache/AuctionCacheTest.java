@@ -0,0 +1,79 @@
+package com.artztall.auction_service.cache;
+
+import com.artztall.auction_service.model.Auction;
+import com.artztall.auction_service.model.AuctionStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AuctionCacheTest {
+
+    private LiveAuctionStore liveStore;
+    private StaticListableBeanFactory subscribers;
+
+    @BeforeEach
+    void setUp() {
+        liveStore = new LiveAuctionStore(new SimpleMeterRegistry(), true, 256);
+        subscribers = new StaticListableBeanFactory();
+        subscribers.addBean("liveAuctionStore", liveStore);
+    }
+
+    private AuctionCache createCache(LiveAuctionStore store, int capacity) {
+        AuctionCache cache = new AuctionCache(subscribers.getBeanProvider(AuctionChangeSubscriber.class), store,
+                Clock.systemDefaultZone(), capacity);
+        cache.markCoherent();
+        return cache;
+    }
+
+    private Auction createAuction(String id, AuctionStatus status) {
+        Auction auction = new Auction();
+        auction.setId(id);
+        auction.setVersion(0L);
+        auction.setCurrentPrice(100.0);
+        auction.setStartTime(LocalDateTime.now().minusHours(1));
+        auction.setEndTime(LocalDateTime.now().plusHours(1));
+        auction.setUpdatedAt(LocalDateTime.now());
+        auction.setAuctionStatus(status);
+        return auction;
+    }
+
+    @Test
+    @DisplayName("Should cap live entries when the live store holds their state")
+    void testCapsLiveEntries() {
+        AuctionCache cache = createCache(liveStore, 32);
+        cache.put(createAuction("settled", AuctionStatus.COMPLETED));
+        cache.put(createAuction("hot", AuctionStatus.ACTIVE));
+        cache.pin("hot");
+
+        for (int i = 0; i < 100; i++) {
+            cache.put(createAuction("auction-" + i, AuctionStatus.ACTIVE));
+        }
+
+        assertTrue(cache.size() <= 32, () -> "size " + cache.size());
+        assertTrue(cache.get("settled").isPresent());
+        assertTrue(cache.get("hot").isPresent());
+        assertTrue(cache.get("auction-99").isPresent());
+        // Dropped entries keep their off-heap state.
+        assertEquals(102, liveStore.size());
+        assertTrue(liveStore.read("auction-0", new LiveAuctionState()));
+    }
+
+    @Test
+    @DisplayName("Should not cap the cache without the live store")
+    void testUncappedWithoutLiveStore() {
+        AuctionCache cache = createCache(new LiveAuctionStore(new SimpleMeterRegistry(), false, 0), 32);
+
+        for (int i = 0; i < 100; i++) {
+            cache.put(createAuction("auction-" + i, AuctionStatus.ACTIVE));
+        }
+
+        assertEquals(100, cache.size());
+    }
+}
@@ -0,0 +1,98 @@
+package com.artztall.auction_service.cache;
+
+import com.artztall.auction_service.model.Auction;
+import com.artztall.auction_service.repository.ChangeStreamCheckpointRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Subscription;
+import org.springframework.data.mongodb.core.messaging.SubscriptionRequest;
+
+import java.time.Clock;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class AuctionChangeStreamListenerTest {
+
+    private AuctionCache auctionCache;
+    private MessageListenerContainer container;
+    private Subscription subscription;
+    private AuctionChangeStreamListener listener;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StaticListableBeanFactory subscribers = new StaticListableBeanFactory();
+        auctionCache = new AuctionCache(subscribers.getBeanProvider(AuctionChangeSubscriber.class),
+                new LiveAuctionStore(new SimpleMeterRegistry(), false, 0), Clock.systemDefaultZone(), 100);
+        container = mock(MessageListenerContainer.class);
+        subscription = mock(Subscription.class);
+        when(container.register(any(SubscriptionRequest.class), eq(Auction.class))).thenReturn(subscription);
+
+        ChangeStreamCheckpointRepository checkpointRepository = mock(ChangeStreamCheckpointRepository.class);
+        when(checkpointRepository.findById(any())).thenReturn(Optional.empty());
+        listener = new AuctionChangeStreamListener(mock(MongoTemplate.class), auctionCache, checkpointRepository,
+                Clock.systemDefaultZone(), "test", 10) {
+            @Override
+            MessageListenerContainer createContainer() {
+                return container;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Should mark the cache coherent once the cursor is open")
+    void testCoherentOnceCursorOpens() throws Exception {
+        // Arrange
+        when(subscription.await(any())).thenReturn(true);
+
+        // Act
+        listener.start();
+
+        // Assert
+        assertTrue(auctionCache.isCoherent());
+    }
+
+    @Test
+    @DisplayName("Should stay incoherent until the watchdog sees the cursor open")
+    void testIncoherentUntilCursorOpens() throws Exception {
+        // Arrange
+        when(subscription.await(any())).thenReturn(false);
+        when(subscription.isActive()).thenReturn(true);
+
+        // Act
+        listener.start();
+        boolean coherentAfterStart = auctionCache.isCoherent();
+        listener.ensureSubscribed();
+
+        // Assert
+        assertFalse(coherentAfterStart);
+        assertTrue(auctionCache.isCoherent());
+        verify(container, times(1)).register(any(), eq(Auction.class));
+    }
+
+    @Test
+    @DisplayName("Should clear coherence while resubscribing an inactive cursor")
+    void testResubscribeClearsCoherence() throws Exception {
+        // Arrange
+        when(subscription.await(any())).thenReturn(true, false);
+        when(subscription.isActive()).thenReturn(false);
+        listener.start();
+
+        // Act
+        listener.ensureSubscribed();
+
+        // Assert
+        assertFalse(auctionCache.isCoherent());
+        verify(container).remove(subscription);
+        verify(container, times(2)).register(any(), eq(Auction.class));
+    }
+}
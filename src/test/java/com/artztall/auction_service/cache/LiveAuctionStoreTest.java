@@ -0,0 +1,115 @@
+package com.artztall.auction_service.cache;
+
+import com.artztall.auction_service.model.Auction;
+import com.artztall.auction_service.model.AuctionStatus;
+import com.artztall.auction_service.model.Bid;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LiveAuctionStoreTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LiveAuctionStore store;
+    private LiveAuctionState state;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = new LiveAuctionStore(meterRegistry, true, 64);
+        state = new LiveAuctionState();
+    }
+
+    private Auction createAuction(String id, double price, long version) {
+        Auction auction = new Auction();
+        auction.setId(id);
+        auction.setVersion(version);
+        auction.setCurrentPrice(price);
+        auction.setStartTime(LocalDateTime.of(2026, 1, 1, 10, 0));
+        auction.setEndTime(LocalDateTime.of(2026, 1, 2, 10, 0, 0, 500_000_000));
+        auction.setAuctionStatus(AuctionStatus.ACTIVE);
+        auction.setBids(new ArrayList<>());
+        return auction;
+    }
+
+    @Test
+    @DisplayName("Should read back the live state of a stored auction")
+    void testReadsStoredState() {
+        Auction auction = createAuction("65f1c2a9e4b0a1b2c3d4e5f6", 250.0, 3);
+        Bid bid = new Bid();
+        bid.setUserId("user-7");
+        bid.setAmount(250.0);
+        auction.addBid(bid);
+
+        store.onAuctionChanged(auction);
+
+        assertTrue(store.read("65f1c2a9e4b0a1b2c3d4e5f6", state));
+        assertEquals(3, state.getVersion());
+        assertEquals(250.0, state.getCurrentPrice());
+        assertEquals(1, state.getBidCount());
+        assertEquals("user-7", state.getLeaderId());
+        assertEquals(AuctionStatus.ACTIVE, state.getStatus());
+        assertEquals(LiveAuctionState.localMillis(auction.getEndTime()), state.getEndTimeMillis());
+        assertEquals(LiveAuctionState.localMillis(auction.getStartTime()) + 86_400_500, state.getEndTimeMillis());
+        assertFalse(store.read("missing", state));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    @DisplayName("Should ignore a change older than the stored version")
+    void testIgnoresOlderVersions() {
+        store.onAuctionChanged(createAuction("auction-1", 300.0, 5));
+        store.onAuctionChanged(createAuction("auction-1", 200.0, 4));
+        Auction settled = createAuction("auction-1", 300.0, 6);
+        settled.setAuctionStatus(AuctionStatus.COMPLETED);
+        store.onAuctionChanged(settled);
+
+        assertTrue(store.read("auction-1", state));
+        assertEquals(300.0, state.getCurrentPrice());
+        assertEquals(6, state.getVersion());
+        assertTrue(state.isSettled());
+    }
+
+    @Test
+    @DisplayName("Should keep every other auction reachable as auctions are removed and slots reused")
+    void testRemovesAndReusesSlots() {
+        for (int i = 0; i < 64; i++) {
+            store.onAuctionChanged(createAuction("auction-" + i, i, 1));
+        }
+        store.onAuctionChanged(createAuction("overflow", 1.0, 1));
+        assertFalse(store.read("overflow", state));
+        assertEquals(1.0, meterRegistry.get("auction.live-store.unstored").counter().count());
+
+        for (int i = 0; i < 64; i += 3) {
+            store.onAuctionRemoved("auction-" + i);
+        }
+        for (int i = 0; i < 64; i++) {
+            assertEquals(i % 3 != 0, store.read("auction-" + i, state), "auction-" + i);
+            if (i % 3 != 0) {
+                assertEquals(i, state.getCurrentPrice());
+            }
+        }
+
+        store.onAuctionChanged(createAuction("overflow", 1.0, 1));
+        assertTrue(store.read("overflow", state));
+        assertEquals(43, store.size());
+    }
+
+    @Test
+    @DisplayName("Should not store anything when disabled or for unsupported IDs")
+    void testSkipsUnsupported() {
+        store.onAuctionChanged(createAuction("x".repeat(LiveAuctionStore.MAX_ID_LENGTH + 1), 1.0, 1));
+        store.onAuctionChanged(createAuction("enchère-1", 1.0, 1));
+        assertEquals(0, store.size());
+
+        LiveAuctionStore disabled = new LiveAuctionStore(new SimpleMeterRegistry(), false, 0);
+        disabled.onAuctionChanged(createAuction("auction-1", 1.0, 1));
+        assertFalse(disabled.read("auction-1", state));
+    }
+}
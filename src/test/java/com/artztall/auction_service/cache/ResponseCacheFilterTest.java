@@ -0,0 +1,117 @@
+package com.artztall.auction_service.cache;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+public class ResponseCacheFilterTest {
+
+    private AuctionResponseCache responseCache;
+    private ResponseCacheFilter filter;
+    private AtomicInteger renders;
+
+    @BeforeEach
+    void setUp() {
+        responseCache = new AuctionResponseCache(mock(AuctionCache.class), false, 100, 5000);
+        filter = new ResponseCacheFilter(responseCache);
+        renders = new AtomicInteger();
+    }
+
+    private MockHttpServletResponse get(String uri, String ifNoneMatch) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res)
+                    throws IOException {
+                renders.incrementAndGet();
+                res.setContentType("application/json");
+                res.getOutputStream().write("{\"id\":\"auction-1\"}".getBytes(StandardCharsets.UTF_8));
+            }
+        });
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reads from the cache with an ETag")
+    void testCachedRead() throws Exception {
+        MockHttpServletResponse first = get("/api/auctions/auction-1", null);
+        MockHttpServletResponse second = get("/api/auctions/auction-1", null);
+
+        assertEquals(1, renders.get());
+        assertEquals(first.getContentAsString(), second.getContentAsString());
+        assertNotNull(second.getHeader(HttpHeaders.ETAG));
+        assertEquals(first.getHeader(HttpHeaders.ETAG), second.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @DisplayName("Should answer 304 when the ETag still matches")
+    void testNotModified() throws Exception {
+        String etag = get("/api/auctions/auction-1", null).getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletResponse response = get("/api/auctions/auction-1", etag);
+
+        assertEquals(HttpServletResponse.SC_NOT_MODIFIED, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    @DisplayName("Should re-render after the auction is invalidated")
+    void testInvalidation() throws Exception {
+        get("/api/auctions/auction-1", null);
+        responseCache.invalidate("auction-1");
+        get("/api/auctions/auction-1", null);
+
+        assertEquals(2, renders.get());
+    }
+
+    @Test
+    @DisplayName("Should not cache update streams")
+    void testUpdatesNotCached() throws Exception {
+        get("/api/auctions/auction-1/updates", null);
+        get("/api/auctions/auction-1/updates", null);
+
+        assertEquals(2, renders.get());
+    }
+
+    @Test
+    @DisplayName("Should cache artist listings but not artist analytics")
+    void testArtistAnalyticsNotCached() throws Exception {
+        get("/api/auctions/artist/artist-1", null);
+        get("/api/auctions/artist/artist-1", null);
+        assertEquals(1, renders.get());
+
+        get("/api/auctions/artist/artist-1/analytics", null);
+        get("/api/auctions/artist/artist-1/analytics", null);
+        assertEquals(3, renders.get());
+    }
+
+    @Test
+    @DisplayName("Should set Vary on cache misses as well as hits")
+    void testVaryOnMiss() throws Exception {
+        MockHttpServletResponse miss = get("/api/auctions/auction-1", null);
+        MockHttpServletResponse hit = get("/api/auctions/auction-1", null);
+
+        assertEquals(1, renders.get());
+        assertEquals("Accept, Accept-Encoding", miss.getHeader(HttpHeaders.VARY));
+        assertEquals(miss.getHeader(HttpHeaders.VARY), hit.getHeader(HttpHeaders.VARY));
+    }
+}
@@ -0,0 +1,106 @@
+package com.artztall.auction_service.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SingleFlightTest {
+
+    @Test
+    @DisplayName("Should share one in-flight load between concurrent callers")
+    void testConcurrentCallsShareOneLoad() throws Exception {
+        // Arrange
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // Act
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> singleFlight.execute("auction-1", () -> {
+            loads.incrementAndGet();
+            loaderStarted.countDown();
+            awaitQuietly(releaseLoader);
+            return "loaded";
+        })));
+        assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 7; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("auction-1", () -> {
+                loads.incrementAndGet();
+                return "duplicate";
+            })));
+        }
+        Thread.sleep(200);
+        releaseLoader.countDown();
+
+        // Assert
+        for (Future<String> result : results) {
+            assertEquals("loaded", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(0, singleFlight.inFlightCount());
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should propagate loader failures and allow a retry")
+    void testFailureIsNotCached() {
+        // Arrange
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+                () -> singleFlight.execute("auction-1", () -> { throw new IllegalStateException("boom"); }));
+        assertEquals("ok", singleFlight.execute("auction-1", () -> "ok"));
+    }
+
+    @Test
+    @DisplayName("Should release waiting callers when the loader throws an Error")
+    void testErrorReleasesWaiters() throws Exception {
+        // Arrange
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // Act
+        Future<String> leader = executor.submit(() -> singleFlight.execute("auction-1", () -> {
+            loaderStarted.countDown();
+            awaitQuietly(releaseLoader);
+            throw new StackOverflowError();
+        }));
+        assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+        Future<String> waiter = executor.submit(() -> singleFlight.execute("auction-1", () -> "duplicate"));
+        Thread.sleep(200);
+        releaseLoader.countDown();
+
+        // Assert
+        ExecutionException leaderFailure = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(StackOverflowError.class, leaderFailure.getCause());
+        ExecutionException waiterFailure = assertThrows(ExecutionException.class, () -> waiter.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(StackOverflowError.class, waiterFailure.getCause());
+        assertEquals(0, singleFlight.inFlightCount());
+        assertEquals("ok", singleFlight.execute("auction-1", () -> "ok"));
+        executor.shutdownNow();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
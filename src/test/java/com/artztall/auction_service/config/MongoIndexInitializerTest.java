@@ -0,0 +1,61 @@
+package com.artztall.auction_service.config;
+
+import com.artztall.auction_service.model.ArtistSalesRollup;
+import com.artztall.auction_service.model.UserAuctionView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class MongoIndexInitializerTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private IndexOperations viewIndexes;
+
+    @Mock
+    private IndexOperations rollupIndexes;
+
+    private MongoIndexInitializer indexInitializer;
+
+    @BeforeEach
+    void setUp() {
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(new MongoCustomConversions(List.of()).getSimpleTypeHolder());
+        mappingContext.setInitialEntitySet(Set.of(UserAuctionView.class, ArtistSalesRollup.class));
+        mappingContext.afterPropertiesSet();
+        indexInitializer = new MongoIndexInitializer(mongoTemplate, mappingContext);
+    }
+
+    @Test
+    @DisplayName("Should ensure declared indexes and carry on past a failing collection")
+    void testEnsuresDeclaredIndexes() {
+        // Arrange
+        when(mongoTemplate.indexOps(UserAuctionView.class)).thenReturn(viewIndexes);
+        when(mongoTemplate.indexOps(ArtistSalesRollup.class)).thenReturn(rollupIndexes);
+        when(viewIndexes.ensureIndex(any(IndexDefinition.class))).thenThrow(new IllegalStateException("unreachable"));
+
+        // Act
+        indexInitializer.ensureIndexes();
+
+        // Assert
+        verify(viewIndexes, timeout(5000)).ensureIndex(any(IndexDefinition.class));
+        verify(rollupIndexes, timeout(5000)).ensureIndex(any(IndexDefinition.class));
+    }
+}
@@ -0,0 +1,95 @@
+package com.artztall.auction_service.config;
+
+import com.artztall.auction_service.model.ArtistSalesRollup;
+import com.artztall.auction_service.model.Auction;
+import com.mongodb.WriteConcern;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.BulkWriteOptions;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoAction;
+import org.springframework.data.mongodb.core.MongoActionOperation;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+public class MongoWriteConcernsTest {
+
+    private final MongoWriteConcerns writeConcerns = new MongoWriteConcerns("majority", "majority", "unacknowledged", "w1");
+
+    @Test
+    @DisplayName("Should resolve the write concern from the collection's write class")
+    void testResolveByCollection() {
+        assertEquals(WriteConcern.MAJORITY, writeConcerns.resolve(
+                action("auctions", Auction.class)));
+        assertEquals(WriteConcern.UNACKNOWLEDGED, writeConcerns.resolve(
+                action("artist_sales_rollups", ArtistSalesRollup.class)));
+        assertEquals(WriteConcern.W1, writeConcerns.resolve(
+                action("change_stream_checkpoints", null)));
+    }
+
+    @Test
+    @DisplayName("Should fall back to the default write concern for other collections")
+    void testDefaultWriteConcern() {
+        assertEquals(WriteConcern.JOURNALED, writeConcerns.resolve(action("unclassified", null)));
+    }
+
+    @Test
+    @DisplayName("Should reject unknown write concern names")
+    void testUnknownWriteConcern() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new MongoWriteConcerns("mostly", "majority", "w1", "w1"));
+    }
+
+    @Test
+    @DisplayName("Should open bulk writes with their write class's write concern")
+    @SuppressWarnings("unchecked")
+    void testBulkWriteConcern() {
+        // Arrange
+        MongoDatabaseFactory databaseFactory = mock(MongoDatabaseFactory.class);
+        MongoDatabase database = mock(MongoDatabase.class);
+        MongoCollection<Document> collection = mock(MongoCollection.class);
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.getMongoDatabaseFactory()).thenReturn(databaseFactory);
+        when(mongoTemplate.getConverter()).thenReturn(converter);
+        when(databaseFactory.getMongoDatabase()).thenReturn(database);
+        when(database.getCollection("auctions", Document.class)).thenReturn(collection);
+        when(collection.withWriteConcern(any())).thenReturn(collection);
+        when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class))).thenReturn(mock(BulkWriteResult.class));
+
+        // Act
+        writeConcerns.bulkOps(mongoTemplate, MongoWriteConcerns.WriteClass.READ_MODEL,
+                        BulkOperations.BulkMode.UNORDERED, Auction.class, "auctions")
+                .remove(new Query(where("_id").is("auction-1")))
+                .execute();
+
+        // Assert
+        verify(collection).withWriteConcern(WriteConcern.UNACKNOWLEDGED);
+        verify(collection).bulkWrite(anyList(), any(BulkWriteOptions.class));
+    }
+
+    private static MongoAction action(String collection, Class<?> entityType) {
+        return new MongoAction(WriteConcern.JOURNALED, MongoActionOperation.UPDATE, collection, entityType, null, null);
+    }
+}
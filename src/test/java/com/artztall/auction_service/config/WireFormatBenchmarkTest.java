@@ -0,0 +1,135 @@
+package com.artztall.auction_service.config;
+
+import com.artztall.auction_service.dto.CompletedAuctionDTO;
+import com.artztall.auction_service.model.Auction;
+import com.artztall.auction_service.model.AuctionStatus;
+import com.artztall.auction_service.model.Bid;
+import com.artztall.auction_service.model.PaymentStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares payload size and encode/decode cost of the negotiable wire formats
+ * on a realistic auction, using the mappers of the registered converters;
+ * {@link WireFormatConfigTest} checks those converters are the ones served.
+ * Timings are printed for inspection; only sizes and
+ * round-trip fidelity are asserted, since timings vary by machine.
+ */
+public class WireFormatBenchmarkTest {
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURED_ITERATIONS = 5_000;
+
+    private Auction createAuctionWithBids(int bidCount) {
+        Auction auction = new Auction();
+        auction.setId(UUID.randomUUID().toString());
+        auction.setTitle("Sunset over the harbour");
+        auction.setDescription("Oil on canvas, 60x90cm, signed lower right");
+        auction.setPaintingUrl("https://cdn.example.com/paintings/sunset-harbour.jpg");
+        auction.setArtistId("artist-1");
+        auction.setStartingPrice(100.0);
+        auction.setStartTime(LocalDateTime.of(2024, 5, 1, 10, 0));
+        auction.setEndTime(LocalDateTime.of(2024, 5, 8, 10, 0));
+        auction.setAuctionStatus(AuctionStatus.ACTIVE);
+        auction.setPaymentStatus(PaymentStatus.PENDING);
+        for (int i = 0; i < bidCount; i++) {
+            Bid bid = new Bid();
+            bid.setId(UUID.randomUUID().toString());
+            bid.setAuctionId(auction.getId());
+            bid.setUserId("user-" + (i % 17));
+            bid.setAmount(100.0 + i * 5);
+            bid.setBidTime(auction.getStartTime().plusMinutes(i * 7L));
+            auction.addBid(bid);
+        }
+        auction.setCurrentPrice(100.0 + (bidCount - 1) * 5);
+        return auction;
+    }
+
+    // The mappers behind the converters the application registers, keyed by format.
+    private Map<String, ObjectMapper> mappers() {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        WireFormatConfig wireFormatConfig = new WireFormatConfig(
+                beans.getBeanProvider(Jackson2ObjectMapperBuilder.class), beans.getBeanProvider(ObservationRegistry.class));
+        List<HttpMessageConverter<?>> converters = new ArrayList<>();
+        converters.add(wireFormatConfig.mappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json().build()));
+        wireFormatConfig.extendMessageConverters(converters);
+
+        Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+        for (HttpMessageConverter<?> converter : converters) {
+            String format = converter instanceof MappingJackson2CborHttpMessageConverter ? "cbor"
+                    : converter instanceof MappingJackson2SmileHttpMessageConverter ? "smile"
+                    : "json";
+            mappers.put(format, ((AbstractJackson2HttpMessageConverter) converter).getObjectMapper());
+        }
+        return mappers;
+    }
+
+    @Test
+    @DisplayName("Binary formats should be smaller than JSON and round-trip auctions")
+    void testAuctionPayloads() throws Exception {
+        Auction auction = createAuctionWithBids(100);
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+
+        for (Map.Entry<String, ObjectMapper> entry : mappers().entrySet()) {
+            ObjectMapper mapper = entry.getValue();
+            byte[] encoded = mapper.writeValueAsBytes(auction);
+            Auction decoded = mapper.readValue(encoded, Auction.class);
+            assertEquals(auction.getBids(), decoded.getBids());
+            assertEquals(auction.getEndTime(), decoded.getEndTime());
+            sizes.put(entry.getKey(), encoded.length);
+            report("Auction(100 bids)", entry.getKey(), mapper, auction, encoded, Auction.class);
+        }
+
+        assertTrue(sizes.get("cbor") < sizes.get("json"));
+        assertTrue(sizes.get("smile") < sizes.get("json"));
+    }
+
+    @Test
+    @DisplayName("Binary formats should round-trip completed auction summaries")
+    void testCompletedAuctionPayloads() throws Exception {
+        CompletedAuctionDTO dto = new CompletedAuctionDTO(UUID.randomUUID().toString(), "Sunset over the harbour",
+                "Oil on canvas", "https://cdn.example.com/paintings/sunset-harbour.jpg", 595.0, "user-3",
+                LocalDateTime.of(2024, 5, 8, 10, 0), PaymentStatus.PENDING);
+
+        for (Map.Entry<String, ObjectMapper> entry : mappers().entrySet()) {
+            byte[] encoded = entry.getValue().writeValueAsBytes(dto);
+            assertEquals(dto, entry.getValue().readValue(encoded, CompletedAuctionDTO.class));
+            report("CompletedAuctionDTO", entry.getKey(), entry.getValue(), dto, encoded, CompletedAuctionDTO.class);
+        }
+    }
+
+    private <T> void report(String payload, String format, ObjectMapper mapper, T value, byte[] encoded,
+                            Class<T> type) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            mapper.readValue(mapper.writeValueAsBytes(value), type);
+        }
+        long encodeStart = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            mapper.writeValueAsBytes(value);
+        }
+        long encodeNanos = (System.nanoTime() - encodeStart) / MEASURED_ITERATIONS;
+        long decodeStart = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            mapper.readValue(encoded, type);
+        }
+        long decodeNanos = (System.nanoTime() - decodeStart) / MEASURED_ITERATIONS;
+        System.out.printf("%-20s %-6s %7d bytes  encode %7d ns  decode %7d ns%n",
+                payload, format, encoded.length, encodeNanos, decodeNanos);
+    }
+}
@@ -0,0 +1,130 @@
+package com.artztall.auction_service.config;
+
+import com.artztall.auction_service.cache.AuctionResponseCache;
+import com.artztall.auction_service.controller.AuctionController;
+import com.artztall.auction_service.model.Auction;
+import com.artztall.auction_service.model.AuctionStatus;
+import com.artztall.auction_service.service.AuctionImportService;
+import com.artztall.auction_service.service.AuctionService;
+import com.artztall.auction_service.service.AuctionUpdateBroadcaster;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AuctionController.class)
+@Import(WireFormatConfigTest.RecordingObservations.class)
+public class WireFormatConfigTest {
+    private static final List<String> SERIALIZED_FORMATS = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AuctionService auctionService;
+
+    @MockBean
+    private AuctionUpdateBroadcaster auctionUpdateBroadcaster;
+
+    @MockBean
+    private AuctionImportService auctionImportService;
+
+    @MockBean
+    private AuctionResponseCache auctionResponseCache;
+
+    @BeforeEach
+    void setUp() {
+        SERIALIZED_FORMATS.clear();
+        Auction auction = new Auction();
+        auction.setId("auction-1");
+        auction.setTitle("Test Artwork");
+        auction.setCurrentPrice(250.0);
+        auction.setEndTime(LocalDateTime.of(2024, 5, 8, 10, 0));
+        auction.setAuctionStatus(AuctionStatus.ACTIVE);
+        when(auctionService.getAuctionById("auction-1")).thenReturn(auction);
+    }
+
+    private JsonNode fetch(MediaType mediaType, ObjectMapper reader) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/auctions/auction-1").accept(mediaType))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(mediaType))
+                .andReturn();
+        return reader.readTree(result.getResponse().getContentAsByteArray());
+    }
+
+    @Test
+    @DisplayName("Should serve CBOR through the configured, profiled converter")
+    void testCborNegotiation() throws Exception {
+        JsonNode body = fetch(MediaType.parseMediaType("application/cbor"), new ObjectMapper(new CBORFactory()));
+
+        assertEquals("auction-1", body.get("id").asText());
+        assertEquals(250.0, body.get("currentPrice").asDouble());
+        assertTrue(body.get("endTime").isArray() || body.get("endTime").isNumber());
+        assertEquals(List.of("cbor"), SERIALIZED_FORMATS);
+    }
+
+    @Test
+    @DisplayName("Should serve Smile through the configured, profiled converter")
+    void testSmileNegotiation() throws Exception {
+        JsonNode body = fetch(MediaType.parseMediaType("application/x-jackson-smile"), new ObjectMapper(new SmileFactory()));
+
+        assertEquals("auction-1", body.get("id").asText());
+        assertEquals(List.of("smile"), SERIALIZED_FORMATS);
+    }
+
+    @Test
+    @DisplayName("Should keep JSON as the default representation")
+    void testJsonDefault() throws Exception {
+        JsonNode body = fetch(MediaType.APPLICATION_JSON, new ObjectMapper());
+
+        assertEquals("2024-05-08T10:00:00", body.get("endTime").asText());
+        assertEquals(List.of("json"), SERIALIZED_FORMATS);
+    }
+
+    @TestConfiguration
+    static class RecordingObservations {
+        @Bean
+        ObservationRegistry observationRegistry() {
+            ObservationRegistry registry = ObservationRegistry.create();
+            registry.observationConfig().observationHandler(new ObservationHandler<>() {
+                @Override
+                public void onStart(Observation.Context context) {
+                    if ("auction.serialization".equals(context.getName())) {
+                        SERIALIZED_FORMATS.add(context.getLowCardinalityKeyValue("format").getValue());
+                    }
+                }
+
+                @Override
+                public boolean supportsContext(Observation.Context context) {
+                    return true;
+                }
+            });
+            return registry;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.artztall.auction_service.controller;
+
+import com.artztall.auction_service.dto.ArtistSalesSummaryDTO;
+import com.artztall.auction_service.exception.AuctionException;
+import com.artztall.auction_service.service.ArtistAnalyticsService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ArtistAnalyticsControllerTest {
+
+    @Mock
+    private ArtistAnalyticsService artistAnalyticsService;
+
+    @Spy
+    private Clock clock = Clock.fixed(Instant.parse("2024-03-05T12:00:00Z"), ZoneOffset.UTC);
+
+    @InjectMocks
+    private ArtistAnalyticsController artistAnalyticsController;
+
+    @Test
+    @DisplayName("Should default to the 30 days up to the clock's date")
+    void testDefaultWindow() {
+        // Arrange
+        ArtistSalesSummaryDTO summary = new ArtistSalesSummaryDTO();
+        when(artistAnalyticsService.getArtistSummary("artist-1", LocalDate.of(2024, 2, 4), LocalDate.of(2024, 3, 5)))
+                .thenReturn(summary);
+
+        // Act
+        ResponseEntity<ArtistSalesSummaryDTO> response = artistAnalyticsController.getArtistAnalytics("artist-1", null, null);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(summary, response.getBody());
+    }
+
+    @Test
+    @DisplayName("Should reject a window that ends before it starts")
+    void testInvertedWindow() {
+        assertThrows(AuctionException.class, () -> artistAnalyticsController.getArtistAnalytics("artist-1",
+                LocalDate.of(2024, 3, 6), LocalDate.of(2024, 3, 5)));
+        verify(artistAnalyticsService, never()).getArtistSummary(any(), any(), any());
+    }
+}
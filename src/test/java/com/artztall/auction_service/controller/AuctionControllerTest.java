@@ -2,12 +2,17 @@ package com.artztall.auction_service.controller;
 
 
 import com.artztall.auction_service.dto.AuctionCreateDTO;
+import com.artztall.auction_service.dto.AuctionSummaryDTO;
 import com.artztall.auction_service.dto.BidDTO;
+import com.artztall.auction_service.dto.BidRejection;
+import com.artztall.auction_service.dto.BidResult;
 import com.artztall.auction_service.dto.CompletedAuctionDTO;
 import com.artztall.auction_service.model.Auction;
+import com.artztall.auction_service.model.AuctionSort;
 import com.artztall.auction_service.model.AuctionStatus;
 import com.artztall.auction_service.model.PaymentStatus;
 import com.artztall.auction_service.service.AuctionService;
+import com.artztall.auction_service.service.AuctionUpdateBroadcaster;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -17,6 +22,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -31,6 +37,9 @@ public class AuctionControllerTest {
     @Mock
     private AuctionService auctionService;
 
+    @Mock
+    private AuctionUpdateBroadcaster auctionUpdateBroadcaster;
+
     @InjectMocks
     private AuctionController auctionController;
 
@@ -92,10 +101,10 @@ public class AuctionControllerTest {
 
             Auction updatedAuction = createSampleAuction();
 
-            when(auctionService.placeBid(bidDTO)).thenReturn(updatedAuction);
+            when(auctionService.placeBid(bidDTO)).thenReturn(BidResult.accepted(updatedAuction));
 
             // Act
-            ResponseEntity<Auction> response = auctionController.placeBid(bidDTO);
+            ResponseEntity<?> response = auctionController.placeBid(bidDTO);
 
             // Assert
             assertNotNull(response);
@@ -103,6 +112,23 @@ public class AuctionControllerTest {
             assertEquals(updatedAuction, response.getBody());
             verify(auctionService).placeBid(bidDTO);
         }
+
+        @Test
+        @DisplayName("Should return the rejection body for a losing bid")
+        void testPlaceBidRejected() {
+            BidDTO bidDTO = new BidDTO();
+            bidDTO.setAuctionId("auction-1");
+            bidDTO.setUserId("user-1");
+            bidDTO.setAmount(50.0);
+            BidRejection rejection = BidRejection.outbid("auction-1", 100.0);
+
+            when(auctionService.placeBid(bidDTO)).thenReturn(BidResult.rejected(rejection));
+
+            ResponseEntity<?> response = auctionController.placeBid(bidDTO);
+
+            assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, response.getStatusCode());
+            assertSame(rejection, response.getBody());
+        }
     }
 
     @Nested
@@ -127,6 +153,38 @@ public class AuctionControllerTest {
             verify(auctionService).getAuctionById(auctionId);
         }
 
+        @Test
+        @DisplayName("Should retrieve auction summaries in bulk")
+        void testGetAuctionSummaries() {
+            List<String> ids = List.of("auction-1", "auction-2");
+            AuctionSummaryDTO summary = new AuctionSummaryDTO();
+            summary.setId("auction-1");
+
+            when(auctionService.getAuctionSummaries(ids)).thenReturn(List.of(summary));
+
+            ResponseEntity<List<AuctionSummaryDTO>> response = auctionController.getAuctionSummaries(ids);
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals(List.of(summary), response.getBody());
+        }
+
+        @Test
+        @DisplayName("Should subscribe to auction updates")
+        void testSubscribeToAuctionUpdates() {
+            // Arrange
+            String auctionId = UUID.randomUUID().toString();
+            SseEmitter emitter = new SseEmitter();
+
+            when(auctionUpdateBroadcaster.subscribe(auctionId)).thenReturn(emitter);
+
+            // Act
+            SseEmitter result = auctionController.subscribeToAuctionUpdates(auctionId);
+
+            // Assert
+            assertSame(emitter, result);
+            verify(auctionUpdateBroadcaster).subscribe(auctionId);
+        }
+
         @Test
         @DisplayName("Should retrieve active auctions")
         void testGetActiveAuctions() {
@@ -145,6 +203,37 @@ public class AuctionControllerTest {
             verify(auctionService).getActiveAuctions();
         }
 
+        @Test
+        @DisplayName("Should retrieve auctions ending soon")
+        void testGetAuctionsEndingSoon() {
+            AuctionSummaryDTO summary = new AuctionSummaryDTO();
+            summary.setId("auction-1");
+
+            when(auctionService.getAuctionsEndingWithin(30, 10)).thenReturn(List.of(summary));
+
+            ResponseEntity<List<AuctionSummaryDTO>> response = auctionController.getAuctionsEndingSoon(30, 10);
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals(List.of(summary), response.getBody());
+        }
+
+        @Test
+        @DisplayName("Should retrieve auctions by price range, open-ended without a maximum")
+        void testGetAuctionsByPriceRange() {
+            AuctionSummaryDTO summary = new AuctionSummaryDTO();
+            summary.setId("auction-1");
+
+            when(auctionService.getAuctionsByPriceRange(100, Double.MAX_VALUE, AuctionSort.BIDS, 20))
+                    .thenReturn(List.of(summary));
+
+            ResponseEntity<List<AuctionSummaryDTO>> response =
+                    auctionController.getAuctionsByPriceRange(100, null, AuctionSort.BIDS, 20);
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals(List.of(summary), response.getBody());
+            verify(auctionService).getAuctionsByPriceRange(100, Double.MAX_VALUE, AuctionSort.BIDS, 20);
+        }
+
         @Test
         @DisplayName("Should retrieve auctions by artist")
         void testGetAuctionsByArtist() {
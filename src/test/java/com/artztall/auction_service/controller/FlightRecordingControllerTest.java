@@ -0,0 +1,29 @@
+package com.artztall.auction_service.controller;
+
+import com.artztall.auction_service.profiling.FlightRecordingService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FlightRecordingControllerTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(FlightRecordingController.class, FlightRecordingService.class);
+
+    @Test
+    @DisplayName("Should not expose recordings unless profiling is enabled")
+    void testDisabledByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context).doesNotHaveBean(FlightRecordingController.class);
+            assertThat(context).doesNotHaveBean(FlightRecordingService.class);
+        });
+    }
+
+    @Test
+    @DisplayName("Should expose recordings when profiling is enabled")
+    void testEnabled() {
+        contextRunner.withPropertyValues("auction.profiling.enabled=true")
+                .run(context -> assertThat(context).hasSingleBean(FlightRecordingController.class));
+    }
+}
@@ -0,0 +1,67 @@
+package com.artztall.auction_service.controller;
+
+import com.artztall.auction_service.model.UserAuctionStatus;
+import com.artztall.auction_service.model.UserAuctionView;
+import com.artztall.auction_service.service.UserAuctionViewService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserAuctionControllerTest {
+
+    @Mock
+    private UserAuctionViewService userAuctionViewService;
+
+    @InjectMocks
+    private UserAuctionController userAuctionController;
+
+    private UserAuctionView createView(UserAuctionStatus status) {
+        UserAuctionView view = new UserAuctionView();
+        view.setId(UserAuctionView.idFor("user-1", "auction-1"));
+        view.setUserId("user-1");
+        view.setAuctionId("auction-1");
+        view.setStatus(status);
+        return view;
+    }
+
+    @Test
+    @DisplayName("Should return the auctions a user is bidding on")
+    void testGetActiveBids() {
+        // Arrange
+        List<UserAuctionView> views = List.of(createView(UserAuctionStatus.LEADING));
+        when(userAuctionViewService.getActiveBids("user-1")).thenReturn(views);
+
+        // Act
+        ResponseEntity<List<UserAuctionView>> response = userAuctionController.getActiveBids("user-1");
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(views, response.getBody());
+    }
+
+    @Test
+    @DisplayName("Should return the auctions a user has won")
+    void testGetWonAuctions() {
+        // Arrange
+        List<UserAuctionView> views = List.of(createView(UserAuctionStatus.WON));
+        when(userAuctionViewService.getWonAuctions("user-1")).thenReturn(views);
+
+        // Act
+        ResponseEntity<List<UserAuctionView>> response = userAuctionController.getWonAuctions("user-1");
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(views, response.getBody());
+    }
+}
@@ -0,0 +1,112 @@
+package com.artztall.auction_service.event;
+
+import com.artztall.auction_service.config.MongoWriteConcerns;
+import com.artztall.auction_service.model.Auction;
+import com.artztall.auction_service.shedular.SchedulerLease;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OutboxDispatcherTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private MongoWriteConcerns writeConcerns;
+
+    @Mock
+    private AuctionEventBroker eventBroker;
+
+    @Mock
+    private SchedulerLease schedulerLease;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new OutboxDispatcher(mongoTemplate, writeConcerns, eventBroker, schedulerLease, 10);
+    }
+
+    private Auction createOutbox(String id) {
+        Auction auction = new Auction();
+        auction.setId(id);
+        auction.recordEvent(AuctionEvent.of(AuctionEventType.BID_PLACED, auction, Clock.systemDefaultZone()));
+        return auction;
+    }
+
+    @Test
+    @DisplayName("Should pull events from the outbox only after publishing them")
+    void testPublishesThenPulls() {
+        Auction auction = createOutbox("auction-1");
+        when(mongoTemplate.find(any(Query.class), eq(Auction.class))).thenReturn(new ArrayList<>(List.of(auction)));
+        when(writeConcerns.bulkOps(mongoTemplate, MongoWriteConcerns.WriteClass.BOOKKEEPING,
+                BulkOperations.BulkMode.UNORDERED, Auction.class)).thenReturn(bulkOperations);
+        when(schedulerLease.tryAcquire(anyString(), any(Duration.class))).thenReturn(true);
+
+        dispatcher.dispatch();
+
+        var order = inOrder(eventBroker, bulkOperations);
+        order.verify(eventBroker).publish(auction.getPendingEvents());
+        ArgumentCaptor<Query> acknowledged = ArgumentCaptor.forClass(Query.class);
+        order.verify(bulkOperations).updateOne(acknowledged.capture(), any(Update.class));
+        order.verify(bulkOperations).execute();
+        assertEquals("auction-1", acknowledged.getValue().getQueryObject().get("_id"));
+        assertEquals("auction-1", auction.getPendingEvents().get(0).getAuctionId());
+    }
+
+    @Test
+    @DisplayName("Should leave events in the outbox when publishing them fails")
+    void testKeepsEventsWhenPublishFails() {
+        Auction failing = createOutbox("auction-1");
+        Auction delivered = createOutbox("auction-2");
+        when(mongoTemplate.find(any(Query.class), eq(Auction.class))).thenReturn(new ArrayList<>(List.of(failing, delivered)));
+        when(writeConcerns.bulkOps(mongoTemplate, MongoWriteConcerns.WriteClass.BOOKKEEPING,
+                BulkOperations.BulkMode.UNORDERED, Auction.class)).thenReturn(bulkOperations);
+        when(schedulerLease.tryAcquire(anyString(), any(Duration.class))).thenReturn(true);
+        doThrow(new IllegalStateException("read model unavailable"))
+                .when(eventBroker).publish(failing.getPendingEvents());
+
+        dispatcher.dispatch();
+
+        ArgumentCaptor<Query> acknowledged = ArgumentCaptor.forClass(Query.class);
+        verify(bulkOperations, times(1)).updateOne(acknowledged.capture(), any(Update.class));
+        assertEquals("auction-2", acknowledged.getValue().getQueryObject().get("_id"));
+        verify(eventBroker, times(2)).publish(anyList());
+    }
+
+    @Test
+    @DisplayName("Should propagate handler failures from the in-process broker")
+    void testInProcessBrokerPropagatesFailures() {
+        AuctionEventHandler failing = event -> {
+            throw new IllegalStateException("read model unavailable");
+        };
+        InProcessAuctionEventBroker broker = new InProcessAuctionEventBroker(List.of(failing));
+
+        assertThrows(IllegalStateException.class,
+                () -> broker.publish(createOutbox("auction-1").getPendingEvents()));
+    }
+}
@@ -0,0 +1,170 @@
+package com.artztall.auction_service.journal;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BidJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private BidJournal open(int segmentSize) throws Exception {
+        return new BidJournal(new SimpleMeterRegistry(), directory, segmentSize, 0, 5000);
+    }
+
+    private static JournaledBid bid(int i) {
+        return new JournaledBid("bid-" + i, "auction-" + (i % 3), "user-" + i, 100 + i,
+                LocalDateTime.of(2026, 1, 1, 12, 0).plusNanos(i));
+    }
+
+    private List<JournaledBid> readAll(BidJournal journal, BidJournal.Position from) {
+        return journal.read(from, Integer.MAX_VALUE).stream().map(BidJournal.Entry::bid).toList();
+    }
+
+    private long segmentCount() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".wal")).count();
+        }
+    }
+
+    @Test
+    @DisplayName("Should acknowledge appends once durable and read them back in order")
+    void testAppendAndRead() throws Exception {
+        BidJournal journal = open(1 << 20);
+        List<CompletableFuture<Void>> acknowledgements = IntStream.range(0, 50)
+                .mapToObj(i -> journal.append(bid(i))).toList();
+        CompletableFuture.allOf(acknowledgements.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        List<JournaledBid> bids = readAll(journal, journal.appliedPosition());
+
+        assertEquals(IntStream.range(0, 50).mapToObj(BidJournalTest::bid).toList(), bids);
+        assertEquals(147.0, journal.pendingPrice("auction-2").getAsDouble());
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("Should replay unapplied bids after a restart")
+    void testReplayAfterRestart() throws Exception {
+        BidJournal journal = open(1 << 20);
+        for (int i = 0; i < 10; i++) {
+            journal.append(bid(i)).get(5, TimeUnit.SECONDS);
+        }
+        List<BidJournal.Entry> entries = journal.read(journal.appliedPosition(), 4);
+        entries.forEach(entry -> journal.applied(entry.bid()));
+        journal.checkpoint(entries.get(3).next());
+        journal.close();
+
+        BidJournal reopened = open(1 << 20);
+        List<JournaledBid> replayed = readAll(reopened, reopened.appliedPosition());
+
+        assertEquals(IntStream.range(4, 10).mapToObj(BidJournalTest::bid).toList(), replayed);
+        assertTrue(reopened.pendingPrice("auction-0").isPresent());
+        reopened.append(bid(10)).get(5, TimeUnit.SECONDS);
+        assertEquals(7, readAll(reopened, reopened.appliedPosition()).size());
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("Should cut off a torn record at the tail on open")
+    void testTornTail() throws Exception {
+        BidJournal journal = open(1 << 20);
+        journal.append(bid(0)).get(5, TimeUnit.SECONDS);
+        journal.append(bid(1)).get(5, TimeUnit.SECONDS);
+        BidJournal.Position end = journal.read(journal.appliedPosition(), 2).get(1).next();
+        journal.close();
+
+        try (RandomAccessFile segment = new RandomAccessFile(directory.resolve("bids-0000000000000000.wal").toFile(), "rw")) {
+            segment.seek(end.offset());
+            segment.writeInt(40);
+            segment.writeInt(12345);
+            segment.write(new byte[20]);
+        }
+
+        BidJournal reopened = open(1 << 20);
+        assertEquals(List.of(bid(0), bid(1)), readAll(reopened, reopened.appliedPosition()));
+        reopened.append(bid(2)).get(5, TimeUnit.SECONDS);
+        assertEquals(List.of(bid(0), bid(1), bid(2)), readAll(reopened, reopened.appliedPosition()));
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("Should roll segments and delete those fully applied")
+    void testSegmentRollAndCleanup() throws Exception {
+        BidJournal journal = open(512);
+        for (int i = 0; i < 40; i++) {
+            journal.append(bid(i)).get(5, TimeUnit.SECONDS);
+        }
+        assertTrue(segmentCount() > 2);
+
+        List<BidJournal.Entry> entries = journal.read(journal.appliedPosition(), Integer.MAX_VALUE);
+        assertEquals(40, entries.size());
+        entries.forEach(entry -> journal.applied(entry.bid()));
+        journal.checkpoint(entries.get(39).next());
+
+        assertEquals(1, segmentCount());
+        assertTrue(journal.pendingPrice("auction-0").isEmpty());
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("Should fail waiting and later appends when forcing to disk fails")
+    void testFsyncFailure() throws Exception {
+        AtomicBoolean diskFailed = new AtomicBoolean();
+        BidJournal journal = new BidJournal(new SimpleMeterRegistry(), directory, 1 << 20, 0, 5000) {
+            @Override
+            void force(MappedByteBuffer buffer) {
+                if (diskFailed.get()) {
+                    throw new UncheckedIOException(new IOException("disk full"));
+                }
+                super.force(buffer);
+            }
+        };
+        journal.append(bid(0)).get(5, TimeUnit.SECONDS);
+        diskFailed.set(true);
+
+        CompletableFuture<Void> waiting = journal.append(bid(1));
+        ExecutionException failed = assertThrows(ExecutionException.class, () -> waiting.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(UncheckedIOException.class, failed.getCause());
+        assertTrue(journal.append(bid(2)).isCompletedExceptionally());
+        assertEquals(List.of(bid(0)), readAll(journal, journal.appliedPosition()));
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("Should time out an append that is not made durable in time")
+    void testAckTimeout() throws Exception {
+        BidJournal journal = new BidJournal(new SimpleMeterRegistry(), directory, 1 << 20, 0, 50) {
+            @Override
+            void force(MappedByteBuffer buffer) {
+                LockSupport.parkNanos(TimeUnit.SECONDS.toNanos(1));
+                super.force(buffer);
+            }
+        };
+
+        ExecutionException failed = assertThrows(ExecutionException.class,
+                () -> journal.append(bid(0)).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(TimeoutException.class, failed.getCause());
+        journal.close();
+    }
+}
@@ -0,0 +1,89 @@
+package com.artztall.auction_service.profiling;
+
+import com.artztall.auction_service.dto.RecordingDTO;
+import com.artztall.auction_service.exception.RecordingException;
+import com.artztall.auction_service.model.BidOutcome;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FlightRecordingServiceTest {
+
+    @TempDir
+    private Path directory;
+
+    private FlightRecordingService recordingService;
+
+    @BeforeEach
+    void setUp() {
+        recordingService = new FlightRecordingService(directory.toString(), 60, 16 * 1024 * 1024);
+    }
+
+    @AfterEach
+    void tearDown() {
+        recordingService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should capture auction events in a stopped recording and delete it once discarded")
+    void testRecordsAuctionEvents() throws IOException {
+        RecordingDTO started = recordingService.start(30, "default");
+        assertEquals("RUNNING", started.getState());
+
+        BidValidationEvent validation = new BidValidationEvent();
+        validation.begin();
+        validation.finish("auction-1", 150.0, BidOutcome.OUTBID);
+        assertEquals("value", RepositoryCallEvent.record("findById", "auction-1", () -> "value"));
+
+        Path file = recordingService.stop(started.getId());
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().startsWith("com.artztall.auction."))
+                .toList();
+
+        RecordedEvent bid = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.artztall.auction.BidValidation"))
+                .findFirst().orElseThrow();
+        assertEquals("auction-1", bid.getString("auctionId"));
+        assertEquals("OUTBID", bid.getString("outcome"));
+        RecordedEvent call = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.artztall.auction.RepositoryCall"))
+                .findFirst().orElseThrow();
+        assertEquals("findById", call.getString("operation"));
+        assertEquals("OK", call.getString("outcome"));
+
+        recordingService.discard(started.getId());
+        assertFalse(Files.exists(file));
+        assertTrue(recordingService.list().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should allow only one running recording")
+    void testRejectsConcurrentRecording() {
+        recordingService.start(30, "default");
+
+        RecordingException exception = assertThrows(RecordingException.class,
+                () -> recordingService.start(30, "default"));
+        assertEquals(HttpStatus.CONFLICT, exception.getStatus());
+    }
+
+    @Test
+    @DisplayName("Should refuse recordings longer than the configured maximum")
+    void testRejectsUnboundedRecording() {
+        RecordingException exception = assertThrows(RecordingException.class,
+                () -> recordingService.start(3_600, "default"));
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+        assertThrows(RecordingException.class, () -> recordingService.start(30, "everything"));
+    }
+}
@@ -0,0 +1,114 @@
+package com.artztall.auction_service.repository;
+
+import com.artztall.auction_service.config.MongoWriteConcerns;
+import com.artztall.auction_service.model.Auction;
+import com.artztall.auction_service.model.AuctionStatus;
+import com.mongodb.bulk.BulkWriteResult;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AuctionClosingRepositoryImplTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private MongoWriteConcerns writeConcerns;
+
+    @Mock
+    private BulkOperations bulk;
+
+    private AuctionClosingRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new AuctionClosingRepositoryImpl(mongoTemplate, writeConcerns);
+    }
+
+    private Auction createExpiredAuction(String id, long version) {
+        Auction auction = new Auction();
+        auction.setId(id);
+        auction.setVersion(version);
+        auction.setCurrentPrice(100.0);
+        auction.setAuctionStatus(AuctionStatus.COMPLETED);
+        auction.setUpdatedAt(LocalDateTime.now());
+        return auction;
+    }
+
+    @Test
+    @DisplayName("Should not close an auction extended since it was loaded")
+    void testCloseRacingExtend() {
+        // Arrange: the extension bumped the stored version to 4, so the filter matches nothing.
+        Auction extended = createExpiredAuction("auction-1", 3L);
+        BulkWriteResult result = mock(BulkWriteResult.class);
+        when(writeConcerns.bulkOps(mongoTemplate, MongoWriteConcerns.WriteClass.AUCTION,
+                BulkOperations.BulkMode.UNORDERED, Auction.class)).thenReturn(bulk);
+        when(bulk.execute()).thenReturn(result);
+        when(result.getModifiedCount()).thenReturn(0);
+
+        // Act
+        Set<String> closed = repository.closeAll(List.of(extended));
+
+        // Assert
+        assertTrue(closed.isEmpty());
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(bulk).updateOne(query.capture(), any(Update.class));
+        Document filter = query.getValue().getQueryObject();
+        assertEquals("auction-1", filter.get("_id"));
+        assertEquals(AuctionStatus.ACTIVE, filter.get("auctionStatus"));
+        assertEquals(3L, filter.get("version"));
+    }
+
+    @Test
+    @DisplayName("Should report which auctions a partial close reached")
+    void testPartialClose() {
+        // Arrange
+        Auction closedHere = createExpiredAuction("auction-1", 3L);
+        Auction bidOn = createExpiredAuction("auction-2", 5L);
+        bidOn.setUpdatedAt(closedHere.getUpdatedAt());
+        BulkWriteResult result = mock(BulkWriteResult.class);
+        when(writeConcerns.bulkOps(mongoTemplate, MongoWriteConcerns.WriteClass.AUCTION,
+                BulkOperations.BulkMode.UNORDERED, Auction.class)).thenReturn(bulk);
+        when(bulk.execute()).thenReturn(result);
+        when(result.getModifiedCount()).thenReturn(1);
+        when(mongoTemplate.find(any(Query.class), eq(Auction.class))).thenReturn(List.of(closedHere));
+
+        // Act
+        Set<String> closed = repository.closeAll(List.of(closedHere, bidOn));
+
+        // Assert
+        assertEquals(Set.of("auction-1"), closed);
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(Auction.class));
+        Document filter = query.getValue().getQueryObject();
+        assertEquals(AuctionStatus.COMPLETED, filter.get("auctionStatus"));
+        assertEquals(closedHere.getUpdatedAt(), filter.get("updatedAt"));
+    }
+
+    @Test
+    @DisplayName("Should skip the write when there is nothing to close")
+    void testCloseNothing() {
+        assertTrue(repository.closeAll(List.of()).isEmpty());
+        verifyNoInteractions(writeConcerns, mongoTemplate);
+    }
+}
@@ -0,0 +1,99 @@
+package com.artztall.auction_service.repository;
+
+import com.artztall.auction_service.config.MongoReadPreferences;
+import com.artztall.auction_service.model.Auction;
+import com.artztall.auction_service.model.AuctionListing;
+import com.artztall.auction_service.model.AuctionStatus;
+import com.mongodb.ReadPreference;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AuctionListingRepositoryImplTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private AuctionListingRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new AuctionListingRepositoryImpl(mongoTemplate, new MongoReadPreferences("secondaryPreferred"));
+    }
+
+    @Test
+    @DisplayName("Should send listing queries with the listing read preference")
+    void testListingReadPreference() {
+        repository.findByAuctionStatus(AuctionStatus.COMPLETED);
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(Auction.class));
+        assertEquals(ReadPreference.secondaryPreferred(), query.getValue().getReadPreference());
+        assertEquals(AuctionStatus.COMPLETED, query.getValue().getQueryObject().get("auctionStatus"));
+    }
+
+    @Test
+    @DisplayName("Should only list active auctions within their time window")
+    void testActiveAuctionsQuery() {
+        LocalDateTime now = LocalDateTime.now();
+
+        repository.findActiveAuctions(now);
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(Auction.class));
+        Document criteria = query.getValue().getQueryObject();
+        assertEquals(AuctionStatus.ACTIVE, criteria.get("auctionStatus"));
+        assertEquals(now, criteria.get("startTime", Document.class).get("$lte"));
+        assertEquals(now, criteria.get("endTime", Document.class).get("$gte"));
+    }
+
+    @Test
+    @DisplayName("Should fetch batch summaries in one query without bids")
+    void testSummaryProjection() {
+        repository.findSummariesByIdIn(List.of("auction-1", "auction-2"));
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(Auction.class));
+        assertEquals(List.of("auction-1", "auction-2"),
+                query.getValue().getQueryObject().get("_id", Document.class).get("$in"));
+        Document fields = query.getValue().getFieldsObject();
+        assertEquals(1, fields.get("currentPrice"));
+        assertFalse(fields.containsKey("bids"));
+        assertFalse(fields.containsKey("pendingEvents"));
+    }
+
+    @Test
+    @DisplayName("Should project active listings and count bids on the server")
+    void testActiveListingsProjection() {
+        LocalDateTime now = LocalDateTime.now();
+        when(mongoTemplate.getCollectionName(Auction.class)).thenReturn("auctions");
+
+        repository.findActiveListings(now);
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(AuctionListing.class), eq("auctions"));
+        assertEquals(AuctionStatus.ACTIVE, query.getValue().getQueryObject().get("auctionStatus"));
+        assertEquals(ReadPreference.secondaryPreferred(), query.getValue().getReadPreference());
+        Document fields = query.getValue().getFieldsObject();
+        assertEquals(1, fields.get("endTime"));
+        assertEquals(1, fields.get("version"));
+        assertTrue(fields.containsKey("bidsCount"));
+        assertFalse(fields.containsKey("bids"));
+    }
+}
@@ -0,0 +1,167 @@
+package com.artztall.auction_service.service;
+
+import com.artztall.auction_service.dto.ArtistSalesSummaryDTO;
+import com.artztall.auction_service.event.AuctionEvent;
+import com.artztall.auction_service.event.AuctionEventType;
+import com.artztall.auction_service.model.ArtistSalesAppliedEvent;
+import com.artztall.auction_service.model.ArtistSalesRollup;
+import com.artztall.auction_service.repository.ArtistSalesRollupRepository;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ArtistAnalyticsServiceTest {
+
+    @Mock
+    private ArtistSalesRollupRepository rollupRepository;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Spy
+    private Clock clock = Clock.fixed(Instant.parse("2024-03-05T12:00:00Z"), ZoneOffset.UTC);
+
+    @InjectMocks
+    private ArtistAnalyticsService artistAnalyticsService;
+
+    private ArtistSalesRollup createRollup(LocalDate day, long closed, long sold, double gross, long bids) {
+        ArtistSalesRollup rollup = new ArtistSalesRollup();
+        rollup.setArtistId("artist-1");
+        rollup.setDay(day);
+        rollup.setAuctionsClosed(closed);
+        rollup.setAuctionsSold(sold);
+        rollup.setGrossSales(gross);
+        rollup.setBidCount(bids);
+        return rollup;
+    }
+
+    @Test
+    @DisplayName("Should aggregate daily rollups into an artist summary")
+    void testGetArtistSummary() {
+        // Arrange
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 1, 31);
+        when(rollupRepository.findByArtistIdAndDayRange("artist-1", from, to)).thenReturn(List.of(
+                createRollup(from, 2, 1, 300.0, 10),
+                createRollup(from.plusDays(1), 2, 2, 900.0, 25)
+        ));
+
+        // Act
+        ArtistSalesSummaryDTO summary = artistAnalyticsService.getArtistSummary("artist-1", from, to);
+
+        // Assert
+        assertEquals(4, summary.getAuctionsClosed());
+        assertEquals(3, summary.getAuctionsSold());
+        assertEquals(0.75, summary.getSellThroughRate());
+        assertEquals(400.0, summary.getAverageHammerPrice());
+        assertEquals(35, summary.getBidCount());
+        assertEquals(2, summary.getDaily().size());
+    }
+
+    @Test
+    @DisplayName("Should increment the daily rollup for a sold auction")
+    void testOnAuctionClosed() {
+        // Arrange
+        AuctionEvent event = new AuctionEvent();
+        event.setType(AuctionEventType.AUCTION_CLOSED);
+        event.setArtistId("artist-1");
+        event.setUserId("winner-1");
+        event.setAmount(500.0);
+        event.setOccurredAt(LocalDateTime.of(2024, 1, 2, 10, 0));
+
+        // Act
+        artistAnalyticsService.onEvent(event);
+
+        // Assert
+        verify(mongoTemplate).upsert(any(Query.class), any(Update.class), eq(ArtistSalesRollup.class));
+    }
+
+    @Test
+    @DisplayName("Should count each event once per rollup")
+    void testOnEventIsIdempotent() {
+        // Arrange
+        AuctionEvent event = new AuctionEvent();
+        event.setId("event-1");
+        event.setType(AuctionEventType.BID_PLACED);
+        event.setArtistId("artist-1");
+        event.setOccurredAt(LocalDateTime.of(2024, 1, 2, 10, 0));
+        when(mongoTemplate.insert(any(ArtistSalesAppliedEvent.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0))
+                .thenThrow(new DuplicateKeyException("E11000 duplicate key error"));
+
+        // Act
+        artistAnalyticsService.onEvent(event);
+        artistAnalyticsService.onEvent(event);
+
+        // Assert
+        ArgumentCaptor<ArtistSalesAppliedEvent> applied = ArgumentCaptor.forClass(ArtistSalesAppliedEvent.class);
+        verify(mongoTemplate, times(2)).insert(applied.capture());
+        assertEquals("event-1", applied.getValue().getEventId());
+        assertEquals(LocalDateTime.of(2024, 3, 5, 12, 0), applied.getValue().getAppliedAt());
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).upsert(query.capture(), update.capture(), eq(ArtistSalesRollup.class));
+        Document criteria = query.getValue().getQueryObject();
+        assertEquals("artist-1:2024-01-02", criteria.get("_id"));
+        assertEquals(1, criteria.size());
+        assertEquals(1, update.getValue().getUpdateObject().get("$inc", Document.class).get("bidCount"));
+        assertFalse(update.getValue().getUpdateObject().containsKey("$addToSet"));
+    }
+
+    @Test
+    @DisplayName("Should forget an event whose rollup update failed so a retry counts it")
+    void testFailedRollupIsRetried() {
+        // Arrange
+        AuctionEvent event = new AuctionEvent();
+        event.setId("event-1");
+        event.setType(AuctionEventType.AUCTION_CREATED);
+        event.setArtistId("artist-1");
+        when(mongoTemplate.upsert(any(Query.class), any(Update.class), eq(ArtistSalesRollup.class)))
+                .thenThrow(new DataAccessResourceFailureException("primary stepped down"));
+
+        // Act
+        assertThrows(DataAccessResourceFailureException.class, () -> artistAnalyticsService.onEvent(event));
+
+        // Assert
+        verify(mongoTemplate).remove(argThat((ArtistSalesAppliedEvent applied) -> "event-1".equals(applied.getEventId())));
+    }
+
+    @Test
+    @DisplayName("Should count an undated event on the clock's day")
+    void testUndatedEventUsesClock() {
+        AuctionEvent event = new AuctionEvent();
+        event.setType(AuctionEventType.AUCTION_CREATED);
+        event.setArtistId("artist-1");
+
+        artistAnalyticsService.onEvent(event);
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).upsert(query.capture(), any(Update.class), eq(ArtistSalesRollup.class));
+        assertEquals("artist-1:2024-03-05", query.getValue().getQueryObject().get("_id"));
+    }
+}
@@ -0,0 +1,140 @@
+package com.artztall.auction_service.service;
+
+import com.artztall.auction_service.cache.AuctionCache;
+import com.artztall.auction_service.dto.AuctionImportResultDTO;
+import com.artztall.auction_service.exception.AuctionException;
+import com.artztall.auction_service.model.Auction;
+import com.artztall.auction_service.repository.AuctionRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AuctionImportServiceTest {
+    private static final String HEADER = "title,artistId,startingPrice,startTime,endTime\n";
+
+    @Mock
+    private AuctionServiceImpl auctionService;
+
+    @Mock
+    private AuctionRepository auctionRepository;
+
+    @Mock
+    private AuctionCache auctionCache;
+
+    @Captor
+    private ArgumentCaptor<List<Auction>> inserted;
+
+    private AuctionImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new AuctionImportService(auctionService, auctionRepository, auctionCache,
+                new ObjectMapper().findAndRegisterModules(), 2);
+        ReflectionTestUtils.setField(auctionService, "clock", Clock.systemDefaultZone());
+        lenient().when(auctionService.newAuction(any(), any())).thenCallRealMethod();
+    }
+
+    private List<AuctionImportResultDTO> importRows(String upload, AuctionImportReader.Format format) throws IOException {
+        List<AuctionImportResultDTO> results = new ArrayList<>();
+        try (AuctionImportReader reader = importService.open(
+                new ByteArrayInputStream(upload.getBytes(StandardCharsets.UTF_8)), format)) {
+            importService.importAuctions(reader, results::add);
+        }
+        return results;
+    }
+
+    @Test
+    @DisplayName("Should validate CSV rows and insert valid ones in chunks")
+    void testCsvImport() throws IOException {
+        List<List<Auction>> chunks = new ArrayList<>();
+        // The chunk list is reused after each insert, so copy it as it is captured.
+        when(auctionRepository.insertAll(inserted.capture())).thenAnswer(invocation -> {
+            chunks.add(List.copyOf(inserted.getValue()));
+            return Map.of();
+        });
+        String upload = HEADER
+                + "\"Sunset, Study\",artist-1,100,2030-01-01T10:00:00,2030-01-05T10:00:00\n"
+                + "Backwards,artist-1,100,2030-01-05T10:00:00,2030-01-01T10:00:00\n"
+                + "\"The \"\"Blue\"\" Hour\",artist-2,250.5,2030-01-01T10:00:00,2030-03-01T10:00:00\r\n"
+                + "\n"
+                + "Short,artist-3\n";
+
+        List<AuctionImportResultDTO> results = importRows(upload, AuctionImportReader.Format.CSV);
+
+        assertEquals(List.of(1, 2, 3, 4), results.stream().map(AuctionImportResultDTO::getRow).toList());
+        assertEquals(List.of(AuctionImportResultDTO.Status.IMPORTED, AuctionImportResultDTO.Status.REJECTED,
+                        AuctionImportResultDTO.Status.IMPORTED, AuctionImportResultDTO.Status.REJECTED),
+                results.stream().map(AuctionImportResultDTO::getStatus).toList());
+
+        assertEquals(List.of(1, 1), chunks.stream().map(List::size).toList());
+        verify(auctionCache, times(2)).put(any());
+        Auction blueHour = chunks.get(1).get(0);
+        assertEquals("The \"Blue\" Hour", blueHour.getTitle());
+        assertEquals(results.get(2).getAuctionId(), blueHour.getId());
+        assertEquals(250.5, blueHour.getCurrentPrice());
+        // Capped at the 30-day maximum like a single create.
+        assertEquals(blueHour.getStartTime().plusDays(30), blueHour.getEndTime());
+    }
+
+    @Test
+    @DisplayName("Should report rows the bulk insert could not write")
+    void testInsertFailures() throws IOException {
+        // Chunks of two rows: "One" and the bad line, then "Two" alone.
+        when(auctionRepository.insertAll(any())).thenReturn(Map.of()).thenReturn(Map.of(0, "duplicate key"));
+        String upload = """
+                {"title":"One","artistId":"a","startingPrice":10,"startTime":"2030-01-01T10:00:00","endTime":"2030-01-02T10:00:00"}
+                not json
+                {"title":"Two","artistId":"a","startingPrice":10,"startTime":"2030-01-01T10:00:00","endTime":"2030-01-02T10:00:00"}
+                """;
+
+        List<AuctionImportResultDTO> results = importRows(upload, AuctionImportReader.Format.NDJSON);
+
+        assertEquals(AuctionImportResultDTO.Status.IMPORTED, results.get(0).getStatus());
+        assertEquals(AuctionImportResultDTO.Status.REJECTED, results.get(1).getStatus());
+        assertEquals(AuctionImportResultDTO.Status.FAILED, results.get(2).getStatus());
+        assertEquals("duplicate key", results.get(2).getError());
+        assertNull(results.get(2).getAuctionId());
+        verify(auctionCache, times(1)).put(any());
+    }
+
+    @Test
+    @DisplayName("Should refuse a CSV upload with unknown columns before importing anything")
+    void testUnknownColumns() {
+        assertThrows(AuctionException.class, () -> importRows("title,price\nA,1\n", AuctionImportReader.Format.CSV));
+        verifyNoInteractions(auctionRepository);
+    }
+
+    @Test
+    @DisplayName("Should skip a row longer than the limit without buffering it")
+    void testOversizedRow() throws IOException {
+        when(auctionRepository.insertAll(any())).thenReturn(Map.of());
+        String upload = HEADER
+                + "\"" + "x".repeat(AuctionImportReader.MAX_ROW_CHARS) + "\",artist-1,1,2030-01-01T10:00:00,2030-01-02T10:00:00\n"
+                + "Fine,artist-1,1,2030-01-01T10:00:00,2030-01-02T10:00:00\n";
+
+        List<AuctionImportResultDTO> results = importRows(upload, AuctionImportReader.Format.CSV);
+
+        assertEquals(AuctionImportResultDTO.Status.REJECTED, results.get(0).getStatus());
+        assertEquals(AuctionImportResultDTO.Status.IMPORTED, results.get(1).getStatus());
+    }
+}
@@ -1,29 +1,71 @@
 package com.artztall.auction_service.service;
 
+import com.artztall.auction_service.cache.ActiveAuctionIndex;
+import com.artztall.auction_service.cache.AuctionCache;
+import com.artztall.auction_service.cache.AuctionChangeSubscriber;
+import com.artztall.auction_service.cache.LiveAuctionStore;
 import com.artztall.auction_service.dto.AuctionCreateDTO;
+import com.artztall.auction_service.dto.AuctionSummaryDTO;
 import com.artztall.auction_service.dto.BidDTO;
+import com.artztall.auction_service.dto.BidRejection;
+import com.artztall.auction_service.dto.BidResult;
+import com.artztall.auction_service.dto.CompletedAuctionDTO;
+import com.artztall.auction_service.event.AuctionEvent;
+import com.artztall.auction_service.event.AuctionEventType;
+import com.artztall.auction_service.exception.AuctionConflictException;
 import com.artztall.auction_service.exception.AuctionException;
-import com.artztall.auction_service.exception.BidValidationException;
+import com.artztall.auction_service.exception.BidJournalUnavailableException;
+import com.artztall.auction_service.journal.BidJournal;
+import com.artztall.auction_service.journal.JournaledBid;
 import com.artztall.auction_service.model.Auction;
+import com.artztall.auction_service.model.AuctionListing;
+import com.artztall.auction_service.model.AuctionSort;
 import com.artztall.auction_service.model.AuctionStatus;
 import com.artztall.auction_service.model.Bid;
+import com.artztall.auction_service.model.BidOutcome;
 import com.artztall.auction_service.model.PaymentStatus;
+import com.artztall.auction_service.repository.AuctionArchiveRepository;
 import com.artztall.auction_service.repository.AuctionRepository;
+import com.artztall.auction_service.shedular.AuctionCloseExecutor;
+import com.artztall.auction_service.traffic.BidAdmissionControl;
+import com.artztall.auction_service.traffic.HotAuctionTracker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.bson.Document;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +74,33 @@ public class AuctionServiceTest {
     @Mock
     private AuctionRepository auctionRepository;
 
+    @Mock
+    private AuctionArchiveRepository auctionArchiveRepository;
+
+    @Mock
+    private AuctionCache auctionCache;
+
+    @Mock
+    private HotAuctionTracker hotAuctionTracker;
+
+    @Mock
+    private BidAdmissionControl bidAdmissionControl;
+
+    @Mock
+    private AuctionCloseExecutor auctionCloseExecutor;
+
+    @Mock
+    private ActiveAuctionIndex activeAuctionIndex;
+
+    @Spy
+    private Clock clock = Clock.systemDefaultZone();
+
+    @Spy
+    private ObservationRegistry observationRegistry = ObservationRegistry.create();
+
+    @Mock
+    private ObjectProvider<BidJournal> bidJournal;
+
     @InjectMocks
     private AuctionServiceImpl auctionService;
 
@@ -112,9 +181,11 @@ public class AuctionServiceTest {
             when(auctionRepository.save(any(Auction.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
             // Act
-            Auction updatedAuction = auctionService.placeBid(bidDTO);
+            BidResult result = auctionService.placeBid(bidDTO);
+            Auction updatedAuction = result.getAuction();
 
             // Assert
+            assertEquals(BidOutcome.ACCEPTED, result.getOutcome());
             assertNotNull(updatedAuction);
             assertEquals(150.0, updatedAuction.getCurrentPrice());
             assertEquals(1, updatedAuction.getBids().size());
@@ -122,7 +193,37 @@ public class AuctionServiceTest {
         }
 
         @Test
-        @DisplayName("Should throw exception for bid lower than current price")
+        @DisplayName("Should record a bid placed event in the auction outbox")
+        void testPlaceBidRecordsOutboxEvent() {
+            // Arrange
+            Auction auction = createSampleAuction();
+            Bid previousBid = new Bid();
+            previousBid.setUserId("user-0");
+            previousBid.setAmount(120.0);
+            auction.addBid(previousBid);
+
+            BidDTO bidDTO = new BidDTO();
+            bidDTO.setAuctionId(auction.getId());
+            bidDTO.setUserId("user-1");
+            bidDTO.setAmount(150.0);
+
+            when(auctionRepository.findById(auction.getId())).thenReturn(Optional.of(auction));
+            when(auctionRepository.save(any(Auction.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // Act
+            Auction updatedAuction = auctionService.placeBid(bidDTO).getAuction();
+
+            // Assert
+            assertEquals(1, updatedAuction.getPendingEvents().size());
+            AuctionEvent event = updatedAuction.getPendingEvents().get(0);
+            assertEquals(AuctionEventType.BID_PLACED, event.getType());
+            assertEquals("user-1", event.getUserId());
+            assertEquals("user-0", event.getPreviousLeaderId());
+            assertEquals(150.0, event.getAmount());
+        }
+
+        @Test
+        @DisplayName("Should reject a bid lower than current price as outbid")
         void testPlaceBidLowerThanCurrentPrice() {
             // Arrange
             Auction auction = createSampleAuction();
@@ -134,8 +235,181 @@ public class AuctionServiceTest {
             // Mock repository method
             when(auctionRepository.findById(auction.getId())).thenReturn(Optional.of(auction));
 
+            // Act
+            BidResult result = auctionService.placeBid(bidDTO);
+
+            // Assert
+            assertEquals(BidOutcome.OUTBID, result.getOutcome());
+            assertEquals(100.0, result.getRejection().getMinimumNextBid());
+            assertEquals("BID_OUTBID", result.getRejection().getErrorCode());
+            verify(auctionRepository, never()).save(any(Auction.class));
+        }
+
+        @Test
+        @DisplayName("Should judge the bidding window by the injected clock")
+        void testPlaceBidUsesClock() {
+            Auction auction = createSampleAuction();
+            BidDTO bidDTO = new BidDTO();
+            bidDTO.setAuctionId(auction.getId());
+            bidDTO.setUserId("user-1");
+            bidDTO.setAmount(150.0);
+
+            when(auctionRepository.findById(auction.getId())).thenReturn(Optional.of(auction));
+            doReturn(auction.getEndTime().plusMinutes(1).atZone(clock.getZone()).toInstant()).when(clock).instant();
+
+            assertEquals(BidOutcome.CLOSED, auctionService.placeBid(bidDTO).getOutcome());
+        }
+
+        @Test
+        @DisplayName("Should reject a bid on an auction that has not started")
+        void testPlaceBidBeforeStart() {
+            Auction auction = createSampleAuction();
+            auction.setStartTime(LocalDateTime.now().plusHours(1));
+            BidDTO bidDTO = new BidDTO();
+            bidDTO.setAuctionId(auction.getId());
+            bidDTO.setUserId("user-1");
+            bidDTO.setAmount(150.0);
+
+            when(auctionRepository.findById(auction.getId())).thenReturn(Optional.of(auction));
+
+            BidResult result = auctionService.placeBid(bidDTO);
+
+            assertEquals(BidOutcome.NOT_STARTED, result.getOutcome());
+            assertEquals(0, auction.getBidsCount());
+        }
+
+        @Test
+        @DisplayName("Should return the admission control rejection without loading the auction")
+        void testPlaceBidShedByAdmissionControl() {
+            BidDTO bidDTO = new BidDTO();
+            bidDTO.setAuctionId("auction-1");
+            bidDTO.setUserId("user-1");
+            bidDTO.setAmount(150.0);
+            BidRejection closed = BidRejection.closed("auction-1");
+
+            when(bidAdmissionControl.admit(bidDTO)).thenReturn(Optional.of(closed));
+
+            BidResult result = auctionService.placeBid(bidDTO);
+
+            assertSame(closed, result.getRejection());
+            verify(auctionRepository, never()).findById(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Auction Retrieval Tests")
+    class AuctionRetrievalTests {
+        @Test
+        @DisplayName("Should serve auction from coherent cache without querying Mongo")
+        void testGetAuctionFromCache() {
+            // Arrange
+            Auction auction = createSampleAuction();
+            when(auctionCache.get(auction.getId())).thenReturn(Optional.of(auction));
+
+            // Act
+            Auction result = auctionService.getAuctionById(auction.getId());
+
+            // Assert
+            assertSame(auction, result);
+            verify(auctionRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("Should serve cached summaries locally and fetch misses in one query")
+        void testGetAuctionSummaries() {
+            Auction cached = createSampleAuction();
+            Auction stored = createSampleAuction();
+            when(auctionCache.get(cached.getId())).thenReturn(Optional.of(cached));
+            when(auctionCache.get(stored.getId())).thenReturn(Optional.empty());
+            when(auctionCache.get("missing")).thenReturn(Optional.empty());
+            when(auctionRepository.findSummariesByIdIn(List.of(stored.getId(), "missing"))).thenReturn(List.of(stored));
+            when(auctionArchiveRepository.findSummariesByIdIn(List.of("missing"))).thenReturn(List.of());
+
+            List<AuctionSummaryDTO> result = auctionService.getAuctionSummaries(
+                    List.of(stored.getId(), "missing", cached.getId(), stored.getId()));
+
+            assertEquals(List.of(stored.getId(), cached.getId()), result.stream().map(AuctionSummaryDTO::getId).toList());
+            verify(auctionRepository, never()).findById(any());
+            verify(auctionCache, never()).put(any());
+        }
+
+        @Test
+        @DisplayName("Should refuse batches over the size limit")
+        void testGetAuctionSummariesTooMany() {
+            List<String> ids = IntStream.range(0, 101).mapToObj(i -> "auction-" + i).toList();
+
+            assertThrows(AuctionException.class, () -> auctionService.getAuctionSummaries(ids));
+            verifyNoInteractions(auctionRepository);
+        }
+
+        @Test
+        @DisplayName("Should list auctions by price range from the active index")
+        void testGetAuctionsByPriceRange() {
+            Auction auction = createSampleAuction();
+            when(activeAuctionIndex.pricedBetween(eq(50.0), eq(500.0), eq(AuctionSort.BIDS), eq(20), any()))
+                    .thenReturn(List.of(AuctionListing.of(auction)));
+
+            List<AuctionSummaryDTO> result = auctionService.getAuctionsByPriceRange(50, 500, AuctionSort.BIDS, 20);
+
+            assertEquals(List.of(auction.getId()), result.stream().map(AuctionSummaryDTO::getId).toList());
+            verifyNoInteractions(auctionRepository);
+            assertThrows(AuctionException.class, () -> auctionService.getAuctionsByPriceRange(500, 50, AuctionSort.PRICE, 20));
+            assertThrows(AuctionException.class, () -> auctionService.getAuctionsEndingWithin(60, 1000));
+        }
+
+        @Test
+        @DisplayName("Should load auction from Mongo and cache it on a miss")
+        void testGetAuctionCacheMiss() {
+            // Arrange
+            Auction auction = createSampleAuction();
+            when(auctionCache.get(auction.getId())).thenReturn(Optional.empty());
+            when(auctionRepository.findById(auction.getId())).thenReturn(Optional.of(auction));
+
+            // Act
+            Auction result = auctionService.getAuctionById(auction.getId());
+
+            // Assert
+            assertSame(auction, result);
+            verify(auctionCache).put(auction);
+        }
+    }
+
+    @Nested
+    @DisplayName("Archive Read-Through Tests")
+    class ArchiveReadThroughTests {
+        @Test
+        @DisplayName("Should include archived auctions in completed auctions by winner")
+        void testCompletedAuctionsIncludeArchive() {
+            // Arrange
+            Auction hot = createSampleAuction();
+            hot.setAuctionStatus(AuctionStatus.COMPLETED);
+            Auction archived = createSampleAuction();
+            archived.setAuctionStatus(AuctionStatus.COMPLETED);
+
+            when(auctionRepository.findByAuctionStatusAndWinnerId(AuctionStatus.COMPLETED, "winner-1"))
+                    .thenReturn(List.of(hot));
+            when(auctionArchiveRepository.findByAuctionStatusAndWinnerId(AuctionStatus.COMPLETED, "winner-1"))
+                    .thenReturn(List.of(archived, hot));
+
+            // Act
+            List<CompletedAuctionDTO> completed = auctionService.getCompletedAuctionsByWinnerId("winner-1");
+
+            // Assert
+            assertEquals(2, completed.size());
+        }
+
+        @Test
+        @DisplayName("Should fall back to the archive when an auction is not in the hot collection")
+        void testFindArchivedAuction() {
+            // Arrange
+            Auction archived = createSampleAuction();
+            archived.setAuctionStatus(AuctionStatus.COMPLETED);
+            when(auctionCache.get(archived.getId())).thenReturn(Optional.empty());
+            when(auctionRepository.findById(archived.getId())).thenReturn(Optional.empty());
+            when(auctionArchiveRepository.findById(archived.getId())).thenReturn(Optional.of(archived));
+
             // Act & Assert
-            assertThrows(BidValidationException.class, () -> auctionService.placeBid(bidDTO));
+            assertSame(archived, auctionService.getAuctionById(archived.getId()));
         }
     }
 
@@ -158,16 +432,104 @@ public class AuctionServiceTest {
 
             // Mock repository methods
             when(auctionRepository.findExpiredActiveAuctions(any())).thenReturn(expiredAuctions);
-            when(auctionRepository.saveAll(anyList())).thenReturn(expiredAuctions);
+            when(auctionRepository.closeAll(anyList())).thenReturn(Set.of(expiredAuction1.getId()));
+            when(auctionCloseExecutor.execute(anyList(), any())).thenAnswer(invocation -> {
+                Function<List<Auction>, Set<String>> closePartition = invocation.getArgument(1);
+                return closePartition.apply(invocation.getArgument(0)).size();
+            });
 
             // Act
             auctionService.closeExpiredAuctions();
 
             // Assert
-            verify(auctionRepository).saveAll(expiredAuctions);
+            verify(auctionRepository).closeAll(expiredAuctions);
+            verify(auctionCache).put(expiredAuction1);
             assertEquals(AuctionStatus.COMPLETED, expiredAuction1.getAuctionStatus());
             assertEquals("winner-1", expiredAuction1.getWinnerId());
         }
+
+        @Test
+        @DisplayName("Should postpone closing auctions with journaled bids not yet in Mongo")
+        void testCloseExpiredAuctionsWaitsForJournal() {
+            // Arrange
+            Auction pending = createSampleAuction();
+            Auction settled = createSampleAuction();
+            BidJournal journal = mock(BidJournal.class);
+            when(bidJournal.getIfAvailable()).thenReturn(journal);
+            when(journal.lockFor(any())).thenReturn(new ReentrantLock());
+            when(journal.pendingPrice(pending.getId())).thenReturn(OptionalDouble.of(300.0));
+            when(journal.pendingPrice(settled.getId())).thenReturn(OptionalDouble.empty());
+            when(auctionRepository.findExpiredActiveAuctions(any())).thenReturn(List.of(pending, settled));
+            when(auctionRepository.closeAll(anyList())).thenReturn(Set.of(settled.getId()));
+            when(auctionCloseExecutor.execute(anyList(), any())).thenAnswer(invocation -> {
+                Function<List<Auction>, Set<String>> closePartition = invocation.getArgument(1);
+                return closePartition.apply(invocation.getArgument(0)).size();
+            });
+
+            // Act
+            auctionService.closeExpiredAuctions();
+
+            // Assert
+            verify(auctionRepository).closeAll(List.of(settled));
+            assertEquals(AuctionStatus.ACTIVE, pending.getAuctionStatus());
+            assertEquals(AuctionStatus.COMPLETED, settled.getAuctionStatus());
+        }
+
+        @Test
+        @DisplayName("Should publish closed auctions to cache subscribers")
+        void testClosedAuctionsReachSubscribers() {
+            // Arrange
+            Auction expired = createSampleAuction();
+            expired.setVersion(3L);
+            expired.setEndTime(LocalDateTime.now().minusMinutes(1));
+            AuctionChangeSubscriber subscriber = mock(AuctionChangeSubscriber.class);
+            StaticListableBeanFactory subscribers = new StaticListableBeanFactory();
+            subscribers.addBean("subscriber", subscriber);
+            AuctionCache cache = new AuctionCache(subscribers.getBeanProvider(AuctionChangeSubscriber.class),
+                    new LiveAuctionStore(new SimpleMeterRegistry(), false, 0), clock, 0);
+            cache.put(expired.copy());
+            cache.markCoherent();
+            AuctionServiceImpl service = new AuctionServiceImpl(auctionRepository, auctionArchiveRepository, cache,
+                    hotAuctionTracker, bidAdmissionControl, auctionCloseExecutor, activeAuctionIndex, clock,
+                    observationRegistry, bidJournal);
+
+            when(auctionRepository.findExpiredActiveAuctions(any())).thenReturn(List.of(expired));
+            when(auctionRepository.closeAll(anyList())).thenReturn(Set.of(expired.getId()));
+            when(auctionCloseExecutor.execute(anyList(), any())).thenAnswer(invocation -> {
+                Function<List<Auction>, Set<String>> closePartition = invocation.getArgument(1);
+                return closePartition.apply(invocation.getArgument(0)).size();
+            });
+
+            // Act
+            service.closeExpiredAuctions();
+
+            // Assert
+            assertEquals(AuctionStatus.COMPLETED, cache.get(expired.getId()).orElseThrow().getAuctionStatus());
+            assertEquals(4L, cache.get(expired.getId()).orElseThrow().getVersion());
+            verify(subscriber).onAuctionChanged(argThat(auction -> AuctionStatus.COMPLETED.equals(auction.getAuctionStatus())));
+        }
+
+        @Test
+        @DisplayName("Should evict only the auctions a close did not reach")
+        void testCloseExpiredAuctionsRace() {
+            Auction expiredAuction1 = createSampleAuction();
+            Auction expiredAuction2 = createSampleAuction();
+            List<Auction> expiredAuctions = List.of(expiredAuction1, expiredAuction2);
+
+            when(auctionRepository.findExpiredActiveAuctions(any())).thenReturn(expiredAuctions);
+            when(auctionRepository.closeAll(anyList())).thenReturn(Set.of(expiredAuction1.getId()));
+            when(auctionCloseExecutor.execute(anyList(), any())).thenAnswer(invocation -> {
+                Function<List<Auction>, Set<String>> closePartition = invocation.getArgument(1);
+                return closePartition.apply(invocation.getArgument(0)).size();
+            });
+
+            auctionService.closeExpiredAuctions();
+
+            verify(auctionCache).put(expiredAuction1);
+            verify(auctionCache).evict(expiredAuction2.getId());
+            verify(auctionCache, never()).evict(expiredAuction1.getId());
+            assertEquals(AuctionEventType.AUCTION_CLOSED, expiredAuction1.getPendingEvents().get(0).getType());
+        }
     }
 
     @Nested
@@ -178,17 +540,38 @@ public class AuctionServiceTest {
         void testCancelAuction() {
             // Arrange
             Auction auction = createSampleAuction();
+            Auction cancelled = createSampleAuction();
+            cancelled.setId(auction.getId());
+            cancelled.setAuctionStatus(AuctionStatus.CANCELLED);
 
             // Mock repository methods
             when(auctionRepository.findById(auction.getId())).thenReturn(Optional.of(auction));
-            when(auctionRepository.save(any(Auction.class))).thenReturn(auction);
+            when(auctionRepository.updateIf(eq(auction.getId()), any(Criteria.class), any(Update.class)))
+                    .thenReturn(Optional.of(cancelled));
 
             // Act
             auctionService.cancelAuction(auction.getId());
 
             // Assert
-            assertEquals(AuctionStatus.CANCELLED, auction.getAuctionStatus());
-            verify(auctionRepository).save(auction);
+            ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+            verify(auctionRepository).updateIf(eq(auction.getId()), any(Criteria.class), update.capture());
+            assertEquals(AuctionStatus.CANCELLED, update.getValue().getUpdateObject().get("$set", Document.class).get("auctionStatus"));
+            assertFalse(update.getValue().modifies("bids"));
+            verify(auctionRepository, never()).save(any(Auction.class));
+            verify(auctionCache).put(cancelled);
+        }
+
+        @Test
+        @DisplayName("Should reject cancelling an auction that settled concurrently")
+        void testCancelAuctionRace() {
+            Auction auction = createSampleAuction();
+
+            when(auctionRepository.findById(auction.getId())).thenReturn(Optional.of(auction));
+            when(auctionRepository.updateIf(eq(auction.getId()), any(Criteria.class), any(Update.class)))
+                    .thenReturn(Optional.empty());
+
+            assertThrows(AuctionException.class, () -> auctionService.cancelAuction(auction.getId()));
+            verify(auctionCache, never()).put(any());
         }
 
         @Test
@@ -201,14 +584,196 @@ public class AuctionServiceTest {
 
             // Mock repository methods
             when(auctionRepository.findById(auction.getId())).thenReturn(Optional.of(auction));
-            when(auctionRepository.save(any(Auction.class))).thenReturn(auction);
+            when(auctionRepository.updateIf(eq(auction.getId()), any(Criteria.class), any(Update.class)))
+                    .thenReturn(Optional.of(auction));
 
             // Act
             auctionService.extendAuctionTime(auction.getId(), extensionMinutes);
 
             // Assert
-            assertEquals(originalEndTime.plusMinutes(extensionMinutes), auction.getEndTime());
-            verify(auctionRepository).save(auction);
+            ArgumentCaptor<Criteria> precondition = ArgumentCaptor.forClass(Criteria.class);
+            ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+            verify(auctionRepository).updateIf(eq(auction.getId()), precondition.capture(), update.capture());
+            assertEquals(originalEndTime, precondition.getValue().getCriteriaObject().get("endTime"));
+            assertEquals(originalEndTime.plusMinutes(extensionMinutes),
+                    update.getValue().getUpdateObject().get("$set", Document.class).get("endTime"));
+            verify(auctionRepository, never()).save(any(Auction.class));
+        }
+
+        @Test
+        @DisplayName("Should retry an extension that raced with another extension")
+        void testExtendAuctionTimeRetry() {
+            Auction auction = createSampleAuction();
+            auction.setVersion(3L);
+
+            when(auctionRepository.findById(auction.getId())).thenReturn(Optional.of(auction));
+            when(auctionRepository.updateIf(eq(auction.getId()), any(Criteria.class), any(Update.class)))
+                    .thenReturn(Optional.empty())
+                    .thenReturn(Optional.of(auction));
+
+            auctionService.extendAuctionTime(auction.getId(), 10);
+
+            verify(auctionRepository, times(2)).findById(auction.getId());
+            verify(auctionRepository, times(2)).updateIf(eq(auction.getId()), any(Criteria.class), any(Update.class));
+        }
+
+        @Test
+        @DisplayName("Should retry a bid whose save lost an optimistic concurrency race")
+        void testPlaceBidRetriesOnVersionConflict() {
+            Auction auction = createSampleAuction();
+            auction.setVersion(1L);
+            BidDTO bidDTO = new BidDTO();
+            bidDTO.setAuctionId(auction.getId());
+            bidDTO.setUserId("user-1");
+            bidDTO.setAmount(150.0);
+
+            when(hotAuctionTracker.sequencerFor(auction.getId())).thenReturn(Optional.empty());
+            when(auctionRepository.findById(auction.getId())).thenAnswer(invocation -> {
+                Auction fresh = createSampleAuction();
+                fresh.setId(auction.getId());
+                fresh.setVersion(2L);
+                return Optional.of(fresh);
+            });
+            when(auctionRepository.save(any(Auction.class)))
+                    .thenThrow(new OptimisticLockingFailureException("stale"))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+
+            Auction result = auctionService.placeBid(bidDTO).getAuction();
+
+            assertEquals(1, result.getBidsCount());
+            verify(auctionRepository, times(2)).save(any(Auction.class));
+        }
+
+        @Test
+        @DisplayName("Should read a hot auction from its pinned cache entry and fall back to Mongo when stale")
+        void testPlaceBidOnHotAuction() {
+            Auction pinned = createSampleAuction();
+            pinned.setVersion(1L);
+            BidDTO bidDTO = new BidDTO();
+            bidDTO.setAuctionId(pinned.getId());
+            bidDTO.setUserId("user-1");
+            bidDTO.setAmount(150.0);
+
+            when(hotAuctionTracker.sequencerFor(pinned.getId())).thenReturn(Optional.of(new ReentrantLock()));
+            when(auctionCache.get(pinned.getId())).thenReturn(Optional.of(pinned), Optional.empty());
+            when(auctionRepository.findById(pinned.getId())).thenAnswer(invocation -> {
+                Auction fresh = createSampleAuction();
+                fresh.setId(pinned.getId());
+                fresh.setVersion(2L);
+                return Optional.of(fresh);
+            });
+            when(auctionRepository.save(any(Auction.class)))
+                    .thenThrow(new OptimisticLockingFailureException("stale"))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+
+            Auction result = auctionService.placeBid(bidDTO).getAuction();
+
+            assertEquals(2L, result.getVersion());
+            assertEquals(0, pinned.getBidsCount());
+            verify(auctionCache).evict(pinned.getId());
+            verify(auctionRepository, times(1)).findById(pinned.getId());
+        }
+
+        @Test
+        @DisplayName("Should acknowledge a journaled bid without a Mongo write")
+        void testPlaceBidJournaled() {
+            Auction auction = createSampleAuction();
+            BidJournal journal = mock(BidJournal.class);
+            BidDTO bidDTO = new BidDTO();
+            bidDTO.setAuctionId(auction.getId());
+            bidDTO.setUserId("user-1");
+            bidDTO.setAmount(150.0);
+
+            when(bidJournal.getIfAvailable()).thenReturn(journal);
+            when(journal.lockFor(auction.getId())).thenReturn(new ReentrantLock());
+            when(journal.pendingPrice(auction.getId())).thenReturn(OptionalDouble.of(140.0));
+            when(journal.append(any())).thenReturn(CompletableFuture.completedFuture(null));
+            when(auctionCache.get(auction.getId())).thenReturn(Optional.of(auction));
+
+            Auction result = auctionService.placeBid(bidDTO).getAuction();
+
+            assertEquals(150.0, result.getCurrentPrice());
+            assertEquals(0, auction.getBidsCount());
+            verify(journal).append(argThat(bid -> bid.amount() == 150.0 && bid.auctionId().equals(auction.getId())));
+            verify(auctionRepository, never()).save(any(Auction.class));
+        }
+
+        @Test
+        @DisplayName("Should answer 503 when the journal cannot make a bid durable")
+        void testPlaceBidJournalFailed() {
+            Auction auction = createSampleAuction();
+            BidJournal journal = mock(BidJournal.class);
+            BidDTO bidDTO = new BidDTO();
+            bidDTO.setAuctionId(auction.getId());
+            bidDTO.setUserId("user-1");
+            bidDTO.setAmount(150.0);
+
+            when(bidJournal.getIfAvailable()).thenReturn(journal);
+            when(journal.lockFor(auction.getId())).thenReturn(new ReentrantLock());
+            when(journal.pendingPrice(auction.getId())).thenReturn(OptionalDouble.empty());
+            when(journal.append(any())).thenReturn(CompletableFuture.failedFuture(new UncheckedIOException(new IOException("disk full"))));
+            when(auctionCache.get(auction.getId())).thenReturn(Optional.of(auction));
+
+            BidJournalUnavailableException thrown = assertThrows(BidJournalUnavailableException.class,
+                    () -> auctionService.placeBid(bidDTO));
+
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, thrown.getStatus());
+        }
+
+        @Test
+        @DisplayName("Should reject a journaled bid below a bid still waiting in the journal")
+        void testPlaceBidJournaledBelowPending() {
+            Auction auction = createSampleAuction();
+            BidJournal journal = mock(BidJournal.class);
+            BidDTO bidDTO = new BidDTO();
+            bidDTO.setAuctionId(auction.getId());
+            bidDTO.setUserId("user-1");
+            bidDTO.setAmount(150.0);
+
+            when(bidJournal.getIfAvailable()).thenReturn(journal);
+            when(journal.lockFor(auction.getId())).thenReturn(new ReentrantLock());
+            when(journal.pendingPrice(auction.getId())).thenReturn(OptionalDouble.of(180.0));
+            when(auctionCache.get(auction.getId())).thenReturn(Optional.of(auction));
+
+            BidResult result = auctionService.placeBid(bidDTO);
+
+            assertEquals(BidOutcome.OUTBID, result.getOutcome());
+            assertEquals(180.0, result.getRejection().getMinimumNextBid());
+            verify(journal, never()).append(any());
+        }
+
+        @Test
+        @DisplayName("Should skip a replayed journal entry that already reached Mongo")
+        void testApplyJournaledBidIdempotent() {
+            Auction auction = createSampleAuction();
+            auction.setVersion(1L);
+            Bid existing = new Bid();
+            existing.setId("bid-1");
+            existing.setAmount(150.0);
+            auction.addBid(existing);
+
+            when(auctionRepository.findById(auction.getId())).thenReturn(Optional.of(auction));
+
+            auctionService.applyJournaledBid(new JournaledBid("bid-1", auction.getId(), "user-1", 150.0, LocalDateTime.now()));
+
+            assertEquals(1, auction.getBidsCount());
+            verify(auctionRepository, never()).save(any(Auction.class));
+        }
+
+        @Test
+        @DisplayName("Should report a conflict once retries are exhausted")
+        void testPlaceBidConflictExhausted() {
+            Auction auction = createSampleAuction();
+            BidDTO bidDTO = new BidDTO();
+            bidDTO.setAuctionId(auction.getId());
+            bidDTO.setUserId("user-1");
+            bidDTO.setAmount(150.0);
+
+            when(hotAuctionTracker.sequencerFor(auction.getId())).thenReturn(Optional.empty());
+            when(auctionRepository.findById(auction.getId())).thenAnswer(invocation -> Optional.of(createSampleAuction()));
+            when(auctionRepository.save(any(Auction.class))).thenThrow(new OptimisticLockingFailureException("stale"));
+
+            assertThrows(AuctionConflictException.class, () -> auctionService.placeBid(bidDTO));
         }
     }
 }
\ No newline at end of file
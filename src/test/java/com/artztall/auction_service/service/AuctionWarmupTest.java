@@ -0,0 +1,86 @@
+package com.artztall.auction_service.service;
+
+import com.artztall.auction_service.cache.AuctionCache;
+import com.artztall.auction_service.model.Auction;
+import com.netflix.appinfo.ApplicationInfoManager;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Clock;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AuctionWarmupTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private AuctionCache auctionCache;
+
+    @Mock
+    private AuctionServiceImpl auctionService;
+
+    @Mock
+    private ObjectProvider<ApplicationInfoManager> applicationInfoManager;
+
+    private AuctionWarmup createWarmup(boolean enabled) {
+        return new AuctionWarmup(mongoTemplate, auctionCache, auctionService,
+                Jackson2ObjectMapperBuilder.json().build(), applicationInfoManager, Clock.systemDefaultZone(),
+                enabled, 2, 100, 5000);
+    }
+
+    @Test
+    @DisplayName("Should report out of service until warm-up has run")
+    void testNotReadyBeforeWarmup() {
+        AuctionWarmup warmup = createWarmup(true);
+
+        assertEquals(Status.OUT_OF_SERVICE, warmup.health().getStatus());
+    }
+
+    @Test
+    @DisplayName("Should become ready immediately when warm-up is disabled")
+    void testDisabledWarmup() {
+        AuctionWarmup warmup = createWarmup(false);
+
+        warmup.start();
+
+        assertTrue(warmup.isComplete());
+        assertEquals(Status.UP, warmup.health().getStatus());
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    @DisplayName("Should degrade to a cold start when Mongo is unreachable")
+    void testWarmupSurvivesMongoFailure() throws Exception {
+        when(mongoTemplate.executeCommand(any(Document.class)))
+                .thenThrow(new DataAccessResourceFailureException("unreachable"));
+        when(mongoTemplate.stream(any(), eq(Auction.class)))
+                .thenThrow(new DataAccessResourceFailureException("unreachable"));
+        AuctionWarmup warmup = createWarmup(true);
+
+        warmup.start();
+        for (int i = 0; i < 100 && !warmup.isComplete(); i++) {
+            Thread.sleep(50);
+        }
+
+        assertTrue(warmup.isComplete());
+        assertEquals(Status.UP, warmup.health().getStatus());
+        assertTrue(warmup.health().getDetails().get("warmup").toString().contains(", 100 bid iterations"),
+                () -> warmup.health().getDetails().toString());
+        verify(auctionService, times(100)).applyBidTo(any(), any());
+    }
+}
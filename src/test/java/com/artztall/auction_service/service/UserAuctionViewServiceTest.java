@@ -0,0 +1,169 @@
+package com.artztall.auction_service.service;
+
+import com.artztall.auction_service.event.AuctionEvent;
+import com.artztall.auction_service.event.AuctionEventType;
+import com.artztall.auction_service.model.UserAuctionStatus;
+import com.artztall.auction_service.model.UserAuctionView;
+import com.artztall.auction_service.repository.UserAuctionViewRepository;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserAuctionViewServiceTest {
+
+    @Mock
+    private UserAuctionViewRepository userAuctionViewRepository;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Spy
+    private Clock clock = Clock.systemDefaultZone();
+
+    @InjectMocks
+    private UserAuctionViewService userAuctionViewService;
+
+    private AuctionEvent createEvent(AuctionEventType type, String userId, double amount) {
+        AuctionEvent event = new AuctionEvent();
+        event.setType(type);
+        event.setAuctionId("auction-1");
+        event.setTitle("Test Artwork");
+        event.setUserId(userId);
+        event.setAmount(amount);
+        event.setOccurredAt(LocalDateTime.of(2024, 1, 2, 10, 0));
+        return event;
+    }
+
+    private UserAuctionView createView(String userId, double myHighestBid) {
+        UserAuctionView view = new UserAuctionView();
+        view.setId(UserAuctionView.idFor(userId, "auction-1"));
+        view.setUserId(userId);
+        view.setAuctionId("auction-1");
+        view.setMyHighestBid(myHighestBid);
+        return view;
+    }
+
+    @Test
+    @DisplayName("Should insert a late bidder's view as outbid at the rival's price")
+    void testOutOfOrderBid() {
+        // Arrange
+        when(mongoTemplate.findOne(any(Query.class), eq(UserAuctionView.class))).thenReturn(createView("user-2", 500.0));
+
+        // Act
+        userAuctionViewService.onEvent(createEvent(AuctionEventType.BID_PLACED, "user-1", 300.0));
+
+        // Assert
+        ArgumentCaptor<Update> upsert = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).upsert(any(Query.class), upsert.capture(), eq(UserAuctionView.class));
+        Document update = upsert.getValue().getUpdateObject();
+        assertEquals(UserAuctionStatus.OUTBID, update.get("$setOnInsert", Document.class).get("status"));
+        assertEquals(500.0, update.get("$max", Document.class).get("currentPrice"));
+        assertEquals(300.0, update.get("$max", Document.class).get("myHighestBid"));
+
+        ArgumentCaptor<Query> promotion = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).updateFirst(promotion.capture(), any(Update.class), eq(UserAuctionView.class));
+        assertEquals(300.0, promotion.getValue().getQueryObject().get("currentPrice", Document.class).get("$lte"));
+    }
+
+    @Test
+    @DisplayName("Should demote a leading rival matched by an equal bid")
+    void testEqualBidDemotesRival() {
+        // Arrange
+        when(mongoTemplate.findOne(any(Query.class), eq(UserAuctionView.class))).thenReturn(createView("user-2", 300.0));
+
+        // Act
+        userAuctionViewService.onEvent(createEvent(AuctionEventType.BID_PLACED, "user-1", 300.0));
+
+        // Assert
+        ArgumentCaptor<Query> promotion = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).updateFirst(promotion.capture(), any(Update.class), eq(UserAuctionView.class));
+        assertEquals(300.0, promotion.getValue().getQueryObject().get("currentPrice", Document.class).get("$lte"));
+
+        ArgumentCaptor<Query> demotions = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(2)).updateMulti(demotions.capture(), updates.capture(), eq(UserAuctionView.class));
+        Document demotion = demotions.getAllValues().get(0).getQueryObject();
+        assertEquals(UserAuctionStatus.LEADING, demotion.get("status"));
+        assertEquals(300.0, demotion.get("myHighestBid", Document.class).get("$lte"));
+        assertEquals(UserAuctionStatus.OUTBID, updates.getAllValues().get(0).getUpdateObject().get("$set", Document.class).get("status"));
+    }
+
+    @Test
+    @DisplayName("Should price a first bid on its own amount when no rival has bid")
+    void testFirstBid() {
+        // Act
+        userAuctionViewService.onEvent(createEvent(AuctionEventType.BID_PLACED, "user-1", 300.0));
+
+        // Assert
+        ArgumentCaptor<Update> upsert = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).upsert(any(Query.class), upsert.capture(), eq(UserAuctionView.class));
+        assertEquals(300.0, upsert.getValue().getUpdateObject().get("$max", Document.class).get("currentPrice"));
+    }
+
+    @Test
+    @DisplayName("Should mark the winner as won and everyone else as lost")
+    void testCloseWithWinner() {
+        // Act
+        userAuctionViewService.onEvent(createEvent(AuctionEventType.AUCTION_CLOSED, "user-1", 500.0));
+
+        // Assert
+        ArgumentCaptor<Query> losers = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> lost = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateMulti(losers.capture(), lost.capture(), eq(UserAuctionView.class));
+        assertEquals("user-1", losers.getValue().getQueryObject().get("userId", Document.class).get("$ne"));
+        assertEquals(UserAuctionStatus.LOST, lost.getValue().getUpdateObject().get("$set", Document.class).get("status"));
+
+        ArgumentCaptor<Query> winner = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> won = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(winner.capture(), won.capture(), eq(UserAuctionView.class));
+        assertEquals("user-1:auction-1", winner.getValue().getQueryObject().get("_id"));
+        assertEquals(UserAuctionStatus.WON, won.getValue().getUpdateObject().get("$set", Document.class).get("status"));
+        assertEquals(500.0, won.getValue().getUpdateObject().get("$set", Document.class).get("finalPrice"));
+    }
+
+    @Test
+    @DisplayName("Should mark every bidder as lost when an auction closes without a winner")
+    void testCloseWithoutWinner() {
+        // Act
+        userAuctionViewService.onEvent(createEvent(AuctionEventType.AUCTION_CLOSED, null, 100.0));
+
+        // Assert
+        ArgumentCaptor<Update> lost = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateMulti(any(Query.class), lost.capture(), eq(UserAuctionView.class));
+        assertEquals(UserAuctionStatus.LOST, lost.getValue().getUpdateObject().get("$set", Document.class).get("status"));
+        verify(mongoTemplate, never()).updateFirst(any(Query.class), any(Update.class), eq(UserAuctionView.class));
+    }
+
+    @Test
+    @DisplayName("Should mark every view of a cancelled auction as cancelled")
+    void testCancel() {
+        // Act
+        userAuctionViewService.onEvent(createEvent(AuctionEventType.AUCTION_CANCELLED, null, 100.0));
+
+        // Assert
+        ArgumentCaptor<Query> views = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> cancelled = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateMulti(views.capture(), cancelled.capture(), eq(UserAuctionView.class));
+        assertEquals("auction-1", views.getValue().getQueryObject().get("auctionId"));
+        assertEquals(UserAuctionStatus.CANCELLED,
+                cancelled.getValue().getUpdateObject().get("$set", Document.class).get("status"));
+    }
+}
@@ -0,0 +1,98 @@
+package com.artztall.auction_service.shedular;
+
+import com.artztall.auction_service.model.Auction;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AuctionCloseExecutorTest {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2024-03-05T12:00:00Z"), ZoneOffset.UTC);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AuctionCloseExecutor closeExecutor = new AuctionCloseExecutor(meterRegistry, clock, 3, 10, 100);
+
+    @AfterEach
+    void tearDown() {
+        closeExecutor.shutdown();
+    }
+
+    private List<Auction> expiredAuctions(int count) {
+        List<Auction> auctions = new ArrayList<>();
+        IntStream.range(0, count).forEach(i -> {
+            Auction auction = new Auction();
+            auction.setId("auction-" + i);
+            auction.setEndTime(LocalDateTime.now(clock).minusSeconds(30));
+            auctions.add(auction);
+        });
+        return auctions;
+    }
+
+    private Set<String> ids(List<Auction> auctions) {
+        return auctions.stream().map(Auction::getId).collect(Collectors.toSet());
+    }
+
+    @Test
+    @DisplayName("Should close every partition with bounded concurrency")
+    void testPartitionedClose() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicInteger partitions = new AtomicInteger();
+
+        int closed = closeExecutor.execute(expiredAuctions(95), partition -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            partitions.incrementAndGet();
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            return ids(partition);
+        });
+
+        assertEquals(95, closed);
+        assertEquals(10, partitions.get());
+        assertTrue(maxRunning.get() <= 3);
+        assertEquals(95, meterRegistry.get("auction.close.lag").timer().count());
+        assertEquals(30.0, meterRegistry.get("auction.close.lag").timer().mean(TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should keep closing other partitions when one fails")
+    void testFailedPartition() {
+        int closed = closeExecutor.execute(expiredAuctions(30), partition -> {
+            if (partition.get(0).getId().equals("auction-10")) {
+                throw new IllegalStateException("bulk write failed");
+            }
+            return ids(partition);
+        });
+
+        assertEquals(20, closed);
+        assertEquals(1.0, meterRegistry.get("auction.close.partition.failures").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should record close lag only for auctions actually closed")
+    void testLagOnlyForClosed() {
+        int closed = closeExecutor.execute(expiredAuctions(10), partition -> Set.of("auction-3", "auction-7"));
+
+        assertEquals(2, closed);
+        assertEquals(2, meterRegistry.get("auction.close.lag").timer().count());
+        assertEquals(2.0, meterRegistry.get("auction.close.closed").counter().count());
+    }
+}
@@ -0,0 +1,113 @@
+package com.artztall.auction_service.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.transport.ReceiverContext;
+import io.micrometer.observation.transport.SenderContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TracingObservationHandlerTest {
+    private static final String CALLER_TRACE = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String CALLER_SPAN = "00f067aa0ba902b7";
+
+    @Mock
+    private SpanExporter exporter;
+
+    private ObservationRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(
+                new TracingObservationHandler(exporter, Clock.systemUTC(), 1.0, "auction-service"));
+    }
+
+    private List<RecordedSpan> exportedSpans(int count) {
+        ArgumentCaptor<RecordedSpan> spans = ArgumentCaptor.forClass(RecordedSpan.class);
+        verify(exporter, times(count)).export(spans.capture());
+        return spans.getAllValues();
+    }
+
+    @Test
+    @DisplayName("Should continue the caller's trace and parent nested observations")
+    void testContinuesIncomingTrace() {
+        ReceiverContext<Map<String, String>> request = new ReceiverContext<>(Map::get);
+        request.setCarrier(Map.of(TraceContext.HEADER, "00-" + CALLER_TRACE + "-" + CALLER_SPAN + "-01"));
+
+        Observation.createNotStarted("http.server.requests", () -> request, registry).observe(() ->
+                Observation.createNotStarted("auction.bid", registry)
+                        .contextualName("place bid")
+                        .highCardinalityKeyValue("auction.id", "auction-1")
+                        .lowCardinalityKeyValue("bid.outcome", "ACCEPTED")
+                        .observe(() -> {
+                        }));
+
+        List<RecordedSpan> spans = exportedSpans(2);
+        RecordedSpan bid = spans.get(0);
+        RecordedSpan server = spans.get(1);
+        assertEquals(CALLER_TRACE, server.traceId());
+        assertEquals(CALLER_SPAN, server.parentId());
+        assertEquals("SERVER", server.kind());
+        assertEquals(CALLER_TRACE, bid.traceId());
+        assertEquals(server.id(), bid.parentId());
+        assertEquals("place bid", bid.name());
+        assertEquals("auction-1", bid.tags().get("auction.id"));
+        assertEquals("ACCEPTED", bid.tags().get("bid.outcome"));
+    }
+
+    @Test
+    @DisplayName("Should propagate the current span to outgoing calls")
+    void testInjectsTraceparent() {
+        Map<String, String> headers = new HashMap<>();
+        SenderContext<Map<String, String>> call = new SenderContext<>(Map::put);
+        call.setCarrier(headers);
+
+        Observation.createNotStarted("auction.bid", registry).observe(() ->
+                Observation.createNotStarted("http.client.requests", () -> call, registry).observe(() -> {
+                }));
+
+        List<RecordedSpan> spans = exportedSpans(2);
+        RecordedSpan client = spans.get(0);
+        assertEquals("CLIENT", client.kind());
+        assertEquals(new TraceContext(client.traceId(), client.id(), true),
+                TraceContext.parse(headers.get(TraceContext.HEADER)));
+        assertEquals(spans.get(1).id(), client.parentId());
+    }
+
+    @Test
+    @DisplayName("Should not export a trace the caller did not sample")
+    void testHonoursCallerSampling() {
+        ReceiverContext<Map<String, String>> request = new ReceiverContext<>(Map::get);
+        request.setCarrier(Map.of(TraceContext.HEADER, "00-" + CALLER_TRACE + "-" + CALLER_SPAN + "-00"));
+
+        Observation.createNotStarted("http.server.requests", () -> request, registry).observe(() ->
+                Observation.createNotStarted("auction.get", registry).observe(() -> {
+                }));
+
+        verifyNoInteractions(exporter);
+    }
+
+    @Test
+    @DisplayName("Should ignore a malformed traceparent")
+    void testParsesOnlyValidTraceparent() {
+        assertNull(TraceContext.parse("00-" + "0".repeat(32) + "-" + CALLER_SPAN + "-01"));
+        assertNull(TraceContext.parse("garbage"));
+        assertNull(TraceContext.parse(null));
+        assertTrue(TraceContext.parse("00-" + CALLER_TRACE + "-" + CALLER_SPAN + "-03").sampled());
+    }
+}
@@ -0,0 +1,92 @@
+package com.artztall.auction_service.traffic;
+
+import com.artztall.auction_service.cache.LiveAuctionStore;
+import com.artztall.auction_service.dto.BidDTO;
+import com.artztall.auction_service.dto.BidRejection;
+import com.artztall.auction_service.exception.AuctionException;
+import com.artztall.auction_service.exception.BidRateLimitException;
+import com.artztall.auction_service.model.Auction;
+import com.artztall.auction_service.model.AuctionStatus;
+import com.artztall.auction_service.model.BidOutcome;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BidAdmissionControlTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BidAdmissionControl admissionControl;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        admissionControl = new BidAdmissionControl(meterRegistry, new LiveAuctionStore(meterRegistry, false, 0), 2, 0.001, 100, 100);
+    }
+
+    private BidDTO createBid(String userId, double amount) {
+        BidDTO bidDTO = new BidDTO();
+        bidDTO.setAuctionId("auction-1");
+        bidDTO.setUserId(userId);
+        bidDTO.setAmount(amount);
+        return bidDTO;
+    }
+
+    private Auction createAuction(double currentPrice, AuctionStatus status) {
+        Auction auction = new Auction();
+        auction.setId("auction-1");
+        auction.setCurrentPrice(currentPrice);
+        auction.setAuctionStatus(status);
+        return auction;
+    }
+
+    @Test
+    @DisplayName("Should reject bids once the user's burst is exhausted")
+    void testUserRateLimit() {
+        admissionControl.admit(createBid("user-1", 10));
+        admissionControl.admit(createBid("user-1", 20));
+
+        assertThrows(BidRateLimitException.class, () -> admissionControl.admit(createBid("user-1", 30)));
+        assertDoesNotThrow(() -> admissionControl.admit(createBid("user-2", 30)));
+        assertEquals(1.0, meterRegistry.get("auction.bid.rejected").tag("reason", "user_rate").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should shed bids below the highest observed price")
+    void testBelowPriceRejection() {
+        admissionControl.onAuctionChanged(createAuction(500, AuctionStatus.ACTIVE));
+        admissionControl.onAuctionChanged(createAuction(400, AuctionStatus.ACTIVE));
+
+        BidRejection rejection = admissionControl.admit(createBid("user-1", 450)).orElseThrow();
+        assertEquals(BidOutcome.OUTBID, rejection.getOutcome());
+        assertEquals(500.0, rejection.getMinimumNextBid());
+        assertSame(rejection, admissionControl.admit(createBid("user-2", 300)).orElseThrow());
+        assertTrue(admissionControl.admit(createBid("user-1", 500)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should shed bids on auctions seen to be settled")
+    void testSettledAuctionRejection() {
+        admissionControl.onAuctionChanged(createAuction(500, AuctionStatus.COMPLETED));
+
+        assertEquals(BidOutcome.CLOSED, admissionControl.admit(createBid("user-1", 900)).orElseThrow().getOutcome());
+    }
+
+    @Test
+    @DisplayName("Should reject a bid without a user ID")
+    void testMissingUserId() {
+        assertThrows(AuctionException.class, () -> admissionControl.admit(createBid(null, 10)));
+        assertThrows(AuctionException.class, () -> admissionControl.admit(createBid(" ", 10)));
+    }
+
+    @Test
+    @DisplayName("Should reject a bid without an auction ID")
+    void testMissingAuctionId() {
+        BidDTO bidDTO = createBid("user-1", 10);
+        bidDTO.setAuctionId(null);
+
+        assertThrows(AuctionException.class, () -> admissionControl.admit(bidDTO));
+    }
+}
@@ -0,0 +1,106 @@
+package com.artztall.auction_service.traffic;
+
+import com.artztall.auction_service.cache.AuctionCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.util.concurrent.locks.Lock;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class HotAuctionTrackerTest {
+
+    @Mock
+    private AuctionCache auctionCache;
+
+    private HotAuctionTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new HotAuctionTracker(auctionCache, new SimpleMeterRegistry(), Clock.systemDefaultZone(), 4, 3, 10, 5, 256, 4);
+    }
+
+    @Test
+    @DisplayName("Should promote an auction once its bid rate crosses the threshold")
+    void testPromotion() {
+        // Act
+        for (int i = 0; i < 10; i++) {
+            tracker.recordBid("hot-auction");
+        }
+        tracker.recordBid("quiet-auction");
+
+        // Assert
+        assertTrue(tracker.isHot("hot-auction"));
+        assertFalse(tracker.isHot("quiet-auction"));
+        assertTrue(tracker.sequencerFor("hot-auction").isPresent());
+        assertTrue(tracker.sequencerFor("quiet-auction").isEmpty());
+        verify(auctionCache).pin("hot-auction");
+    }
+
+    @Test
+    @DisplayName("Should demote an auction after its bids leave the window")
+    void testDemotion() {
+        // Arrange
+        for (int i = 0; i < 10; i++) {
+            tracker.recordBid("hot-auction");
+        }
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            tracker.rotate();
+        }
+
+        // Assert
+        assertFalse(tracker.isHot("hot-auction"));
+        assertTrue(tracker.snapshot().isEmpty());
+        verify(auctionCache).unpin("hot-auction");
+    }
+
+    @Test
+    @DisplayName("Should keep sequencing on the same lock across a demotion")
+    void testSequencerSurvivesDemotion() {
+        // Arrange
+        for (int i = 0; i < 10; i++) {
+            tracker.recordBid("hot-auction");
+        }
+        Lock held = tracker.sequencerFor("hot-auction").orElseThrow();
+        held.lock();
+        try {
+            // Act
+            for (int i = 0; i < 3; i++) {
+                tracker.rotate();
+            }
+            for (int i = 0; i < 10; i++) {
+                tracker.recordBid("hot-auction");
+            }
+
+            // Assert
+            assertSame(held, tracker.sequencerFor("hot-auction").orElseThrow());
+        } finally {
+            held.unlock();
+        }
+    }
+
+    @Test
+    @DisplayName("Count-min sketch should never undercount")
+    void testSketchNeverUndercounts() {
+        // Arrange
+        CountMinSketch sketch = new CountMinSketch(64, 4);
+        for (int i = 0; i < 500; i++) {
+            sketch.add("auction-" + (i % 50), 1);
+        }
+
+        // Assert
+        for (int i = 0; i < 50; i++) {
+            assertTrue(sketch.estimate("auction-" + i) >= 10);
+        }
+    }
+}
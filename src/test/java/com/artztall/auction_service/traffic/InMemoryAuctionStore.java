@@ -0,0 +1,113 @@
+package com.artztall.auction_service.traffic;
+
+import com.artztall.auction_service.model.Auction;
+import com.artztall.auction_service.model.AuctionListing;
+import com.artztall.auction_service.model.AuctionStatus;
+import com.artztall.auction_service.repository.AuctionRepository;
+import org.bson.types.ObjectId;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mongo stand-in for replays: an {@link AuctionRepository} over a map,
+ * covering the calls the replayed routes make. Documents are copied in and
+ * out, and saves check and bump {@code version} like the real optimistic
+ * lock, so concurrent bids conflict and retry as they would against Mongo.
+ * Anything else throws, so a route that starts using a new query fails the
+ * replay rather than silently returning nothing.
+ */
+class InMemoryAuctionStore {
+    private final Map<String, Auction> documents = new ConcurrentHashMap<>();
+    private final AuctionRepository repository;
+
+    InMemoryAuctionStore() {
+        this.repository = (AuctionRepository) Proxy.newProxyInstance(
+                AuctionRepository.class.getClassLoader(),
+                new Class<?>[]{AuctionRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "save" -> save((Auction) args[0]);
+                    case "findById" -> findById((String) args[0]);
+                    case "findSummariesByIdIn" -> findByIds((Collection<?>) args[0]);
+                    case "findActiveAuctions" -> findActive((LocalDateTime) args[0]);
+                    case "findActiveListings" -> findActive((LocalDateTime) args[0]).stream().map(AuctionListing::of).toList();
+                    case "insertAll" -> insertAll((List<?>) args[0]);
+                    case "initializeVersion" -> null;
+                    case "count" -> (long) documents.size();
+                    case "toString" -> "InMemoryAuctionStore";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException(
+                            "AuctionRepository." + method.getName() + " is not supported by the replay store");
+                });
+    }
+
+    AuctionRepository repository() {
+        return repository;
+    }
+
+    void seed(Auction auction) {
+        Auction stored = auction.copy();
+        if (stored.getVersion() == null) {
+            stored.setVersion(0L);
+        }
+        documents.put(stored.getId(), stored);
+    }
+
+    private Auction save(Auction auction) {
+        if (auction.getId() == null) {
+            auction.setId(new ObjectId().toHexString());
+        }
+        Long expected = auction.getVersion();
+        documents.compute(auction.getId(), (id, existing) -> {
+            if (existing == null ? expected != null : !Objects.equals(existing.getVersion(), expected)) {
+                throw new OptimisticLockingFailureException("Version " + expected + " of auction " + id + " is stale");
+            }
+            Auction stored = auction.copy();
+            stored.setVersion(expected == null ? 0L : expected + 1);
+            return stored;
+        });
+        auction.setVersion(expected == null ? 0L : expected + 1);
+        return auction;
+    }
+
+    private Optional<Auction> findById(String id) {
+        return Optional.ofNullable(documents.get(id)).map(Auction::copy);
+    }
+
+    private List<Auction> findByIds(Collection<?> ids) {
+        return ids.stream()
+                .map(documents::get)
+                .filter(Objects::nonNull)
+                .map(Auction::copy)
+                .toList();
+    }
+
+    private List<Auction> findActive(LocalDateTime now) {
+        return documents.values().stream()
+                .filter(auction -> auction.getAuctionStatus() == AuctionStatus.ACTIVE
+                        && !auction.getStartTime().isAfter(now)
+                        && !auction.getEndTime().isBefore(now))
+                .map(Auction::copy)
+                .toList();
+    }
+
+    private Map<Integer, String> insertAll(List<?> auctions) {
+        Map<Integer, String> failures = new HashMap<>();
+        for (int i = 0; i < auctions.size(); i++) {
+            Auction auction = ((Auction) auctions.get(i)).copy();
+            if (documents.putIfAbsent(auction.getId(), auction) != null) {
+                failures.put(i, "E11000 duplicate key");
+            }
+        }
+        return failures;
+    }
+}
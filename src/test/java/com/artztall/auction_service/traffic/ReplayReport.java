@@ -0,0 +1,92 @@
+package com.artztall.auction_service.traffic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-route latency and correctness of a replay against its recording.
+ * Latencies are compared as percentiles; recorded ones include the HTTP and
+ * Mongo round trips a replay does not make, so they are a reference rather
+ * than a baseline.
+ */
+class ReplayReport {
+    private static final int MAX_MISMATCHES = 50;
+
+    private final Map<TrafficRecord.Route, RouteStats> routes = new EnumMap<>(TrafficRecord.Route.class);
+    private final List<String> mismatches = new ArrayList<>();
+    private int mismatchCount;
+    private long wallMillis;
+
+    synchronized void record(TrafficRecord record, long replayedMicros, String mismatch) {
+        RouteStats stats = routes.computeIfAbsent(record.route(), route -> new RouteStats());
+        stats.replayed.add(replayedMicros);
+        if (record.latencyMicros() != null) {
+            stats.recorded.add(record.latencyMicros());
+        }
+        if (mismatch != null) {
+            stats.mismatches++;
+            mismatchCount++;
+            if (mismatches.size() < MAX_MISMATCHES) {
+                mismatches.add(record.route() + " at " + record.atMillis() + ": " + mismatch);
+            }
+        }
+    }
+
+    synchronized void skipped(TrafficRecord record) {
+        routes.computeIfAbsent(record.route(), route -> new RouteStats()).skipped++;
+    }
+
+    void finished(long wallMillis) {
+        this.wallMillis = wallMillis;
+    }
+
+    synchronized int requests() {
+        return routes.values().stream().mapToInt(stats -> stats.replayed.size()).sum();
+    }
+
+    synchronized int mismatchCount() {
+        return mismatchCount;
+    }
+
+    synchronized List<String> mismatches() {
+        return List.copyOf(mismatches);
+    }
+
+    synchronized long replayedPercentile(TrafficRecord.Route route, double percentile) {
+        RouteStats stats = routes.get(route);
+        return stats == null ? 0 : percentile(stats.replayed, percentile);
+    }
+
+    @Override
+    public synchronized String toString() {
+        StringBuilder out = new StringBuilder(String.format(
+                "Replayed %d requests in %d ms, %d mismatches%n", requests(), wallMillis, mismatchCount));
+        out.append(String.format("%-12s %7s %7s %8s %14s %14s%n",
+                "route", "count", "skipped", "mismatch", "p50 rec/rep", "p99 rec/rep"));
+        routes.forEach((route, stats) -> out.append(String.format("%-12s %7d %7d %8d %6d/%-7d %6d/%-7d%n",
+                route, stats.replayed.size(), stats.skipped, stats.mismatches,
+                percentile(stats.recorded, 0.5), percentile(stats.replayed, 0.5),
+                percentile(stats.recorded, 0.99), percentile(stats.replayed, 0.99))));
+        mismatches.forEach(mismatch -> out.append("  ").append(mismatch).append(System.lineSeparator()));
+        return out.toString();
+    }
+
+    private static long percentile(List<Long> values, double percentile) {
+        if (values.isEmpty()) {
+            return 0;
+        }
+        long[] sorted = values.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    private static class RouteStats {
+        final List<Long> recorded = new ArrayList<>();
+        final List<Long> replayed = new ArrayList<>();
+        int skipped;
+        int mismatches;
+    }
+}
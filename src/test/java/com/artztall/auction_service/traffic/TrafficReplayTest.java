@@ -0,0 +1,150 @@
+package com.artztall.auction_service.traffic;
+
+import com.artztall.auction_service.model.Auction;
+import com.artztall.auction_service.model.AuctionStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Replays recordings through {@link TrafficReplayer}. A synthetic recording
+ * is replayed on every build; a real one captured with the traffic recorder
+ * can be replayed with {@code -Dreplay.recording=<file>} and optionally
+ * {@code -Dreplay.speed=<N>}, which prints the report.
+ */
+public class TrafficReplayTest {
+    private static final double SPEED = 50;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final List<TrafficRecord> records = new ArrayList<>();
+    private long origin;
+
+    @BeforeEach
+    void setUp() {
+        origin = System.currentTimeMillis();
+    }
+
+    private LocalDateTime at(long offsetMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(origin + offsetMillis), ZoneId.systemDefault());
+    }
+
+    private void seed(String id, double price, long endsAfterMillis) {
+        Auction auction = new Auction();
+        auction.setId(id);
+        auction.setVersion(3L);
+        auction.setTitle("lot");
+        auction.setArtistId("a-1");
+        auction.setStartingPrice(price);
+        auction.setCurrentPrice(price);
+        auction.setStartTime(at(-3_600_000));
+        auction.setEndTime(at(endsAfterMillis));
+        auction.setAuctionStatus(AuctionStatus.ACTIVE);
+        records.add(TrafficRecord.seed(origin, objectMapper.valueToTree(auction)));
+    }
+
+    private void request(long offsetMillis, TrafficRecord.Route route, String auctionId, String query, JsonNode body,
+                         int status, String outcome, Double price, String resultId) {
+        records.add(new TrafficRecord(TrafficRecord.Kind.REQUEST, origin + offsetMillis, route, auctionId, query, body,
+                status, 2_000L, outcome, price, resultId));
+    }
+
+    private void bid(long offsetMillis, String auctionId, String userId, double amount, String outcome) {
+        ObjectNode body = objectMapper.createObjectNode()
+                .put("auctionId", auctionId)
+                .put("userId", userId)
+                .put("amount", amount);
+        boolean accepted = "ACCEPTED".equals(outcome);
+        request(offsetMillis, TrafficRecord.Route.BID, null, null, body, accepted ? 200 : 422, outcome,
+                accepted ? amount : null, null);
+    }
+
+    private ReplayReport replayThroughFile(Path dir) throws IOException, InterruptedException {
+        Path recording = dir.resolve("traffic.ndjson");
+        List<String> lines = new ArrayList<>();
+        for (TrafficRecord record : records) {
+            lines.add(objectMapper.writeValueAsString(record));
+        }
+        Files.write(recording, lines);
+        return new TrafficReplayer(objectMapper, SPEED, 4).replay(TrafficReplayer.read(recording, objectMapper));
+    }
+
+    @Test
+    @DisplayName("Should reproduce recorded outcomes at accelerated speed")
+    void testReplayMatchesRecording(@TempDir Path dir) throws IOException, InterruptedException {
+        seed("a", 100, 3_600_000);
+        seed("b", 50, 4_000);
+        ObjectNode create = objectMapper.createObjectNode()
+                .put("title", "lot")
+                .put("artistId", "a-2")
+                .put("startingPrice", 20.0)
+                .put("startTime", at(0).toString())
+                .put("endTime", at(7_200_000).toString());
+
+        bid(500, "a", "u-1", 110, "ACCEPTED");
+        request(1_000, TrafficRecord.Route.CREATE, null, null, create, 201, null, null, "recorded-id");
+        bid(1_500, "a", "u-2", 105, "OUTBID");
+        bid(2_000, "recorded-id", "u-2", 25, "ACCEPTED");
+        bid(2_500, "b", "u-3", 60, "ACCEPTED");
+        request(3_000, TrafficRecord.Route.GET, "recorded-id", null, null, 200, null, null, null);
+        request(3_500, TrafficRecord.Route.BATCH, null, "ids=a,recorded-id", null, 200, null, null, null);
+        request(4_000, TrafficRecord.Route.ENDING_SOON, null, "withinMinutes=30&limit=10", null, 200, null, null, null);
+        request(4_500, TrafficRecord.Route.BY_PRICE, null, "minPrice=0&maxPrice=500&sort=BIDS", null, 200, null, null, null);
+        // Auction b ended at 4s of recorded time.
+        bid(6_000, "b", "u-1", 80, "CLOSED");
+        bid(6_500, "a", "u-3", 150, "ACCEPTED");
+        request(7_000, TrafficRecord.Route.BID_HISTORY, "a", null, null, 200, null, null, null);
+        request(7_500, TrafficRecord.Route.GET, "missing", null, null, 400, null, null, null);
+
+        ReplayReport report = replayThroughFile(dir);
+
+        assertEquals(13, report.requests(), report::toString);
+        assertEquals(0, report.mismatchCount(), report::toString);
+    }
+
+    @Test
+    @DisplayName("Should report outcomes that differ from the recording")
+    void testReportsMismatches(@TempDir Path dir) throws IOException, InterruptedException {
+        seed("a", 100, 3_600_000);
+        bid(100, "a", "u-1", 110, "ACCEPTED");
+        // Recorded as accepted, but 105 is below the price the first bid set.
+        bid(200, "a", "u-2", 105, "ACCEPTED");
+
+        ReplayReport report = replayThroughFile(dir);
+
+        assertEquals(1, report.mismatchCount(), report::toString);
+        assertTrue(report.mismatches().get(0).contains("status 200 replayed as 422"), report::toString);
+    }
+
+    @Test
+    @DisplayName("Should replay a recording named by -Dreplay.recording")
+    void testReplayRecordingFile() throws IOException, InterruptedException {
+        String recording = System.getProperty("replay.recording");
+        assumeTrue(recording != null, "Set -Dreplay.recording to replay a captured recording");
+        double speed = Double.parseDouble(System.getProperty("replay.speed", "10"));
+
+        List<TrafficRecord> captured = TrafficReplayer.read(Paths.get(recording), objectMapper);
+        ReplayReport report = new TrafficReplayer(objectMapper, speed, Runtime.getRuntime().availableProcessors())
+                .replay(captured);
+
+        System.out.println(report);
+        assertTrue(report.requests() > 0, "Recording has no replayable requests");
+    }
+}
@@ -0,0 +1,270 @@
+package com.artztall.auction_service.traffic;
+
+import com.artztall.auction_service.cache.ActiveAuctionIndex;
+import com.artztall.auction_service.cache.AuctionCache;
+import com.artztall.auction_service.cache.AuctionChangeSubscriber;
+import com.artztall.auction_service.cache.LiveAuctionStore;
+import com.artztall.auction_service.dto.AuctionCreateDTO;
+import com.artztall.auction_service.dto.BidDTO;
+import com.artztall.auction_service.dto.BidResult;
+import com.artztall.auction_service.exception.AuctionBaseException;
+import com.artztall.auction_service.journal.BidJournal;
+import com.artztall.auction_service.model.Auction;
+import com.artztall.auction_service.model.AuctionSort;
+import com.artztall.auction_service.repository.AuctionArchiveRepository;
+import com.artztall.auction_service.service.AuctionServiceImpl;
+import com.artztall.auction_service.shedular.AuctionCloseExecutor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Replays a traffic recording against a real {@link AuctionServiceImpl}
+ * wired with the real cache, hot auction tracker, admission control and
+ * active index, over an {@link InMemoryAuctionStore} instead of Mongo.
+ * Requests are issued at their recorded offsets divided by {@code speed},
+ * and the service sees a {@link VirtualClock} running at the same rate, so
+ * bidding windows open and close as they did when recorded.
+ * <p>
+ * Requests are dispatched on one lane per auction, so requests on the same
+ * auction replay in recorded order and their outcomes can be compared.
+ * Auctions created during the recording get new IDs; later requests are
+ * rewritten to use them. Admission control rate limits run on real time,
+ * so requests throttled in either run are counted as skipped, not compared.
+ */
+class TrafficReplayer {
+    private static final double PRICE_TOLERANCE = 0.005;
+
+    private final ObjectMapper objectMapper;
+    private final double speed;
+    private final int lanes;
+    private final Map<String, String> createdIds = new ConcurrentHashMap<>();
+
+    TrafficReplayer(ObjectMapper objectMapper, double speed, int lanes) {
+        this.objectMapper = objectMapper.copy().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.speed = speed;
+        this.lanes = lanes;
+    }
+
+    static List<TrafficRecord> read(Path recording, ObjectMapper objectMapper) throws IOException {
+        List<TrafficRecord> records = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(recording, StandardCharsets.UTF_8)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (!line.isBlank()) {
+                    records.add(objectMapper.readValue(line, TrafficRecord.class));
+                }
+            }
+        }
+        return records;
+    }
+
+    ReplayReport replay(List<TrafficRecord> records) throws InterruptedException {
+        if (records.isEmpty()) {
+            return new ReplayReport();
+        }
+        long origin = records.get(0).atMillis();
+        VirtualClock clock = new VirtualClock(Instant.ofEpochMilli(origin), speed, ZoneId.systemDefault());
+        InMemoryAuctionStore store = new InMemoryAuctionStore();
+        // Generous limits: the recording already reflects production throttling.
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        LiveAuctionStore liveStore = new LiveAuctionStore(meterRegistry, true, 100_000);
+        BidAdmissionControl admission = new BidAdmissionControl(meterRegistry, liveStore, 1_000, 1_000, 100_000, 100_000);
+        ActiveAuctionIndex index = new ActiveAuctionIndex(store.repository(), clock);
+        StaticListableBeanFactory subscribers = new StaticListableBeanFactory();
+        subscribers.addBean("liveAuctionStore", liveStore);
+        subscribers.addBean("bidAdmissionControl", admission);
+        subscribers.addBean("activeAuctionIndex", index);
+        AuctionCache auctionCache = new AuctionCache(subscribers.getBeanProvider(AuctionChangeSubscriber.class), liveStore, clock, 100_000);
+        AuctionServiceImpl service = service(store, auctionCache, clock, admission, index);
+
+        for (TrafficRecord record : records) {
+            if (record.kind() == TrafficRecord.Kind.SEED) {
+                Auction auction = objectMapper.convertValue(record.body(), Auction.class);
+                store.seed(auction);
+                auctionCache.put(store.repository().findById(auction.getId()).orElseThrow());
+            }
+        }
+        auctionCache.markCoherent();
+
+        ReplayReport report = new ReplayReport();
+        ExecutorService[] lane = new ExecutorService[lanes];
+        for (int i = 0; i < lanes; i++) {
+            lane[i] = Executors.newSingleThreadExecutor();
+        }
+        clock.restart();
+        long started = System.nanoTime();
+        try {
+            for (TrafficRecord record : records) {
+                if (record.kind() != TrafficRecord.Kind.REQUEST) {
+                    continue;
+                }
+                long wait = clock.realNanosUntil(record.atMillis());
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                lane[Math.floorMod(laneKey(record).hashCode(), lanes)]
+                        .execute(() -> replay(service, record, report));
+            }
+        } finally {
+            for (ExecutorService executor : lane) {
+                executor.shutdown();
+            }
+            for (ExecutorService executor : lane) {
+                executor.awaitTermination(1, TimeUnit.MINUTES);
+            }
+        }
+        report.finished(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        return report;
+    }
+
+    private AuctionServiceImpl service(InMemoryAuctionStore store, AuctionCache auctionCache, VirtualClock clock,
+                                       BidAdmissionControl admission, ActiveAuctionIndex index) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        HotAuctionTracker tracker = new HotAuctionTracker(auctionCache, meterRegistry, clock, 32, 6, 60, 20, 2048, 4);
+        return new AuctionServiceImpl(store.repository(), mock(AuctionArchiveRepository.class), auctionCache, tracker,
+                admission, mock(AuctionCloseExecutor.class), index, clock, ObservationRegistry.NOOP,
+                new StaticListableBeanFactory().getBeanProvider(BidJournal.class));
+    }
+
+    private String laneKey(TrafficRecord record) {
+        return switch (record.route()) {
+            case CREATE -> String.valueOf(record.resultId());
+            case BID -> record.body() != null ? record.body().path("auctionId").asText() : "";
+            case GET, BID_HISTORY -> record.auctionId();
+            default -> record.route().name();
+        };
+    }
+
+    private void replay(AuctionServiceImpl service, TrafficRecord record, ReplayReport report) {
+        long started = System.nanoTime();
+        Replayed replayed;
+        try {
+            replayed = dispatch(service, record);
+        } catch (AuctionBaseException e) {
+            replayed = new Replayed(e.getStatus().value(), null, null);
+        } catch (RuntimeException e) {
+            replayed = new Replayed(500, null, null);
+        }
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - started);
+        if (replayed.status() == 429 || Integer.valueOf(429).equals(record.status())) {
+            report.skipped(record);
+        } else {
+            report.record(record, micros, compare(record, replayed));
+        }
+    }
+
+    private Replayed dispatch(AuctionServiceImpl service, TrafficRecord record) {
+        MultiValueMap<String, String> query = query(record.query());
+        return switch (record.route()) {
+            case CREATE -> {
+                Auction created = service.createAuction(objectMapper.convertValue(record.body(), AuctionCreateDTO.class));
+                if (record.resultId() != null) {
+                    createdIds.put(record.resultId(), created.getId());
+                }
+                yield new Replayed(201, null, null);
+            }
+            case BID -> {
+                ObjectNode body = record.body().deepCopy();
+                body.put("auctionId", replayedId(body.path("auctionId").asText()));
+                BidResult result = service.placeBid(objectMapper.convertValue(body, BidDTO.class));
+                yield result.isAccepted()
+                        ? new Replayed(200, "ACCEPTED", result.getAuction().getCurrentPrice())
+                        : new Replayed(422, result.getOutcome().name(), null);
+            }
+            case GET -> {
+                service.getAuctionById(replayedId(record.auctionId()));
+                yield new Replayed(200, null, null);
+            }
+            case BID_HISTORY -> {
+                service.getBidHistoryByAuctionId(replayedId(record.auctionId()));
+                yield new Replayed(200, null, null);
+            }
+            case BATCH -> {
+                List<String> ids = query.getOrDefault("ids", List.of()).stream()
+                        .flatMap(value -> Arrays.stream(StringUtils.commaDelimitedListToStringArray(value)))
+                        .map(this::replayedId)
+                        .toList();
+                service.getAuctionSummaries(ids);
+                yield new Replayed(200, null, null);
+            }
+            case ACTIVE -> {
+                service.getActiveAuctions();
+                yield new Replayed(200, null, null);
+            }
+            case ENDING_SOON -> {
+                service.getAuctionsEndingWithin(
+                        Long.parseLong(query.getFirst("withinMinutes") != null ? query.getFirst("withinMinutes") : "60"),
+                        Integer.parseInt(query.getFirst("limit") != null ? query.getFirst("limit") : "50"));
+                yield new Replayed(200, null, null);
+            }
+            case BY_PRICE -> {
+                String max = query.getFirst("maxPrice");
+                service.getAuctionsByPriceRange(
+                        Double.parseDouble(query.getFirst("minPrice") != null ? query.getFirst("minPrice") : "0"),
+                        max != null ? Double.parseDouble(max) : Double.MAX_VALUE,
+                        AuctionSort.valueOf(query.getFirst("sort") != null ? query.getFirst("sort") : "PRICE"),
+                        Integer.parseInt(query.getFirst("limit") != null ? query.getFirst("limit") : "50"));
+                yield new Replayed(200, null, null);
+            }
+        };
+    }
+
+    private static String compare(TrafficRecord record, Replayed replayed) {
+        if (record.status() != null && record.status() != replayed.status()) {
+            return "status " + record.status() + " replayed as " + replayed.status();
+        }
+        if (record.outcome() != null && !record.outcome().equals(replayed.outcome())) {
+            return "outcome " + record.outcome() + " replayed as " + replayed.outcome();
+        }
+        if (record.price() != null && (replayed.price() == null
+                || Math.abs(record.price() - replayed.price()) > PRICE_TOLERANCE)) {
+            return "price " + record.price() + " replayed as " + replayed.price();
+        }
+        return null;
+    }
+
+    private String replayedId(String recordedId) {
+        return createdIds.getOrDefault(recordedId, recordedId);
+    }
+
+    private static MultiValueMap<String, String> query(String query) {
+        if (query == null) {
+            return new LinkedMultiValueMap<>();
+        }
+        MultiValueMap<String, String> decoded = new LinkedMultiValueMap<>();
+        UriComponentsBuilder.newInstance().query(query).build().getQueryParams()
+                .forEach((name, values) -> values.forEach(value ->
+                        decoded.add(name, value == null ? "" : URLDecoder.decode(value, StandardCharsets.UTF_8))));
+        return decoded;
+    }
+
+    private record Replayed(int status, String outcome, Double price) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.artztall.auction_service.traffic;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+
+/**
+ * Clock that starts at a recorded instant and runs {@code speed} times
+ * faster than real time, so time-dependent checks in a replay see the
+ * times the recording saw.
+ */
+class VirtualClock extends Clock {
+    private final Instant origin;
+    private final double speed;
+    private final ZoneId zone;
+    private volatile long startedNanos;
+
+    VirtualClock(Instant origin, double speed, ZoneId zone) {
+        this(origin, speed, zone, System.nanoTime());
+    }
+
+    private VirtualClock(Instant origin, double speed, ZoneId zone, long startedNanos) {
+        this.origin = origin;
+        this.speed = speed;
+        this.zone = zone;
+        this.startedNanos = startedNanos;
+    }
+
+    /**
+     * Sets the clock back to the recorded origin, so time spent setting up
+     * the replay does not count against the recording.
+     */
+    void restart() {
+        startedNanos = System.nanoTime();
+    }
+
+    /**
+     * Real nanoseconds from the start of the replay until the clock reaches
+     * {@code virtualMillis}; negative once it has passed.
+     */
+    long realNanosUntil(long virtualMillis) {
+        long virtualNanos = (virtualMillis - origin.toEpochMilli()) * 1_000_000;
+        return (long) (virtualNanos / speed) - (System.nanoTime() - startedNanos);
+    }
+
+    @Override
+    public Instant instant() {
+        long elapsedNanos = (long) ((System.nanoTime() - startedNanos) * speed);
+        return origin.plusNanos(elapsedNanos);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return new VirtualClock(origin, speed, zone, startedNanos);
+    }
+}